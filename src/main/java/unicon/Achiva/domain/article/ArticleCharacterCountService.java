@@ -0,0 +1,108 @@
+package unicon.Achiva.domain.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.article.infrastructure.MemberDailyCharCountRepository;
+import unicon.Achiva.domain.category.Category;
+import unicon.Achiva.global.common.DayRange;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 기간별 글자 수 통계
+ * <p>
+ * 게시글 작성/수정/삭제 시 member_daily_char_count 의 (회원, 일자, 카테고리) 행에 article.char_count 증감분을 반영하고,
+ * 조회 시에는 하루 전체가 포함되는 일자는 집계 행으로, 하루 미만으로 걸치는 시작/종료 경계만 article 에서 계산합니다.
+ * 따라서 조회 비용은 기간의 일 수에 비례하고 본문 길이와는 무관합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArticleCharacterCountService {
+
+    private final MemberDailyCharCountRepository memberDailyCharCountRepository;
+    private final ArticleRepository articleRepository;
+
+    /**
+     * 게시글의 현재 글자 수를 집계에 더합니다. (작성, 수정 후, 책 대표 해제 후)
+     */
+    @Transactional
+    public void record(Article article) {
+        apply(article, 1);
+    }
+
+    /**
+     * 게시글의 현재 글자 수를 집계에서 뺍니다. (삭제 전, 수정 전, 책 대표 지정 전)
+     */
+    @Transactional
+    public void unrecord(Article article) {
+        apply(article, -1);
+    }
+
+    private void apply(Article article, int sign) {
+        // 책 대표 아티클은 통계에서 제외됩니다.
+        if (article.isBookMain() || article.getCategory() == null || article.getCreatedAt() == null || article.getCharCount() == 0) {
+            return;
+        }
+        memberDailyCharCountRepository.addCharCount(
+                article.getMember().getId().toString(),
+                article.getCreatedAt().toLocalDate(),
+                article.getCategory().name(),
+                (long) sign * article.getCharCount()
+        );
+    }
+
+    /**
+     * @param startDate 시작 일시 (포함, null이면 제한 없음)
+     * @param endDate   종료 일시 (포함, null이면 제한 없음)
+     */
+    public long getTotalCharacterCount(UUID memberId, LocalDateTime startDate, LocalDateTime endDate) {
+        DayRange range = DayRange.of(startDate, endDate);
+        if (range.isBoundaryOnly()) {
+            return articleRepository.sumCharCountByCreatedAtRange(memberId, startDate, null, endDate);
+        }
+
+        long total = memberDailyCharCountRepository.sumCharCount(memberId, range.fromDate(), range.toDate());
+        if (range.hasPartialHead()) {
+            total += articleRepository.sumCharCountByCreatedAtRange(memberId, startDate, range.fromDate().atStartOfDay(), null);
+        }
+        if (range.hasPartialTail()) {
+            total += articleRepository.sumCharCountByCreatedAtRange(memberId, range.toDate().atStartOfDay(), null, endDate);
+        }
+        return total;
+    }
+
+    /**
+     * 카테고리별 글자 수. 파라미터 의미는 {@link #getTotalCharacterCount} 와 같습니다.
+     */
+    public Map<Category, Long> getCharacterCountByCategory(UUID memberId, LocalDateTime startDate, LocalDateTime endDate) {
+        Map<Category, Long> result = new EnumMap<>(Category.class);
+        DayRange range = DayRange.of(startDate, endDate);
+        if (range.isBoundaryOnly()) {
+            merge(result, articleRepository.sumCharCountByCategoryAndCreatedAtRange(memberId, startDate, null, endDate));
+            return result;
+        }
+
+        merge(result, memberDailyCharCountRepository.sumCharCountByCategory(memberId, range.fromDate(), range.toDate()));
+        if (range.hasPartialHead()) {
+            merge(result, articleRepository.sumCharCountByCategoryAndCreatedAtRange(memberId, startDate, range.fromDate().atStartOfDay(), null));
+        }
+        if (range.hasPartialTail()) {
+            merge(result, articleRepository.sumCharCountByCategoryAndCreatedAtRange(memberId, range.toDate().atStartOfDay(), null, endDate));
+        }
+        return result;
+    }
+
+    private static void merge(Map<Category, Long> target, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            target.merge((Category) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+    }
+}
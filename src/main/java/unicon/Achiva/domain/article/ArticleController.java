@@ -15,6 +15,7 @@ import unicon.Achiva.domain.article.dto.ArticleRequest;
 import unicon.Achiva.domain.article.dto.ArticleCountResponse;
 import unicon.Achiva.domain.article.dto.ArticleResponse;
 import unicon.Achiva.domain.article.dto.ArticleWithBookResponse;
+import unicon.Achiva.domain.article.dto.CursorPageResponse;
 import unicon.Achiva.domain.article.dto.SearchArticleCondition;
 import unicon.Achiva.domain.article.dto.TotalCharacterCountResponse;
 import unicon.Achiva.domain.auth.AuthService;
@@ -32,6 +33,7 @@ import java.util.UUID;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleSearchService articleSearchService;
     private final AuthService authService;
     private final S3Service s3Service;
 
@@ -77,6 +79,27 @@ public class ArticleController {
         return ResponseEntity.ok(ApiResponseForm.success(response, "게시글 검색 성공"));
     }
 
+    @Operation(
+            summary = "게시글 키워드 검색 (커서 기반)",
+            description = "게시글 제목과 질문 제목/내용에서 키워드(2자 이상)를 검색해 최신순으로 반환합니다. " +
+                    "로그인한 사용자의 organization 범위 안에서만 검색하며, 이후 페이지는 응답의 nextCursor 를 그대로 전달하세요."
+    )
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ApiResponseForm<CursorPageResponse<ArticleWithBookResponse>>> searchArticlesByCursor(
+            @Parameter(description = "검색어 (2자 이상)")
+            @RequestParam String keyword,
+            @Parameter(description = "카테고리 (생략 시 전체)")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        UUID memberId = authService.getMemberIdFromToken();
+        CursorPageResponse<ArticleWithBookResponse> response = articleSearchService.search(memberId, keyword, category, cursor, size);
+        return ResponseEntity.ok(ApiResponseForm.success(response, "게시글 검색 성공"));
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "다른 organization의 게시글은 조회할 수 없습니다.")
     @GetMapping("/api/articles/{articleId}")
     public ResponseEntity<ApiResponseForm<ArticleResponse>> getArticle(
@@ -154,6 +177,24 @@ public class ArticleController {
         return ResponseEntity.ok(page);
     }
 
+    @Operation(
+            summary = "홈화면 게시글 목록 커서 기반 조회",
+            description = "친구 게시글을 최신순으로 먼저, 이어서 응원 관계 게시글을 최신순으로 조회합니다. " +
+                    "첫 페이지는 cursor 없이 호출하고, 이후에는 응답의 nextCursor 를 그대로 전달하세요. " +
+                    "전체 개수(count)는 제공하지 않습니다."
+    )
+    @GetMapping("/api/articles/home/cursor")
+    public ResponseEntity<ApiResponseForm<CursorPageResponse<ArticleWithBookResponse>>> getCombinedFeedByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        UUID memberId = authService.getMemberIdFromToken();
+        CursorPageResponse<ArticleWithBookResponse> response = articleService.getHomeArticlesByCursor(memberId, cursor, size);
+        return ResponseEntity.ok(ApiResponseForm.success(response, "홈화면 게시글 목록 조회 성공"));
+    }
+
     @Operation(summary = "전체 게시글 최신순 목록 조회", description = "전체 서비스가 아니라 로그인한 사용자의 organization 전체 게시글을 조회합니다.")
     @GetMapping("/api/articles/feed")
     public ResponseEntity<ApiResponseForm<Page<ArticleWithBookResponse>>> getAllArticlesFeed(
@@ -6,6 +6,8 @@ import unicon.Achiva.global.response.ErrorCode;
 public enum ArticleErrorCode implements ErrorCode {
     ARTICLE_NOT_FOUND(2000, "해당 게시글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     UNAUTHORIZED_MEMBER(2001, "해당 게시글에 대한 수정/삭제 권한이 없습니다.", HttpStatus.FORBIDDEN),
+    INVALID_CURSOR(2002, "유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_SEARCH_KEYWORD(2003, "검색어는 2자 이상 입력해야 합니다.", HttpStatus.BAD_REQUEST),
     ;
 
     private final Integer code;
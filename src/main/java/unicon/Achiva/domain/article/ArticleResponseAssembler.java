@@ -0,0 +1,114 @@
+package unicon.Achiva.domain.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.dto.ArticleResponse;
+import unicon.Achiva.domain.article.dto.ArticleWithBookResponse;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.entity.Question;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.article.infrastructure.QuestionRepository;
+import unicon.Achiva.domain.book.entity.BookArticle;
+import unicon.Achiva.domain.book.infrastructure.BookArticleRepository;
+import unicon.Achiva.domain.scripture.entity.ArticleScriptureReading;
+import unicon.Achiva.domain.scripture.infrastructure.ArticleScriptureReadingRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록(페이지)을 ArticleWithBookResponse 목록으로 변환합니다.
+ * 페이지의 게시글 ID 를 모아 책 정보, 질문, 사진, 성경 일독 정보, 작성자별 게시글 수를 각각 IN 쿼리 한 번으로 조회하므로
+ * 페이지 크기와 관계없이 실행되는 쿼리 수가 일정합니다.
+ * 회원-카테고리 안 순번(authorCategorySeq)도 응답에 담을 게시글에 대해서만 한 번에 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArticleResponseAssembler {
+
+    private final ArticleRepository articleRepository;
+    private final QuestionRepository questionRepository;
+    private final BookArticleRepository bookArticleRepository;
+    private final ArticleScriptureReadingRepository articleScriptureReadingRepository;
+
+    public List<ArticleWithBookResponse> toArticleWithBookResponses(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> articleIds = articles.stream()
+                .map(Article::getId)
+                .distinct()
+                .toList();
+        List<UUID> memberIds = articles.stream()
+                .map(article -> article.getMember().getId())
+                .distinct()
+                .toList();
+
+        Map<UUID, List<BookArticle>> bookArticlesByArticleId = bookArticleRepository.findBookInfosByArticleIds(articleIds)
+                .stream()
+                .collect(Collectors.groupingBy(bookArticle -> bookArticle.getArticle().getId()));
+
+        Map<UUID, List<Question>> questionsByArticleId = questionRepository.findAllByArticleIdIn(articleIds)
+                .stream()
+                .collect(Collectors.groupingBy(question -> question.getArticle().getId()));
+
+        Map<UUID, List<String>> photoUrlsByArticleId = new HashMap<>();
+        for (Object[] row : articleRepository.findPhotoUrlsByArticleIds(articleIds)) {
+            photoUrlsByArticleId.computeIfAbsent((UUID) row[0], ignored -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        Map<UUID, ArticleScriptureReading> scriptureReadingByArticleId = articleScriptureReadingRepository.findAllById(articleIds)
+                .stream()
+                .collect(Collectors.toMap(ArticleScriptureReading::getArticleId, Function.identity()));
+
+        assignAuthorCategoryRanks(articles);
+
+        Map<UUID, Long> memberArticleCountMap = articleRepository.countArticlesByMemberIds(memberIds).stream()
+                .collect(Collectors.toMap(
+                        row -> (UUID) row[0],
+                        row -> (Long) row[1]
+                ));
+
+        return articles.stream()
+                .map(article -> ArticleWithBookResponse.of(
+                        article,
+                        photoUrlsByArticleId.getOrDefault(article.getId(), List.of()),
+                        questionsByArticleId.getOrDefault(article.getId(), List.of()),
+                        scriptureReadingByArticleId.get(article.getId()),
+                        bookArticlesByArticleId.getOrDefault(article.getId(), List.of()),
+                        memberArticleCountMap.getOrDefault(article.getMember().getId(), 0L)
+                ))
+                .toList();
+    }
+
+    public ArticleWithBookResponse toArticleWithBookResponse(Article article) {
+        return toArticleWithBookResponses(List.of(article)).getFirst();
+    }
+
+    public ArticleResponse toArticleResponse(Article article) {
+        assignAuthorCategoryRanks(List.of(article));
+        return ArticleResponse.fromEntity(article);
+    }
+
+    /**
+     * 회원-카테고리 안 순번이 아직 없는 게시글(작성/이동 직후가 아닌 게시글)에 IN 쿼리 한 번으로 채웁니다.
+     */
+    public void assignAuthorCategoryRanks(Collection<Article> articles) {
+        Map<UUID, Article> unranked = new HashMap<>();
+        for (Article article : articles) {
+            if (article.getAuthorCategoryRank() == null && article.getId() != null) {
+                unranked.put(article.getId(), article);
+            }
+        }
+        if (unranked.isEmpty()) {
+            return;
+        }
+        for (Object[] row : articleRepository.findAuthorCategoryRanksByArticleIds(unranked.keySet())) {
+            unranked.get((UUID) row[0]).assignAuthorCategoryRank(((Number) row[1]).longValue());
+        }
+    }
+}
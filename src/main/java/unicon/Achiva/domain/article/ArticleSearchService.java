@@ -0,0 +1,98 @@
+package unicon.Achiva.domain.article;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.dto.ArticleSearchCursor;
+import unicon.Achiva.domain.article.dto.ArticleWithBookResponse;
+import unicon.Achiva.domain.article.dto.CursorPageResponse;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.entity.ArticleSearchDocument;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.article.infrastructure.ArticleSearchDocumentRepository;
+import unicon.Achiva.domain.category.Category;
+import unicon.Achiva.domain.organization.OrganizationAccessService;
+import unicon.Achiva.global.response.GeneralException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 키워드 검색.
+ * 게시글 생성/수정/삭제 시 article_search_document 를 갱신하고, 검색은 FULLTEXT(ngram) 인덱스로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArticleSearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    // MySQL ngram_token_size 기본값(2)보다 짧은 검색어는 FULLTEXT 로 찾을 수 없습니다.
+    private static final int MIN_KEYWORD_LENGTH = 2;
+
+    private final ArticleSearchDocumentRepository articleSearchDocumentRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleResponseAssembler articleResponseAssembler;
+    private final OrganizationAccessService organizationAccessService;
+
+    @Transactional
+    public void index(Article article) {
+        articleSearchDocumentRepository.findById(article.getId())
+                .ifPresentOrElse(
+                        document -> document.refresh(article),
+                        () -> articleSearchDocumentRepository.save(ArticleSearchDocument.from(article))
+                );
+    }
+
+    @Transactional
+    public void remove(UUID articleId) {
+        articleSearchDocumentRepository.deleteById(articleId);
+    }
+
+    /**
+     * 키워드 검색 (최신순, 커서 기반)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPageResponse<ArticleWithBookResponse> search(UUID requesterId, String keyword, String category, String cursor, int size) {
+        String kw = keyword == null ? "" : keyword.trim();
+        if (kw.length() < MIN_KEYWORD_LENGTH) {
+            throw new GeneralException(ArticleErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ArticleSearchCursor decoded = ArticleSearchCursor.decode(cursor);
+        Long organizationId = organizationAccessService.getOrganizationId(requesterId);
+
+        List<UUID> ids = articleSearchDocumentRepository.searchArticleIds(
+                kw,
+                organizationId,
+                category == null || category.isBlank() ? null : Category.fromDisplayName(category),
+                decoded != null ? decoded.createdAt() : null,
+                decoded != null ? decoded.id() : null,
+                limit + 1
+        );
+
+        boolean hasNext = ids.size() > limit;
+        List<UUID> pageIds = hasNext ? ids.subList(0, limit) : ids;
+
+        Map<UUID, Article> articleMap = articleRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        List<Article> articles = pageIds.stream()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext && !articles.isEmpty()) {
+            Article last = articles.getLast();
+            nextCursor = new ArticleSearchCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorPageResponse<>(articleResponseAssembler.toArticleWithBookResponses(articles), nextCursor, hasNext);
+    }
+}
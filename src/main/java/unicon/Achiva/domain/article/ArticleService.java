@@ -2,6 +2,7 @@ package unicon.Achiva.domain.article;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -13,22 +14,25 @@ import unicon.Achiva.domain.article.dto.ArticleRequest;
 import unicon.Achiva.domain.article.dto.ArticleCountResponse;
 import unicon.Achiva.domain.article.dto.ArticleResponse;
 import unicon.Achiva.domain.article.dto.ArticleWithBookResponse;
+import unicon.Achiva.domain.article.dto.CursorPageResponse;
+import unicon.Achiva.domain.article.dto.HomeFeedCursor;
 import unicon.Achiva.domain.article.dto.SearchArticleCondition;
 import unicon.Achiva.domain.article.dto.TotalCharacterCountResponse;
 import unicon.Achiva.domain.article.entity.Article;
-import unicon.Achiva.domain.article.entity.ArticlePushHistory;
-import unicon.Achiva.domain.article.infrastructure.ArticlePushHistoryRepository;
 import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.article.infrastructure.HomeTimelineRepository;
 import unicon.Achiva.domain.book.entity.BookArticle;
 import unicon.Achiva.domain.book.infrastructure.BookArticleRepository;
 import unicon.Achiva.domain.category.Category;
 import unicon.Achiva.domain.category.CategoryCharacterCountResponse;
 import unicon.Achiva.domain.category.CategoryCountResponse;
+import unicon.Achiva.domain.category.CategoryLeaderboardService;
 import unicon.Achiva.domain.category.CategoryRankingResponse;
-import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
-import unicon.Achiva.domain.friendship.FriendshipStatus;
-import unicon.Achiva.domain.friendship.infrastructure.FriendshipRepository;
+import unicon.Achiva.domain.cheering.CheeringStatsService;
+import unicon.Achiva.domain.cheering.UnreadCheeringCounterService;
+import unicon.Achiva.domain.member.MemberActivityService;
 import unicon.Achiva.domain.member.MemberErrorCode;
+import unicon.Achiva.domain.member.dto.MemberStatsResponse;
 import unicon.Achiva.domain.member.entity.Member;
 import unicon.Achiva.domain.member.entity.MemberCategoryCounter;
 import unicon.Achiva.domain.member.entity.MemberCategoryKey;
@@ -38,8 +42,6 @@ import unicon.Achiva.domain.member.infrastructure.MemberRepository;
 import unicon.Achiva.domain.moim.entity.MoimScore;
 import unicon.Achiva.domain.moim.repository.MoimScoreRepository;
 import unicon.Achiva.domain.organization.OrganizationAccessService;
-import unicon.Achiva.domain.push.PushService;
-import unicon.Achiva.domain.push.dto.PushSendRequest;
 import unicon.Achiva.global.response.GeneralException;
 
 import java.time.DayOfWeek;
@@ -54,18 +56,26 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ArticleService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final CounterHelper counterHelper;
 
     private final ArticleRepository articleRepository;
     private final MemberRepository memberRepository;
-    private final FriendshipRepository friendshipRepository;
-    private final CheeringRepository cheeringRepository;
     private final MemberCategoryCounterRepository memberCategoryCounterRepository;
     private final BookArticleRepository bookArticleRepository;
-    private final PushService pushService;
-    private final ArticlePushHistoryRepository articlePushHistoryRepository;
     private final MoimScoreRepository moimScoreRepository;
     private final OrganizationAccessService organizationAccessService;
+    private final HomeTimelineService homeTimelineService;
+    private final HomeTimelineRepository homeTimelineRepository;
+    private final ArticleResponseAssembler articleResponseAssembler;
+    private final ArticleSearchService articleSearchService;
+    private final MemberActivityService memberActivityService;
+    private final ArticleCharacterCountService articleCharacterCountService;
+    private final CategoryLeaderboardService categoryLeaderboardService;
+    private final UnreadCheeringCounterService unreadCheeringCounterService;
+    private final CheeringStatsService cheeringStatsService;
+    private final FriendWorkoutPushService friendWorkoutPushService;
 
 
     @Transactional(readOnly = true)
@@ -79,11 +89,11 @@ public class ArticleService {
                 .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
         Category cat = request.category();
         LocalDateTime createdAt = LocalDateTime.now();
-        ArticleStatsSnapshot statsSnapshot = calculateNewArticleStats(memberId, createdAt);
+        memberActivityService.recordArticle(memberId, createdAt);
+        MemberStatsResponse statsSnapshot = memberActivityService.getStats(memberId, createdAt.toLocalDate());
 
         MemberCategoryCounter dst = counterHelper.lockOrInit(memberId, cat);
-        long newSeq = dst.getSize() + 1;
-        dst.setSize(newSeq);
+        long newSeq = dst.issueSeq();
 
         Article article = Article.builder()
                 .photoUrls(request.photoUrls() != null ? new ArrayList<>(request.photoUrls()) : new ArrayList<>())
@@ -94,15 +104,21 @@ public class ArticleService {
                 .collect(Collectors.toList()))
                 .member(member)
                 .authorCategorySeq(newSeq)
+                .authorCategoryRank(dst.getSize())
                 .backgroundColor(request.backgroundColor())
-                .weeklyWorkoutCount(statsSnapshot.weeklyWorkoutCount())
-                .continuousGoalWeeks(statsSnapshot.continuousGoalWeeks())
+                .weeklyWorkoutCount(statsSnapshot.getWeeklyWorkoutCount())
+                .continuousGoalWeeks(statsSnapshot.getContinuousGoalWeeks())
                 .build();
 
         article.getQuestions().forEach(q -> q.setArticle(article));
+        article.refreshCharCount();
 
         articleRepository.save(article);
+        articleCharacterCountService.record(article);
+        categoryLeaderboardService.record(article);
         increaseMoimScores(article);
+        homeTimelineService.fanOutArticle(article);
+        articleSearchService.index(article);
 
         return article;
     }
@@ -111,15 +127,15 @@ public class ArticleService {
     public ArticleWithBookResponse createArticle(ArticleRequest request, UUID memberId) {
         Article article = createArticleEntity(request, memberId);
 
-        // 게시글 생성 후 친구들에게 푸시 알림 전송
-        sendFriendWorkoutPushNotifications(article);
+        // 같은 트랜잭션에서 친구들에게 보낼 푸시 알림을 push_outbox 에 등록
+        friendWorkoutPushService.enqueueFriendWorkoutPushNotifications(article);
 
-        return toArticleWithBookResponse(article, getMemberArticleCountMap(List.of(memberId)));
+        return articleResponseAssembler.toArticleWithBookResponse(article);
     }
 
     @Transactional
     public void notifyArticleCreated(Article article) {
-        sendFriendWorkoutPushNotifications(article);
+        friendWorkoutPushService.enqueueFriendWorkoutPushNotifications(article);
     }
 
     @Transactional
@@ -132,13 +148,15 @@ public class ArticleService {
         }
 
         Category oldCat = article.getCategory();
-        long oldSeq = article.getAuthorCategorySeq();
         Category newCat = request.category();
+        articleCharacterCountService.unrecord(article);
 
         if (oldCat.equals(newCat)) {
-            // 카테고리 동일 → 내용만 갱신 (densify 불필요)
+            // 카테고리 동일 → 내용만 갱신
             article.update(request);
-            return ArticleResponse.fromEntity(article);
+            articleCharacterCountService.record(article);
+            articleSearchService.index(article);
+            return articleResponseAssembler.toArticleResponse(article);
         }
 
         // 1) 두 그룹 락을 항상 같은 순서로 획득 (교착 방지)
@@ -152,20 +170,22 @@ public class ArticleService {
         MemberCategoryCounter src = oldCat.equals(first.getId().getCategory()) ? first : second;
         MemberCategoryCounter dst = newCat.equals(first.getId().getCategory()) ? first : second;
 
-        // 2) 출발 그룹 densify (oldSeq 뒤 모두 -1), src.size--
-        articleRepository.shiftLeft(memberId, oldCat, oldSeq);
-        src.setSize(src.getSize() - 1);
+        // 2) 출발 그룹 size-- (뒤 번호는 당기지 않음, 순위는 조회 시 계산)
+        src.release();
 
-        // 3) 도착 그룹 새 번호 = dst.size + 1, dst.size++
-        long newSeq = dst.getSize() + 1;
-        dst.setSize(newSeq);
+        // 3) 도착 그룹 새 정렬 키 발급 (항상 마지막 순서)
+        long newSeq = dst.issueSeq();
 
         // 4) 글에 반영 + 내용 갱신
-        article.changeCategoryAndSeq(newCat, newSeq);
+        categoryLeaderboardService.unrecord(article);
+        article.changeCategoryAndSeq(newCat, newSeq, dst.getSize());
+        categoryLeaderboardService.record(article);
 
         article.update(request);
+        articleCharacterCountService.record(article);
+        articleSearchService.index(article);
 
-        return ArticleResponse.fromEntity(article);
+        return articleResponseAssembler.toArticleResponse(article);
     }
 
     // 하드 딜리트
@@ -178,18 +198,20 @@ public class ArticleService {
             throw new GeneralException(ArticleErrorCode.UNAUTHORIZED_MEMBER);
         }
 
-        Category cat = article.getCategory();
-        long seq = article.getAuthorCategorySeq();
-
-        // 1) 해당 그룹 락
-        MemberCategoryCounter counter = counterHelper.lockOrInit(memberId, cat);
-
-        // 2) seq 뒤 모두 -1, size--
-        articleRepository.shiftLeft(memberId, cat, seq);
-        counter.setSize(counter.getSize() - 1);
+        // 해당 그룹 size-- (뒤 글의 번호는 다시 매기지 않음, 순위는 조회 시 계산)
+        counterHelper.lockOrInit(memberId, article.getCategory()).release();
 
         decreaseMoimScores(article);
+        articleCharacterCountService.unrecord(article);
+        categoryLeaderboardService.unrecord(article);
+        homeTimelineService.removeArticle(article.getId());
+        articleSearchService.remove(article.getId());
+        unreadCheeringCounterService.onArticleDeleted(article.getId(), memberId);
+        cheeringStatsService.onArticleDeleted(article.getId(), memberId);
         articleRepository.delete(article);
+        if (article.getCreatedAt() != null) {
+            memberActivityService.rebuildWeek(memberId, article.getCreatedAt());
+        }
     }
 
     private void increaseMoimScores(Article article) {
@@ -217,11 +239,11 @@ public class ArticleService {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new GeneralException(ArticleErrorCode.ARTICLE_NOT_FOUND));
 
-        return ArticleResponse.fromEntity(article);
+        return articleResponseAssembler.toArticleResponse(article);
     }
 
     public ArticleResponse getArticle(UUID requesterId, UUID articleId) {
-        return ArticleResponse.fromEntity(organizationAccessService.getAccessibleArticle(requesterId, articleId));
+        return articleResponseAssembler.toArticleResponse(organizationAccessService.getAccessibleArticle(requesterId, articleId));
     }
 
     public Page<ArticleWithBookResponse> getArticles(UUID requesterId, SearchArticleCondition condition, Pageable pageable) {
@@ -299,160 +321,71 @@ public class ArticleService {
         return CategoryCountResponse.fromObjectList(completeResult);
     }
 
-    public unicon.Achiva.domain.member.dto.MemberStatsResponse getMemberStats(UUID memberId) {
-        List<LocalDateTime> createdDates = articleRepository.findAllCreatedAtByMemberId(memberId);
-        ArticleStatsSnapshot statsSnapshot = calculateStatsSnapshot(createdDates, LocalDate.now());
-        return new unicon.Achiva.domain.member.dto.MemberStatsResponse(
-                statsSnapshot.weeklyWorkoutCount(),
-                statsSnapshot.continuousGoalWeeks()
-        );
-    }
-
-    public Map<UUID, unicon.Achiva.domain.member.dto.MemberStatsResponse> getMemberStatsMap(Collection<UUID> memberIds) {
-        if (memberIds == null || memberIds.isEmpty()) {
-            return Map.of();
-        }
-
-        LocalDate referenceDate = LocalDate.now();
-        Map<UUID, List<LocalDateTime>> createdDatesByMemberId = new HashMap<>();
-        for (Object[] row : articleRepository.findAllCreatedAtByMemberIds(memberIds)) {
-            UUID memberId = (UUID) row[0];
-            LocalDateTime createdAt = (LocalDateTime) row[1];
-            createdDatesByMemberId.computeIfAbsent(memberId, ignored -> new ArrayList<>()).add(createdAt);
-        }
-
-        Map<UUID, unicon.Achiva.domain.member.dto.MemberStatsResponse> statsMap = new HashMap<>();
-        for (UUID memberId : memberIds) {
-            ArticleStatsSnapshot statsSnapshot = calculateStatsSnapshot(
-                    createdDatesByMemberId.getOrDefault(memberId, Collections.emptyList()),
-                    referenceDate
-            );
-            statsMap.put(memberId, new unicon.Achiva.domain.member.dto.MemberStatsResponse(
-                    statsSnapshot.weeklyWorkoutCount(),
-                    statsSnapshot.continuousGoalWeeks()
-            ));
-        }
-
-        return statsMap;
-    }
-
-    private ArticleStatsSnapshot calculateNewArticleStats(UUID memberId, LocalDateTime createdAt) {
-        List<LocalDateTime> createdDates = new ArrayList<>(articleRepository.findAllCreatedAtByMemberId(memberId));
-        createdDates.add(createdAt);
-        return calculateStatsSnapshot(createdDates, createdAt.toLocalDate());
+    public MemberStatsResponse getMemberStats(UUID memberId) {
+        return memberActivityService.getStats(memberId, LocalDate.now());
     }
 
-    private ArticleStatsSnapshot calculateStatsSnapshot(List<LocalDateTime> createdDates, LocalDate referenceDate) {
-        LocalDate weekStart = referenceDate.with(DayOfWeek.MONDAY);
-        LocalDate nextWeekStart = weekStart.plusWeeks(1);
-
-        int weeklyWorkoutCount = (int) createdDates.stream()
-                .map(LocalDateTime::toLocalDate)
-                .filter(date -> !date.isBefore(weekStart) && date.isBefore(nextWeekStart))
-                .count();
-
-        return new ArticleStatsSnapshot(
-                weeklyWorkoutCount,
-                calculateContinuousGoalWeeks(createdDates, referenceDate)
-        );
-    }
-
-    private int calculateContinuousGoalWeeks(List<LocalDateTime> createdDates, LocalDate referenceDate) {
-        Map<LocalDate, Set<LocalDate>> activeDaysByWeek = new HashMap<>();
-
-        for (LocalDateTime createdDate : createdDates) {
-            LocalDate date = createdDate.toLocalDate();
-            LocalDate mondayAnchor = date.with(DayOfWeek.MONDAY);
-            activeDaysByWeek.computeIfAbsent(mondayAnchor, ignored -> new HashSet<>()).add(date);
-        }
-
-        int continuousWeeks = 0;
-        LocalDate checkDate = referenceDate;
-        boolean isCurrentWeek = true;
-
-        while (true) {
-            LocalDate mondayAnchor = checkDate.with(DayOfWeek.MONDAY);
-            int activeDayCount = activeDaysByWeek.getOrDefault(mondayAnchor, Collections.emptySet()).size();
-
-            if (activeDayCount >= 3) {
-                continuousWeeks++;
-                isCurrentWeek = false;
-            } else {
-                if (isCurrentWeek) {
-                    isCurrentWeek = false;
-                } else {
-                    break;
-                }
-            }
-
-            checkDate = checkDate.minusWeeks(1);
-        }
-
-        return continuousWeeks;
-    }
-
-    private record ArticleStatsSnapshot(int weeklyWorkoutCount, int continuousGoalWeeks) {
+    public Map<UUID, MemberStatsResponse> getMemberStatsMap(Collection<UUID> memberIds) {
+        return memberActivityService.getStatsMap(memberIds, LocalDate.now());
     }
 
     private Page<ArticleWithBookResponse> toArticleWithBookResponsePage(Page<Article> page) {
-        Map<UUID, Long> memberArticleCountMap = getMemberArticleCountMap(
-                page.getContent().stream()
-                        .map(article -> article.getMember().getId())
-                        .distinct()
-                        .toList()
-        );
-
-        List<ArticleWithBookResponse> content = page.getContent().stream()
-                .map(article -> toArticleWithBookResponse(article, memberArticleCountMap))
-                .toList();
-
+        List<ArticleWithBookResponse> content = toArticleWithBookResponses(page.getContent());
         return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
     }
 
-    private ArticleWithBookResponse toArticleWithBookResponse(Article article, Map<UUID, Long> memberArticleCountMap) {
-        long memberArticleCount = memberArticleCountMap.getOrDefault(article.getMember().getId(), 0L);
-        return ArticleWithBookResponse.fromEntity(
-                article,
-                getBookArticleList(article.getId()),
-                memberArticleCount
-        );
+    private List<ArticleWithBookResponse> toArticleWithBookResponses(List<Article> articles) {
+        return articleResponseAssembler.toArticleWithBookResponses(articles);
     }
 
-    private Map<UUID, Long> getMemberArticleCountMap(List<UUID> memberIds) {
-        if (memberIds.isEmpty()) {
-            return Map.of();
-        }
-
-        return articleRepository.countArticlesByMemberIds(memberIds).stream()
-                .collect(Collectors.toMap(
-                        row -> (UUID) row[0],
-                        row -> (Long) row[1]
-                ));
+    public Page<ArticleWithBookResponse> getHomeArticles(UUID myId, Pageable pageable) {
+        Long organizationId = organizationAccessService.getOrganizationId(myId);
+        // 정렬은 타임라인 인덱스 순서(bucket, 작성 시각)로 고정하므로 요청의 sort 는 무시합니다.
+        Page<Article> page = homeTimelineRepository.findFeedPage(
+                myId,
+                organizationId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        );
+        return toArticleWithBookResponsePage(page);
     }
 
-    public Page<ArticleWithBookResponse> getHomeArticles(UUID myId, Pageable pageable) {
+    /**
+     * 홈 피드 커서 기반 조회.
+     * 친구 게시글(bucket 0)을 최신순으로 모두 내려준 뒤 응원 관계 게시글(bucket 1)을 이어서 내려줍니다.
+     * home_timeline 의 (owner_id, bucket, article_created_at, article_id) 인덱스를 keyset 으로 한 번만 조회하며,
+     * limit + 1 개를 가져와 다음 페이지 존재 여부를 판단합니다. 친구/응원 관계 수와 무관하게 페이지 크기만큼만 읽습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기
+     */
+    public CursorPageResponse<ArticleWithBookResponse> getHomeArticlesByCursor(UUID myId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        HomeFeedCursor decoded = HomeFeedCursor.decode(cursor);
         Long organizationId = organizationAccessService.getOrganizationId(myId);
-        List<UUID> friendIds = friendshipRepository.findFriendIdsOf(myId, FriendshipStatus.ACCEPTED);
-        List<UUID> cheererIds = cheeringRepository.findDistinctCheererIdsWhoCheeredMyArticles(myId);
 
-        if ((friendIds == null || friendIds.isEmpty()) && (cheererIds == null || cheererIds.isEmpty())) {
-            return Page.empty(pageable);
-        }
+        List<Object[]> rows = homeTimelineRepository.findFeedSlice(
+                myId,
+                organizationId,
+                decoded != null ? decoded.bucket() : null,
+                decoded != null ? decoded.createdAt() : null,
+                decoded != null ? decoded.id() : null,
+                Limit.of(limit + 1)
+        );
 
-        List<UUID> filteredFriendIds = organizationAccessService.filterMemberIdsByOrganization(myId, friendIds);
-        List<UUID> filteredCheererIds = organizationAccessService.filterMemberIdsByOrganization(myId, cheererIds);
+        boolean hasNext = rows.size() > limit;
+        List<Object[]> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        List<Article> content = pageRows.stream()
+                .map(row -> (Article) row[1])
+                .toList();
 
-        if (filteredFriendIds.isEmpty() && filteredCheererIds.isEmpty()) {
-            return Page.empty(pageable);
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = pageRows.getLast();
+            Article lastArticle = (Article) last[1];
+            nextCursor = new HomeFeedCursor((Integer) last[0], lastArticle.getCreatedAt(), lastArticle.getId()).encode();
         }
 
-        Set<UUID> friendSet = new HashSet<>(filteredFriendIds);
-        List<UUID> cheererOnly = filteredCheererIds.stream()
-                .filter(id -> !friendSet.contains(id))
-                .toList();
-
-        Page<Article> page = articleRepository.findCombinedFeed(filteredFriendIds, cheererOnly, organizationId, pageable);
-        return toArticleWithBookResponsePage(page);
+        return new CursorPageResponse<>(toArticleWithBookResponses(content), nextCursor, hasNext);
     }
 
 
@@ -466,7 +399,6 @@ public class ArticleService {
         if (src == newCategory) return;
 
         UUID memberId = a.getMember().getId();
-        long oldSeq = a.getAuthorCategorySeq();
 
         // 1) 락 순서 고정 (교착 방지): 키를 문자열로 비교해 작은 쪽 먼저
         MemberCategoryKey k1 = new MemberCategoryKey(memberId, min(src, newCategory));
@@ -475,18 +407,21 @@ public class ArticleService {
         MemberCategoryCounter first = memberCategoryCounterRepository.lockById(k1).orElseGet(() -> initCounter(k1));
         MemberCategoryCounter second = memberCategoryCounterRepository.lockById(k2).orElseGet(() -> initCounter(k2));
 
-        // 2) 출발 그룹 densify: oldSeq 뒤 모두 -1, size--
-        articleRepository.shiftLeft(memberId, src, oldSeq);
-        if (src.equals(k1.getCategory())) first.setSize(first.getSize() - 1);
-        else second.setSize(second.getSize() - 1);
+        // 2) 출발 그룹 size-- (뒤 번호는 당기지 않음)
+        if (src.equals(k1.getCategory())) first.release();
+        else second.release();
 
-        // 3) 도착 그룹 새 번호 = size + 1, size++
+        // 3) 도착 그룹 새 정렬 키 발급
         MemberCategoryCounter dstCounter = newCategory.equals(k1.getCategory()) ? first : second;
-        long newSeq = dstCounter.getSize() + 1;
-        dstCounter.setSize(newSeq); // size++ (newSeq == oldSize+1)
+        long newSeq = dstCounter.issueSeq();
 
         // 4) 글 갱신
-        a.changeCategoryAndSeq(newCategory, newSeq);
+        articleCharacterCountService.unrecord(a);
+        categoryLeaderboardService.unrecord(a);
+        a.changeCategoryAndSeq(newCategory, newSeq, dstCounter.getSize());
+        articleCharacterCountService.record(a);
+        categoryLeaderboardService.record(a);
+        articleSearchService.index(a);
     }
 
     private MemberCategoryCounter initCounter(MemberCategoryKey key) {
@@ -554,7 +489,7 @@ public class ArticleService {
     }
 
     public TotalCharacterCountResponse getTotalCharacterCountByDateRange(UUID memberId, LocalDateTime startDate, LocalDateTime endDate) {
-        long totalCount = articleRepository.countTotalCharactersByDateRange(memberId, startDate, endDate);
+        long totalCount = articleCharacterCountService.getTotalCharacterCount(memberId, startDate, endDate);
         return new TotalCharacterCountResponse(totalCount);
     }
 
@@ -574,14 +509,7 @@ public class ArticleService {
     }
 
     public CategoryCharacterCountResponse getCharacterCountByCategory(UUID memberId, LocalDateTime startDate, LocalDateTime endDate) {
-        List<Object[]> result = articleRepository.countCharactersByCategoryAndDateRange(memberId, startDate, endDate);
-
-        // 결과를 Map으로 변환 (key: Category, value: Long)
-        Map<Category, Long> categoryCharacterCountMap = result.stream()
-                .collect(Collectors.toMap(
-                        row -> (Category) row[0],
-                        row -> (Long) row[1]
-                ));
+        Map<Category, Long> categoryCharacterCountMap = articleCharacterCountService.getCharacterCountByCategory(memberId, startDate, endDate);
 
         // 모든 카테고리를 순회하면서 없는 건 0L로 추가
         for (Category category : Category.values()) {
@@ -600,138 +528,14 @@ public class ArticleService {
     }
 
     public CategoryRankingResponse getCategoryRanking(UUID requesterId) {
-        Long organizationId = organizationAccessService.getOrganizationId(requesterId);
-        Map<Category, List<CategoryRankingResponse.CategoryRankingMember>> rankingMap = new LinkedHashMap<>();
-        for (Category category : Category.values()) {
-            rankingMap.put(category, new ArrayList<>());
-        }
-
-        for (Object[] row : articleRepository.countArticlesByCategoryAndMember(organizationId)) {
-            Category category = (Category) row[0];
-            UUID memberId = (UUID) row[1];
-            String nickName = (String) row[2];
-            String profileImageUrl = (String) row[3];
-            Long articleCount = (Long) row[4];
-
-            rankingMap.get(category).add(new CategoryRankingResponse.CategoryRankingMember(
-                    memberId,
-                    nickName,
-                    profileImageUrl,
-                    articleCount
-            ));
-        }
-
-        List<CategoryRankingResponse.CategoryRanking> categories = rankingMap.entrySet().stream()
-                .map(entry -> new CategoryRankingResponse.CategoryRanking(
-                        Category.getDisplayName(entry.getKey()),
-                        entry.getValue()
-                ))
-                .toList();
-
-        return new CategoryRankingResponse(categories);
+        return getCategoryRanking(requesterId, null);
     }
 
     /**
-     * 친구들에게 운동 게시글 푸시 알림 전송
-     * PDF 요구사항:
-     * - 친구 중 친구 간 푸쉬알림 동의 유저에게만 발송
-     * - Title: "{닉네임}님이 오늘 운동했어요 💪"
-     * - Body: "나는 오늘 운동했다. 다음은 네 차례야 🔥"
-     * - 제외 대상: 본인, 전체 푸시 OFF, 친구 운동 알림 OFF, 개별 설정 OFF
-     * - 발송 정책: 동일 작성자가 하루에 여러 게시글 올릴 경우 수신자당 하루 1회만 발송
+     * @param limit 카테고리별 상위 N명 (null 이면 전체)
      */
-    private void sendFriendWorkoutPushNotifications(Article article) {
-        try {
-            UUID authorId = article.getMember().getId();
-            String authorNickname = article.getMember().getNickName();
-            LocalDate today = LocalDate.now();
-
-            // 1. 작성자의 모든 친구 관계 조회 (양방향)
-            List<unicon.Achiva.domain.friendship.entity.Friendship> friendships =
-                    friendshipRepository.findAllAcceptedFriendships(authorId, FriendshipStatus.ACCEPTED);
-
-            // 2. 필터링 및 푸시 전송
-            friendships.forEach(friendship -> {
-                try {
-                    // 작성자가 아닌 쪽이 수신자
-                    Member friendMember;
-                    boolean allowsPostPush;
-
-                    if (friendship.getRequester().getId().equals(authorId)) {
-                        // 작성자가 requester -> receiver가 친구
-                        friendMember = friendship.getReceiver();
-                        allowsPostPush = friendship.isReceiverAllowsPostPush();
-                    } else {
-                        // 작성자가 receiver -> requester가 친구
-                        friendMember = friendship.getRequester();
-                        allowsPostPush = friendship.isRequesterAllowsPostPush();
-                    }
-
-                    UUID receiverId = friendMember.getId();
-
-                    // 전체 푸시 OFF 확인
-                    if (!friendMember.isPushEnabled()) {
-                        log.debug("[Article] 전체 푸시 비활성화 - friendId: {}", receiverId);
-                        return;
-                    }
-
-                    // 친구 운동 알림 OFF 확인
-                    if (!friendMember.isFriendWorkoutPushEnabled()) {
-                        log.debug("[Article] 친구 운동 푸시 비활성화 - friendId: {}", receiverId);
-                        return;
-                    }
-
-                    // 개별 설정 OFF 확인
-                    if (!allowsPostPush) {
-                        log.debug("[Article] 개별 게시글 푸시 비활성화 - friendId: {}", receiverId);
-                        return;
-                    }
-
-                    // 하루 1회 발송 정책: 오늘 이미 보냈는지 확인
-                    boolean alreadySentToday = articlePushHistoryRepository
-                            .existsByAuthorIdAndReceiverIdAndPushDate(authorId, receiverId, today);
-
-                    if (alreadySentToday) {
-                        log.debug("[Article] 오늘 이미 푸시 전송함 - authorId: {}, receiverId: {}", authorId, receiverId);
-                        return;
-                    }
-
-                    String title = String.format("%s님이 오늘 운동했어요 💪", authorNickname);
-                    String body = "나는 오늘 운동했다. 다음은 네 차례야 🔥";
-
-                    Map<String, Object> data = new HashMap<>();
-                    data.put("type", "friend_workout_post");
-                    data.put("articleId", article.getId().toString());
-                    data.put("fromUserId", authorId.toString());
-
-                    PushSendRequest pushRequest = PushSendRequest.builder()
-                            .targetMemberId(receiverId)
-                            .title(title)
-                            .body(body)
-                            .data(data)
-                            .build();
-
-                    pushService.sendPushNotification(authorId, pushRequest);
-
-                    // 푸시 발송 이력 저장
-                    ArticlePushHistory history = ArticlePushHistory.builder()
-                            .authorId(authorId)
-                            .receiverId(receiverId)
-                            .pushDate(today)
-                            .articleId(article.getId())
-                            .build();
-                    articlePushHistoryRepository.save(history);
-
-                    log.info("[Article] 친구 운동 게시글 푸시 알림 전송 성공 - from: {}, to: {}, articleId: {}",
-                            authorId, receiverId, article.getId());
-                } catch (Exception e) {
-                    log.error("[Article] 친구 운동 게시글 푸시 알림 전송 실패 - error: {}", e.getMessage(), e);
-                }
-            });
-        } catch (Exception e) {
-            // 푸시 전송 실패 시 로그만 남기고 비즈니스 로직은 계속 진행
-            log.error("[Article] 친구 운동 게시글 푸시 알림 전송 중 오류 - articleId: {}, error: {}",
-                    article.getId(), e.getMessage(), e);
-        }
+    public CategoryRankingResponse getCategoryRanking(UUID requesterId, Integer limit) {
+        Long organizationId = organizationAccessService.getOrganizationId(requesterId);
+        return categoryLeaderboardService.getRanking(organizationId, limit);
     }
 }
@@ -0,0 +1,99 @@
+package unicon.Achiva.domain.article;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.infrastructure.ArticlePushHistoryRepository;
+import unicon.Achiva.domain.push.PushService;
+import unicon.Achiva.domain.push.dto.PushSendRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 친구 운동 게시글 푸시 등록
+ * 게시글 작성 트랜잭션 안에서 수신자별 알림을 push_outbox 에 기록하고, PushOutboxWorker 가 커밋 이후 전송합니다.
+ * 기록에 실패하면 게시글 작성도 롤백되므로, 작성된 게시글의 알림이 유실되지 않습니다.
+ * 친구 수와 관계없이 발송 이력 기록, 수신자 조회, 알림 기록(multi-row INSERT) 세 문장으로 처리합니다.
+ * <p>
+ * 발송 결과는 커밋 이후 push.friend_workout.deliveries{result=enqueued} 카운터와
+ * push.friend_workout.fanout 타이머로 노출됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FriendWorkoutPushService {
+
+    private static final String DELIVERY_METRIC = "push.friend_workout.deliveries";
+
+    private final ArticlePushHistoryRepository articlePushHistoryRepository;
+    private final PushService pushService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 친구들에게 운동 게시글 푸시 알림 등록
+     * PDF 요구사항:
+     * - 친구 중 친구 간 푸쉬알림 동의 유저에게만 발송
+     * - Title: "{닉네임}님이 오늘 운동했어요 💪"
+     * - Body: "나는 오늘 운동했다. 다음은 네 차례야 🔥"
+     * - 제외 대상: 본인, 전체 푸시 OFF, 친구 운동 알림 OFF, 개별 설정 OFF
+     * - 발송 정책: 동일 작성자가 하루에 여러 게시글 올릴 경우 수신자당 하루 1회만 발송
+     * <p>
+     * 하루 1회 정책은 조회 후 판단하지 않고 발송 이력을 먼저 INSERT IGNORE 로 기록한 뒤,
+     * 이 게시글로 기록된 수신자에게만 알림을 등록하는 방식으로 지킵니다.
+     */
+    @Transactional
+    public void enqueueFriendWorkoutPushNotifications(Article article) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        UUID authorId = article.getMember().getId();
+        LocalDate today = LocalDate.now();
+
+        int recorded = articlePushHistoryRepository.insertForPushableFriends(
+                authorId.toString(), article.getId().toString(), today, LocalDateTime.now());
+        if (recorded == 0) {
+            sample.stop(meterRegistry.timer("push.friend_workout.fanout"));
+            return;
+        }
+        List<UUID> receiverIds = articlePushHistoryRepository.findReceiverIdsByArticle(authorId, today, article.getId());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("type", "friend_workout_post");
+        data.put("articleId", article.getId().toString());
+        data.put("fromUserId", authorId.toString());
+
+        int enqueued = pushService.enqueuePushNotifications(authorId, receiverIds, PushSendRequest.builder()
+                .title(String.format("%s님이 오늘 운동했어요 💪", article.getMember().getNickName()))
+                .body("나는 오늘 운동했다. 다음은 네 차례야 🔥")
+                .data(data)
+                .build());
+        sample.stop(meterRegistry.timer("push.friend_workout.fanout"));
+
+        log.info("[Article] 친구 운동 게시글 푸시 알림 등록 - from: {}, receivers: {}, articleId: {}",
+                authorId, enqueued, article.getId());
+        afterCommit(() -> meterRegistry.counter(DELIVERY_METRIC, "result", "enqueued").increment(enqueued));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package unicon.Achiva.domain.article;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.dto.HomeFeedCursor;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.infrastructure.HomeTimelineRepository;
+import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
+import unicon.Achiva.domain.friendship.FriendshipStatus;
+import unicon.Achiva.domain.friendship.infrastructure.FriendshipRepository;
+import unicon.Achiva.domain.organization.OrganizationAccessService;
+
+import java.util.UUID;
+
+/**
+ * 홈 피드 타임라인(home_timeline) 쓰기 담당.
+ * 게시글 작성/삭제, 친구 수락/차단, 응원 생성/삭제 시 호출되어 타임라인을 친구·응원 관계와 일치시킵니다.
+ * 모든 메서드는 호출한 쪽 트랜잭션에 참여하므로 원본 데이터와 타임라인이 함께 커밋/롤백됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HomeTimelineService {
+
+    private final HomeTimelineRepository homeTimelineRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final CheeringRepository cheeringRepository;
+    private final OrganizationAccessService organizationAccessService;
+
+    /**
+     * 새 게시글을 작성자의 친구(bucket 0)와 작성자가 응원했던 사용자(bucket 1) 타임라인에 기록
+     */
+    @Transactional
+    public void fanOutArticle(Article article) {
+        int friendRows = homeTimelineRepository.fanOutToFriends(article.getId(), FriendshipStatus.ACCEPTED);
+        int cheerRows = homeTimelineRepository.fanOutToCheeredMembers(article.getId());
+        log.debug("[HomeTimeline] 게시글 fan-out - articleId: {}, friends: {}, cheered: {}",
+                article.getId(), friendRows, cheerRows);
+    }
+
+    @Transactional
+    public void removeArticle(UUID articleId) {
+        homeTimelineRepository.deleteByArticleId(articleId);
+    }
+
+    /**
+     * 두 사용자 간 친구 관계가 바뀐 경우(수락/차단) 양방향 타임라인을 다시 구성
+     */
+    @Transactional
+    public void refreshRelation(UUID firstMemberId, UUID secondMemberId) {
+        refreshPair(firstMemberId, secondMemberId);
+        refreshPair(secondMemberId, firstMemberId);
+    }
+
+    /**
+     * 응원 생성 시: 보낸 사람의 게시글이 받은 사람 타임라인에 아직 없다면 추가
+     */
+    @Transactional
+    public void onCheeringCreated(UUID senderId, UUID receiverId) {
+        if (senderId.equals(receiverId) || homeTimelineRepository.existsByOwnerIdAndAuthorId(receiverId, senderId)) {
+            return;
+        }
+        refreshPair(receiverId, senderId);
+    }
+
+    /**
+     * 응원 삭제 시: 남은 응원이 없으면 받은 사람 타임라인에서 보낸 사람의 응원 관계 게시글 제거
+     */
+    @Transactional
+    public void onCheeringDeleted(UUID senderId, UUID receiverId) {
+        if (senderId.equals(receiverId) || cheeringRepository.existsBySender_IdAndReceiver_Id(senderId, receiverId)) {
+            return;
+        }
+        refreshPair(receiverId, senderId);
+    }
+
+    private void refreshPair(UUID ownerId, UUID authorId) {
+        homeTimelineRepository.deleteByOwnerIdAndAuthorId(ownerId, authorId);
+
+        Integer bucket = resolveBucket(ownerId, authorId);
+        if (bucket != null) {
+            homeTimelineRepository.appendAuthorArticles(ownerId, authorId, bucket);
+        }
+    }
+
+    private Integer resolveBucket(UUID ownerId, UUID authorId) {
+        if (!organizationAccessService.isSameOrganization(ownerId, authorId)) {
+            return null;
+        }
+        if (friendshipRepository.existsByMemberPairAndStatus(ownerId, authorId, FriendshipStatus.ACCEPTED)) {
+            return HomeFeedCursor.FRIEND_BUCKET;
+        }
+        if (cheeringRepository.existsBySender_IdAndReceiver_Id(authorId, ownerId)) {
+            return HomeFeedCursor.CHEERER_BUCKET;
+        }
+        return null;
+    }
+}
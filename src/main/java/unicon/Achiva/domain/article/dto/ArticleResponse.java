@@ -3,8 +3,10 @@ package unicon.Achiva.domain.article.dto;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.entity.Question;
 import unicon.Achiva.domain.category.Category;
 import unicon.Achiva.domain.scripture.dto.ScriptureReadingPayload;
+import unicon.Achiva.domain.scripture.entity.ArticleScriptureReading;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,13 +32,27 @@ public class ArticleResponse {
     private ScriptureReadingPayload scriptureReading;
 
     protected static <B extends ArticleResponseBuilder<?, ?>> B initBuilder(B builder, Article article) {
+        return initBuilder(builder, article, article.getPhotoUrls(), article.getQuestions(), article.getScriptureReading());
+    }
+
+    /**
+     * 사진/질문/성경 일독 정보를 미리 조회해 둔 값으로 채웁니다.
+     * 목록 응답에서 게시글마다 지연 로딩이 일어나지 않도록 ArticleResponseAssembler 가 사용합니다.
+     */
+    protected static <B extends ArticleResponseBuilder<?, ?>> B initBuilder(
+            B builder,
+            Article article,
+            List<String> photoUrls,
+            List<Question> questions,
+            ArticleScriptureReading scriptureReading
+    ) {
         return (B) builder
                 .id(article.getId())
-                .photoUrls(article.getPhotoUrls())
+                .photoUrls(photoUrls)
                 .title(article.getTitle())
                 .category(article.getCategory())
                 .question(
-                        article.getQuestions()
+                        questions
                                 .stream()
                                 .map(ArticleRequest.QuestionDTO::fromEntity)
                                 .toList()
@@ -44,11 +60,11 @@ public class ArticleResponse {
                 .memberId(article.getMember().getId())
                 .memberNickName(article.getMember().getNickName())
                 .memberProfileUrl(article.getMember().getProfileImageUrl())
-                .authorCategorySeq(article.getAuthorCategorySeq())
+                .authorCategorySeq(article.getAuthorCategoryRank())
                 .backgroundColor(article.getBackgroundColor())
                 .weeklyWorkoutCount(article.getWeeklyWorkoutCount())
                 .continuousGoalWeeks(article.getContinuousGoalWeeks())
-                .scriptureReading(ScriptureReadingPayload.fromEntity(article.getScriptureReading()))
+                .scriptureReading(ScriptureReadingPayload.fromEntity(scriptureReading))
                 .createdAt(article.getCreatedAt())
                 .updatedAt(article.getUpdatedAt());
     }
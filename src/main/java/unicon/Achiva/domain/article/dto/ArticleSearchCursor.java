@@ -0,0 +1,49 @@
+package unicon.Achiva.domain.article.dto;
+
+import unicon.Achiva.domain.article.ArticleErrorCode;
+import unicon.Achiva.global.response.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 게시글 검색 커서 페이지네이션용 커서.
+ * 최신순((createdAt, id) DESC)으로 정렬된 검색 결과에서 마지막으로 내려준 게시글의 위치입니다.
+ *
+ * @param createdAt 마지막 게시글의 작성 시각
+ * @param id        마지막 게시글의 ID (작성 시각이 같을 때의 tie-breaker)
+ */
+public record ArticleSearchCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 비어 있으면 첫 페이지로 간주해 null 을 반환합니다.
+     *
+     * @throws GeneralException 형식이 올바르지 않은 경우 INVALID_CURSOR
+     */
+    public static ArticleSearchCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new GeneralException(ArticleErrorCode.INVALID_CURSOR);
+            }
+            return new ArticleSearchCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GeneralException(ArticleErrorCode.INVALID_CURSOR);
+        }
+    }
+}
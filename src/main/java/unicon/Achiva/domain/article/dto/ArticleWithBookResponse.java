@@ -3,7 +3,9 @@ package unicon.Achiva.domain.article.dto;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.entity.Question;
 import unicon.Achiva.domain.book.entity.BookArticle;
+import unicon.Achiva.domain.scripture.entity.ArticleScriptureReading;
 
 import java.util.List;
 
@@ -23,4 +25,22 @@ public class ArticleWithBookResponse extends ArticleResponse {
                 .memberArticleCount(memberArticleCount)
                 .build();
     }
+
+    public static ArticleWithBookResponse of(
+            Article article,
+            List<String> photoUrls,
+            List<Question> questions,
+            ArticleScriptureReading scriptureReading,
+            List<BookArticle> bookArticle,
+            long memberArticleCount
+    ) {
+        return initBuilder(ArticleWithBookResponse.builder(), article, photoUrls, questions, scriptureReading)
+                .bookArticle(
+                        bookArticle.stream()
+                                .map(BookArticleInfoResponse::from)
+                                .toList()
+                )
+                .memberArticleCount(memberArticleCount)
+                .build();
+    }
 }
@@ -0,0 +1,20 @@
+package unicon.Achiva.domain.article.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 응답")
+public record CursorPageResponse<T>(
+        @Schema(description = "조회된 항목 목록")
+        List<T> content,
+        @Schema(description = "다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)")
+        String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+
+    public static <T> CursorPageResponse<T> empty() {
+        return new CursorPageResponse<>(List.of(), null, false);
+    }
+}
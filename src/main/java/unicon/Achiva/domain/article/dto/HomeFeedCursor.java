@@ -0,0 +1,60 @@
+package unicon.Achiva.domain.article.dto;
+
+import unicon.Achiva.domain.article.ArticleErrorCode;
+import unicon.Achiva.global.response.GeneralException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 홈 피드 커서 페이지네이션용 커서.
+ * (bucket, createdAt, id) 순서로 정렬된 피드에서 마지막으로 내려준 게시글의 위치를 나타냅니다.
+ * 클라이언트에는 Base64URL 로 인코딩된 불투명 문자열로만 노출됩니다.
+ *
+ * @param bucket    0: 친구 게시글, 1: 응원 관계(친구 제외) 게시글
+ * @param createdAt 마지막 게시글의 작성 시각
+ * @param id        마지막 게시글의 ID (작성 시각이 같을 때의 tie-breaker)
+ */
+public record HomeFeedCursor(int bucket, LocalDateTime createdAt, UUID id) {
+
+    public static final int FRIEND_BUCKET = 0;
+    public static final int CHEERER_BUCKET = 1;
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = bucket + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 비어 있으면 첫 페이지로 간주해 null 을 반환합니다.
+     *
+     * @throws GeneralException 형식이 올바르지 않은 경우 INVALID_CURSOR
+     */
+    public static HomeFeedCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new GeneralException(ArticleErrorCode.INVALID_CURSOR);
+            }
+
+            int bucket = Integer.parseInt(parts[0]);
+            if (bucket != FRIEND_BUCKET && bucket != CHEERER_BUCKET) {
+                throw new GeneralException(ArticleErrorCode.INVALID_CURSOR);
+            }
+
+            return new HomeFeedCursor(bucket, LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new GeneralException(ArticleErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -23,7 +23,14 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "article")
+@Table(
+        name = "article",
+        indexes = {
+                @Index(name = "idx_article_member_created_at", columnList = "member_id, created_at, id"),
+                @Index(name = "idx_article_book_main_created_at", columnList = "is_book_main, created_at"),
+                @Index(name = "idx_article_member_category_seq", columnList = "member_id, category, author_category_seq")
+        }
+)
 public class Article extends UuidBaseEntity {
 
     @ElementCollection
@@ -37,15 +44,41 @@ public class Article extends UuidBaseEntity {
 
 //    private Boolean isBookTitle;
 
+    /**
+     * 책의 대표(메인) 아티클 여부. 피드/통계 쿼리에서 Book 조인 없이 제외하기 위한 비정규화 컬럼이며
+     * BookService 의 책 생성/삭제 시에만 변경됩니다.
+     */
+    @Builder.Default
+    @Column(name = "is_book_main", nullable = false)
+    private boolean bookMain = false;
+
     @Enumerated(EnumType.STRING)
     @Column(columnDefinition = "varchar(50)")
     private Category category;
 
     private String backgroundColor;
 
+    /**
+     * 회원-카테고리 안의 정렬 키. 새 글(또는 이동해 온 글)에 MemberCategoryCounter.lastSeq 를 증가시켜 부여하며,
+     * 삭제/이동 시 뒤 번호를 당기지 않으므로 중간에 빈 번호가 생길 수 있습니다.
+     */
     @Column(name = "author_category_seq", nullable = false)
     private Long authorCategorySeq;
 
+    /**
+     * 회원-카테고리 안에서 몇 번째 글인지 (1부터, 빈 번호 없음). 저장하지 않으며 엔티티 로딩 시에도 계산하지 않습니다.
+     * 작성/이동 시에는 카운터 size 로 채우고, 응답을 만들 때는 ArticleResponseAssembler 가 필요한 게시글만 한 번에 조회해 채웁니다.
+     */
+    @Transient
+    private Long authorCategoryRank;
+
+    /**
+     * 질문 내용(content) 글자 수 합계. 기간별 글자 수 통계에서 LOB 컬럼을 읽지 않도록 저장해 둡니다.
+     */
+    @Builder.Default
+    @Column(name = "char_count", nullable = false)
+    private int charCount = 0;
+
     @Column(name = "weekly_workout_count")
     private Integer weeklyWorkoutCount;
 
@@ -86,11 +119,31 @@ public class Article extends UuidBaseEntity {
             question.setArticle(this);
             this.questions.add(question);
         }
+        refreshCharCount();
+    }
+
+    public void refreshCharCount() {
+        this.charCount = questions == null ? 0 : questions.stream()
+                .mapToInt(Question::countCharacters)
+                .sum();
     }
 
-    public void changeCategoryAndSeq(Category newCategory, long newSeq) {
+    public void changeCategoryAndSeq(Category newCategory, long newSeq, long newRank) {
         this.category = newCategory;
         this.authorCategorySeq = newSeq;
+        this.authorCategoryRank = newRank;
+    }
+
+    public void assignAuthorCategoryRank(long rank) {
+        this.authorCategoryRank = rank;
+    }
+
+    public void markAsBookMain() {
+        this.bookMain = true;
+    }
+
+    public void unmarkAsBookMain() {
+        this.bookMain = false;
     }
 
     public void setScriptureReading(ArticleScriptureReading scriptureReading) {
@@ -0,0 +1,97 @@
+package unicon.Achiva.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+import unicon.Achiva.domain.category.Category;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 키워드 검색용 문서
+ * 게시글 제목과 질문 제목/내용을 하나의 content 컬럼으로 합쳐 두고,
+ * MySQL FULLTEXT(ngram parser) 인덱스로 검색합니다. (인덱스는 Flyway 마이그레이션에서 생성)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "article_search_document",
+        indexes = {
+                @Index(name = "idx_article_search_document_org_created", columnList = "organization_id, article_created_at")
+        }
+)
+public class ArticleSearchDocument implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "article_id", columnDefinition = "BINARY(16)")
+    private UUID articleId;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(50)")
+    private Category category;
+
+    @Column(name = "article_created_at", nullable = false)
+    private LocalDateTime articleCreatedAt;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String content;
+
+    @Transient
+    private boolean isNew = true;
+
+    public static ArticleSearchDocument from(Article article) {
+        ArticleSearchDocument document = new ArticleSearchDocument();
+        document.articleId = article.getId();
+        document.organizationId = article.getMember().getOrganization().getId();
+        document.articleCreatedAt = article.getCreatedAt();
+        document.refresh(article);
+        return document;
+    }
+
+    public void refresh(Article article) {
+        this.category = article.getCategory();
+        this.content = buildContent(article);
+    }
+
+    private static String buildContent(Article article) {
+        StringBuilder sb = new StringBuilder();
+        if (article.getTitle() != null) {
+            sb.append(article.getTitle());
+        }
+        if (article.getQuestions() != null) {
+            for (Question question : article.getQuestions()) {
+                if (question.getTitle() != null) {
+                    sb.append('\n').append(question.getTitle());
+                }
+                if (question.getContent() != null) {
+                    sb.append('\n').append(question.getContent());
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public UUID getId() {
+        return articleId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    private void markNotNew() {
+        this.isNew = false;
+    }
+}
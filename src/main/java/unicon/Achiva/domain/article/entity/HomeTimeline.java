@@ -0,0 +1,50 @@
+package unicon.Achiva.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 홈 피드 타임라인 (fan-out-on-write)
+ * 게시글 작성 시 해당 게시글을 볼 수 있는 사용자(owner)마다 한 행씩 미리 기록해 두고,
+ * 홈 피드 조회는 (owner_id, bucket, article_created_at, article_id) 인덱스 range scan 한 번으로 처리합니다.
+ * bucket 0: 친구 게시글, 1: 내 게시글을 응원한 사용자(친구 제외)의 게시글
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "home_timeline",
+        indexes = {
+                @Index(name = "idx_home_timeline_owner_feed", columnList = "owner_id, bucket, article_created_at, article_id"),
+                @Index(name = "idx_home_timeline_owner_author", columnList = "owner_id, author_id"),
+                @Index(name = "idx_home_timeline_article_id", columnList = "article_id")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_home_timeline_owner_article", columnNames = {"owner_id", "article_id"})
+        }
+)
+public class HomeTimeline {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Column(name = "article_id", nullable = false)
+    private UUID articleId;
+
+    @Column(name = "author_id", nullable = false)
+    private UUID authorId;
+
+    @Column(name = "bucket", nullable = false)
+    private int bucket;
+
+    @Column(name = "article_created_at", nullable = false)
+    private LocalDateTime articleCreatedAt;
+}
@@ -0,0 +1,23 @@
+package unicon.Achiva.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별-일자별-카테고리별 글자 수 집계
+ * 게시글(책 대표 아티클 제외)의 article.char_count 합계이며, 기간별 글자 수 통계를 일 단위 행 수만큼만 읽어 계산합니다.
+ * 갱신은 ArticleCharacterCountService 의 upsert 로만 이루어집니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "member_daily_char_count")
+public class MemberDailyCharCount {
+
+    @EmbeddedId
+    private MemberDailyCharCountKey id;
+
+    @Column(name = "char_count", nullable = false)
+    private long charCount;
+}
@@ -0,0 +1,33 @@
+package unicon.Achiva.domain.article.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import unicon.Achiva.domain.category.Category;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MemberDailyCharCountKey implements Serializable {
+
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    @Column(name = "activity_date")
+    private LocalDate activityDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(50)")
+    private Category category;
+}
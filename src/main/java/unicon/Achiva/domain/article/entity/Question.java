@@ -30,4 +30,11 @@ public class Question extends LongBaseEntity {
     public void setArticle(Article article) {
         this.article = article;
     }
+
+    /**
+     * content 의 글자 수 (MySQL CHAR_LENGTH 와 같은 코드 포인트 기준)
+     */
+    public int countCharacters() {
+        return content == null ? 0 : content.codePointCount(0, content.length());
+    }
 }
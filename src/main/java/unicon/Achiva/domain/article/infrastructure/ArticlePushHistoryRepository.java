@@ -8,14 +8,60 @@ import unicon.Achiva.domain.article.entity.ArticlePushHistory;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface ArticlePushHistoryRepository extends JpaRepository<ArticlePushHistory, Long> {
 
     /**
-     * 특정 작성자가 특정 수신자에게 오늘 이미 푸시를 보냈는지 확인
+     * 작성자의 친구 중 친구 운동 푸시를 받는 수신자(전체 푸시 ON, 친구 운동 알림 ON, 개별 설정 ON)에 대해
+     * 이 게시글의 발송 이력을 INSERT ... SELECT 한 문장으로 기록합니다.
+     * 같은 날 이미 이력이 있는 수신자는 uk_author_receiver_date 에 걸려 무시되므로, 새로 기록된 행이 곧 이번에 보낼 수신자입니다.
+     * 같은 작성자의 게시글이 동시에 기록하면 뒤의 쪽이 앞 트랜잭션의 행을 기다렸다가 무시하므로 수신자당 하루 1회가 지켜지며,
+     * 두 트랜잭션이 행을 같은 순서로 잠그도록 수신자 ID 순으로 넣습니다.
+     *
+     * @return 새로 기록된 행 수
      */
-    boolean existsByAuthorIdAndReceiverIdAndPushDate(UUID authorId, UUID receiverId, LocalDate pushDate);
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO article_push_history
+                   (author_id, receiver_id, push_date, article_id, created_at, updated_at, is_deleted)
+            SELECT UNHEX(REPLACE(:authorId, '-', '')), m.id, :pushDate, UNHEX(REPLACE(:articleId, '-', '')), :now, :now, b'0'
+              FROM (SELECT f.receiver_id AS friend_id
+                      FROM friendship f
+                     WHERE f.requester_id = UNHEX(REPLACE(:authorId, '-', ''))
+                       AND f.status = 'ACCEPTED'
+                       AND f.receiver_allows_post_push = b'1'
+                    UNION ALL
+                    SELECT f.requester_id
+                      FROM friendship f
+                     WHERE f.receiver_id = UNHEX(REPLACE(:authorId, '-', ''))
+                       AND f.status = 'ACCEPTED'
+                       AND f.requester_allows_post_push = b'1') friends
+              JOIN member m ON m.id = friends.friend_id
+             WHERE m.id <> UNHEX(REPLACE(:authorId, '-', ''))
+               AND m.push_enabled = b'1'
+               AND m.friend_workout_push_enabled = b'1'
+             ORDER BY m.id
+            """, nativeQuery = true)
+    int insertForPushableFriends(@Param("authorId") String authorId,
+                                 @Param("articleId") String articleId,
+                                 @Param("pushDate") LocalDate pushDate,
+                                 @Param("now") LocalDateTime now);
+
+    /**
+     * 해당 게시글로 기록된 발송 이력의 수신자 ID 목록 (uk_author_receiver_date 의 author_id 범위 조회)
+     */
+    @Query("""
+            SELECT h.receiverId
+              FROM ArticlePushHistory h
+             WHERE h.authorId = :authorId
+               AND h.pushDate = :pushDate
+               AND h.articleId = :articleId
+            """)
+    List<UUID> findReceiverIdsByArticle(@Param("authorId") UUID authorId,
+                                        @Param("pushDate") LocalDate pushDate,
+                                        @Param("articleId") UUID articleId);
 
     /**
      * 오래된 푸시 이력 삭제 (예: 30일 이상 된 데이터)
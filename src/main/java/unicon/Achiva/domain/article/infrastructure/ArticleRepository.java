@@ -1,11 +1,9 @@
 package unicon.Achiva.domain.article.infrastructure;
 
-import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import unicon.Achiva.domain.article.dto.SearchArticleCondition;
@@ -22,10 +20,9 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query("""
             SELECT a.category, COUNT(a)
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id = :memberId
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
              GROUP BY a.category
             """)
     List<Object[]> countArticlesByCategoryForMember(@Param("memberId") UUID memberId);
@@ -33,10 +30,9 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query("""
             SELECT a.category, COUNT(a)
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id = :memberId
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
                AND (:startDate is null or a.createdAt >= :startDate)
                AND (:endDate is null or a.createdAt <= :endDate)
              GROUP BY a.category
@@ -48,79 +44,57 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query("""
             SELECT a.member.id, COUNT(a)
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id IN :memberIds
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
              GROUP BY a.member.id
             """)
     List<Object[]> countArticlesByMemberIds(@Param("memberIds") Collection<UUID> memberIds);
 
     /**
-     * [수정됨] isBookTitle 필드 대신 LEFT JOIN을 사용하여 책의 대표(메인) 아티클을 피드에서 제외합니다.
-     * Article(a)을 기준으로 Book(b) 테이블과 LEFT JOIN을 수행합니다.
-     * 만약 아티클이 어떤 책의 대표 아티클(mainArticle)이라면 b.id가 존재할 것이고,
-     * 그렇지 않다면 b.id는 NULL이 됩니다.
-     * WHERE b.id IS NULL 조건을 통해 대표 아티클이 아닌 일반 아티클만 필터링합니다.
+     * 여러 게시글의 사진 URL 을 한 번에 조회합니다.
+     * 각 행은 [articleId, photoUrl] 이며 게시글 안에서는 photo_order 순입니다.
      */
-    @EntityGraph(attributePaths = "member")
-    @Query(value = """
-            SELECT a
+    @Query("""
+            SELECT a.id, p
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
-             WHERE (a.member.id IN :friendIds
-                 OR a.member.id IN :cheererIds)
-               AND a.member.organization.id = :organizationId
-               AND b.id IS NULL
-             ORDER BY
-                 CASE WHEN a.member.id IN :friendIds THEN 0 ELSE 1 END,
-                 a.createdAt DESC
-            """,
-            countQuery = """
-                    SELECT COUNT(a)
-                      FROM Article a
-                      LEFT JOIN Book b ON a.id = b.mainArticle.id
-                     WHERE (a.member.id IN :friendIds
-                         OR a.member.id IN :cheererIds)
-                       AND a.member.organization.id = :organizationId
-                       AND b.id IS NULL
-                    """)
-    Page<Article> findCombinedFeed(
-            @Param("friendIds") Collection<UUID> friendIds,
-            @Param("cheererIds") Collection<UUID> cheererIds,
-            @Param("organizationId") Long organizationId,
-            @ParameterObject Pageable pageable
-    );
+              JOIN a.photoUrls p
+             WHERE a.id IN :articleIds
+             ORDER BY a.id ASC, INDEX(p) ASC
+            """)
+    List<Object[]> findPhotoUrlsByArticleIds(@Param("articleIds") Collection<UUID> articleIds);
 
-    @Modifying(flushAutomatically = true)
+    /**
+     * 게시글별 회원-카테고리 안 순번 (articleId, rank). author_category_seq 이하인 같은 회원-카테고리 글 수이며
+     * (member_id, category, author_category_seq) 인덱스 범위만 읽습니다.
+     */
     @Query("""
-              update Article a
-                 set a.authorCategorySeq = a.authorCategorySeq - 1
-               where a.member.id = :memberId
-                 and a.category   = :category
-                 and a.authorCategorySeq > :fromSeq
+            SELECT a.id,
+                   (SELECT COUNT(o)
+                      FROM Article o
+                     WHERE o.member = a.member
+                       AND o.category = a.category
+                       AND o.authorCategorySeq <= a.authorCategorySeq)
+              FROM Article a
+             WHERE a.id IN :articleIds
             """)
-    int shiftLeft(@Param("memberId") UUID memberId,
-                  @Param("category") Category category,
-                  @Param("fromSeq") long fromSeq);
+    List<Object[]> findAuthorCategoryRanksByArticleIds(@Param("articleIds") Collection<UUID> articleIds);
 
     @EntityGraph(attributePaths = "member")
     @Query(value = """
             SELECT a
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id = :memberId
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
              ORDER BY a.createdAt DESC
             """,
             countQuery = """
                     SELECT COUNT(a)
                       FROM Article a
-                      LEFT JOIN Book b ON a.id = b.mainArticle.id
                      WHERE a.member.id = :memberId
                        AND a.isDeleted = false
-                       AND b.id IS NULL
+                       AND a.bookMain = false
                     """)
     Page<Article> findAllByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
 
@@ -128,21 +102,19 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query(value = """
             SELECT a
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id = :memberId
                AND a.category = :category
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
              ORDER BY a.createdAt DESC
             """,
             countQuery = """
                     SELECT COUNT(a)
                       FROM Article a
-                      LEFT JOIN Book b ON a.id = b.mainArticle.id
                      WHERE a.member.id = :memberId
                        AND a.category = :category
                        AND a.isDeleted = false
-                       AND b.id IS NULL
+                       AND a.bookMain = false
                     """)
     Page<Article> findByMemberIdWithCategory(@Param("memberId") UUID memberId, @Param("category") Category category, Pageable pageable);
 
@@ -150,21 +122,19 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query(value = """
             SELECT a
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.category = :category
                AND a.member.organization.id = :organizationId
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
              ORDER BY a.createdAt DESC
             """,
             countQuery = """
                     SELECT COUNT(a)
                       FROM Article a
-                      LEFT JOIN Book b ON a.id = b.mainArticle.id
                      WHERE a.category = :category
                        AND a.member.organization.id = :organizationId
                        AND a.isDeleted = false
-                       AND b.id IS NULL
+                       AND a.bookMain = false
                     """)
     Page<Article> findAllByCategory(@Param("category") Category category,
                                     @Param("organizationId") Long organizationId,
@@ -177,18 +147,16 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query(value = """
             SELECT a
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.isDeleted = false
                AND a.member.organization.id = :organizationId
-               AND b.id IS NULL
+               AND a.bookMain = false
             """,
             countQuery = """
                     SELECT COUNT(a)
                       FROM Article a
-                      LEFT JOIN Book b ON a.id = b.mainArticle.id
                      WHERE a.isDeleted = false
                        AND a.member.organization.id = :organizationId
-                       AND b.id IS NULL
+                       AND a.bookMain = false
                     """)
     Page<Article> findAllByIsDeletedFalse(@Param("organizationId") Long organizationId, Pageable pageable);
 
@@ -202,25 +170,23 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query(value = """
             SELECT DISTINCT a
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
               INNER JOIN Cheering c ON (c.sender.id = :memberId AND c.receiver.id = a.member.id AND c.isDeleted = false)
                                     OR (c.receiver.id = :memberId AND c.sender.id = a.member.id AND c.isDeleted = false)
              WHERE a.member.id <> :memberId
                AND a.member.organization.id = :organizationId
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
              ORDER BY a.createdAt DESC
             """,
             countQuery = """
                     SELECT COUNT(DISTINCT a.id)
                       FROM Article a
-                      LEFT JOIN Book b ON a.id = b.mainArticle.id
                       INNER JOIN Cheering c ON (c.sender.id = :memberId AND c.receiver.id = a.member.id AND c.isDeleted = false)
                                             OR (c.receiver.id = :memberId AND c.sender.id = a.member.id AND c.isDeleted = false)
                      WHERE a.member.id <> :memberId
                        AND a.member.organization.id = :organizationId
                        AND a.isDeleted = false
-                       AND b.id IS NULL
+                       AND a.bookMain = false
                     """)
     Page<Article> findByCheeringRelatedMembers(
             @Param("memberId") UUID memberId,
@@ -229,35 +195,34 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     );
 
     /**
-     * 특정 기간 동안 작성한 게시글의 총 글자 수를 조회합니다.
-     * Question의 content 필드만 글자 수로 계산합니다.
-     * @param memberId 사용자 ID
-     * @param startDate 시작 일시 (null이면 제한 없음)
-     * @param endDate 종료 일시 (null이면 제한 없음)
-     * @return 총 글자 수
+     * 짧은 구간(기간의 앞/뒤 하루 미만 경계) 동안 작성한 게시글의 글자 수 합계를 조회합니다.
+     * 하루 단위 구간은 member_daily_char_count 집계를 사용하고, 이 쿼리는 경계 구간에만 사용합니다.
+     * @param startDate 시작 일시 (포함)
+     * @param endExclusive 종료 일시 (미포함, null이면 사용 안 함)
+     * @param endInclusive 종료 일시 (포함, null이면 사용 안 함)
+     * @return 글자 수 합계
      */
     @Query("""
-            SELECT COALESCE(SUM(LENGTH(q.content)), 0)
+            SELECT COALESCE(SUM(a.charCount), 0)
             FROM Article a
-            JOIN a.questions q
-            LEFT JOIN Book b ON a.id = b.mainArticle.id
             WHERE a.member.id = :memberId
             AND a.isDeleted = false
-            AND b.id IS NULL
-            AND (:startDate is null or a.createdAt >= :startDate)
-            AND (:endDate is null or a.createdAt <= :endDate)
+            AND a.bookMain = false
+            AND a.createdAt >= :startDate
+            AND (:endExclusive is null or a.createdAt < :endExclusive)
+            AND (:endInclusive is null or a.createdAt <= :endInclusive)
             """)
-    long countTotalCharactersByDateRange(@Param("memberId") UUID memberId,
-                                          @Param("startDate") java.time.LocalDateTime startDate,
-                                          @Param("endDate") java.time.LocalDateTime endDate);
+    long sumCharCountByCreatedAtRange(@Param("memberId") UUID memberId,
+                                      @Param("startDate") java.time.LocalDateTime startDate,
+                                      @Param("endExclusive") java.time.LocalDateTime endExclusive,
+                                      @Param("endInclusive") java.time.LocalDateTime endInclusive);
 
     @Query("""
             SELECT COUNT(a)
             FROM Article a
-            LEFT JOIN Book b ON a.id = b.mainArticle.id
             WHERE a.member.id = :memberId
             AND a.isDeleted = false
-            AND b.id IS NULL
+            AND a.bookMain = false
             AND (:startDate is null or a.createdAt >= :startDate)
             AND (:endDate is null or a.createdAt <= :endDate)
             """)
@@ -266,28 +231,24 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
                                   @Param("endDate") java.time.LocalDateTime endDate);
 
     /**
-     * 카테고리별로 작성한 게시글의 글자 수를 조회합니다.
-     * Question의 content 필드만 글자 수로 계산합니다.
-     * @param memberId 사용자 ID
-     * @param startDate 시작 일시 (null이면 제한 없음)
-     * @param endDate 종료 일시 (null이면 제한 없음)
-     * @return 카테고리별 글자 수 (Category, Long)
+     * 짧은 경계 구간 동안 작성한 게시글의 카테고리별 글자 수 합계를 조회합니다. (Category, Long)
+     * 파라미터 의미는 {@link #sumCharCountByCreatedAtRange} 와 같습니다.
      */
     @Query("""
-            SELECT a.category, COALESCE(SUM(LENGTH(q.content)), 0)
+            SELECT a.category, COALESCE(SUM(a.charCount), 0)
             FROM Article a
-            JOIN a.questions q
-            LEFT JOIN Book b ON a.id = b.mainArticle.id
             WHERE a.member.id = :memberId
             AND a.isDeleted = false
-            AND b.id IS NULL
-            AND (:startDate is null or a.createdAt >= :startDate)
-            AND (:endDate is null or a.createdAt <= :endDate)
+            AND a.bookMain = false
+            AND a.createdAt >= :startDate
+            AND (:endExclusive is null or a.createdAt < :endExclusive)
+            AND (:endInclusive is null or a.createdAt <= :endInclusive)
             GROUP BY a.category
             """)
-    List<Object[]> countCharactersByCategoryAndDateRange(@Param("memberId") UUID memberId,
-                                                          @Param("startDate") java.time.LocalDateTime startDate,
-                                                          @Param("endDate") java.time.LocalDateTime endDate);
+    List<Object[]> sumCharCountByCategoryAndCreatedAtRange(@Param("memberId") UUID memberId,
+                                                           @Param("startDate") java.time.LocalDateTime startDate,
+                                                           @Param("endExclusive") java.time.LocalDateTime endExclusive,
+                                                           @Param("endInclusive") java.time.LocalDateTime endInclusive);
 
     /**
      * 모임 피드용: 특정 멤버 UUID 목록의 게시물을 최신순으로 조회
@@ -296,19 +257,17 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query(value = """
             SELECT a
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id IN :memberIds
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
              ORDER BY a.createdAt DESC
             """,
             countQuery = """
                     SELECT COUNT(a)
                       FROM Article a
-                      LEFT JOIN Book b ON a.id = b.mainArticle.id
                      WHERE a.member.id IN :memberIds
                        AND a.isDeleted = false
-                       AND b.id IS NULL
+                       AND a.bookMain = false
                     """)
     Page<Article> findByMemberIds(
             @Param("memberIds") Collection<UUID> memberIds,
@@ -321,10 +280,9 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query("""
             SELECT a.member.id, COUNT(a)
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id IN :memberIds
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
                AND a.createdAt >= :startDate
              GROUP BY a.member.id
             """)
@@ -336,10 +294,9 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
     @Query("""
             SELECT a.member.id, COUNT(DISTINCT FUNCTION('DATE', a.createdAt))
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id IN :memberIds
                AND a.isDeleted = false
-               AND b.id IS NULL
+               AND a.bookMain = false
                AND a.createdAt >= :startDate
              GROUP BY a.member.id
             """)
@@ -348,38 +305,20 @@ public interface ArticleRepository extends JpaRepository<Article, UUID>, Article
             @Param("startDate") java.time.LocalDateTime startDate
     );
 
+    /**
+     * 한 주 등 제한된 구간의 작성 시각만 조회합니다. (주간 활동 집계 재계산용)
+     */
     @Query("""
             SELECT a.createdAt
               FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
              WHERE a.member.id = :memberId
                AND a.isDeleted = false
-               AND b.id IS NULL
-             ORDER BY a.createdAt DESC
+               AND a.bookMain = false
+               AND a.createdAt >= :start
+               AND a.createdAt < :end
             """)
-    List<java.time.LocalDateTime> findAllCreatedAtByMemberId(@Param("memberId") UUID memberId);
+    List<java.time.LocalDateTime> findCreatedAtByMemberIdAndRange(@Param("memberId") UUID memberId,
+                                                                  @Param("start") java.time.LocalDateTime start,
+                                                                  @Param("end") java.time.LocalDateTime end);
 
-    @Query("""
-            SELECT a.member.id, a.createdAt
-              FROM Article a
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
-             WHERE a.member.id IN :memberIds
-               AND a.isDeleted = false
-               AND b.id IS NULL
-             ORDER BY a.member.id ASC, a.createdAt DESC
-            """)
-    List<Object[]> findAllCreatedAtByMemberIds(@Param("memberIds") Collection<UUID> memberIds);
-
-    @Query("""
-            SELECT a.category, m.id, m.nickName, m.profileImageUrl, COUNT(a)
-              FROM Article a
-              JOIN a.member m
-              LEFT JOIN Book b ON a.id = b.mainArticle.id
-             WHERE a.isDeleted = false
-               AND m.organization.id = :organizationId
-               AND b.id IS NULL
-             GROUP BY a.category, m.id, m.nickName, m.profileImageUrl
-             ORDER BY a.category ASC, COUNT(a) DESC, m.nickName ASC
-            """)
-    List<Object[]> countArticlesByCategoryAndMember(@Param("organizationId") Long organizationId);
 }
@@ -12,7 +12,6 @@ import org.springframework.stereotype.Repository;
 import unicon.Achiva.domain.article.dto.SearchArticleCondition;
 import unicon.Achiva.domain.article.entity.Article;
 import unicon.Achiva.domain.article.entity.Question;
-import unicon.Achiva.domain.book.entity.Book;
 import unicon.Achiva.domain.category.Category;
 
 import java.util.ArrayList;
@@ -67,10 +66,7 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         preds.add(cb.isFalse(a.get("isDeleted")));
         preds.add(cb.equal(a.get("member").get("organization").get("id"), organizationId));
 
-        Subquery<java.util.UUID> mainArticleSubquery = cq.subquery(java.util.UUID.class);
-        Root<Book> bookRoot = mainArticleSubquery.from(Book.class);
-        mainArticleSubquery.select(bookRoot.get("mainArticle").get("id"));
-        preds.add(cb.not(a.get("id").in(mainArticleSubquery)));
+        preds.add(cb.isFalse(a.get("bookMain")));
 
         // 카테고리 필터 (옵션)
         if (category != null) {
@@ -116,10 +112,7 @@ public class ArticleRepositoryImpl implements ArticleRepositoryCustom {
         countPreds.add(cb.isFalse(ca.get("isDeleted")));
         countPreds.add(cb.equal(ca.get("member").get("organization").get("id"), organizationId));
 
-        Subquery<java.util.UUID> countMainArticleSubquery = countCq.subquery(java.util.UUID.class);
-        Root<Book> countBookRoot = countMainArticleSubquery.from(Book.class);
-        countMainArticleSubquery.select(countBookRoot.get("mainArticle").get("id"));
-        countPreds.add(cb.not(ca.get("id").in(countMainArticleSubquery)));
+        countPreds.add(cb.isFalse(ca.get("bookMain")));
 
         if (category != null) {
             countPreds.add(cb.equal(ca.get("category"), category));
@@ -0,0 +1,9 @@
+package unicon.Achiva.domain.article.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import unicon.Achiva.domain.article.entity.ArticleSearchDocument;
+
+import java.util.UUID;
+
+public interface ArticleSearchDocumentRepository extends JpaRepository<ArticleSearchDocument, UUID>, ArticleSearchDocumentRepositoryCustom {
+}
@@ -0,0 +1,21 @@
+package unicon.Achiva.domain.article.infrastructure;
+
+import unicon.Achiva.domain.category.Category;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArticleSearchDocumentRepositoryCustom {
+
+    /**
+     * FULLTEXT 인덱스로 키워드가 포함된 게시글 ID 를 최신순((createdAt, id) DESC)으로 조회합니다.
+     * cursorCreatedAt 이 null 이면 첫 페이지로 간주합니다.
+     */
+    List<UUID> searchArticleIds(String keyword,
+                                Long organizationId,
+                                Category category,
+                                LocalDateTime cursorCreatedAt,
+                                UUID cursorId,
+                                int limit);
+}
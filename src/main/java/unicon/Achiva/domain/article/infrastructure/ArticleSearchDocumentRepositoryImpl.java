@@ -0,0 +1,80 @@
+package unicon.Achiva.domain.article.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import unicon.Achiva.domain.category.Category;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleSearchDocumentRepositoryImpl implements ArticleSearchDocumentRepositoryCustom {
+
+    private final EntityManager em;
+
+    /**
+     * MATCH ... AGAINST 는 JPQL 로 표현할 수 없어 native 쿼리를 사용합니다.
+     * 키워드는 BOOLEAN MODE 의 구(phrase)로 감싸 ngram 토큰이 연속으로 일치하는 문서만 찾으므로
+     * 기존 LIKE '%kw%' 와 같은 "포함" 의미를 유지합니다.
+     */
+    @Override
+    public List<UUID> searchArticleIds(String keyword,
+                                       Long organizationId,
+                                       Category category,
+                                       LocalDateTime cursorCreatedAt,
+                                       UUID cursorId,
+                                       int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT d.article_id
+                  FROM article_search_document d
+                  JOIN article a ON a.id = d.article_id
+                 WHERE d.organization_id = :organizationId
+                   AND MATCH(d.content) AGAINST (:phrase IN BOOLEAN MODE)
+                   AND a.is_deleted = b'0'
+                   AND a.is_book_main = b'0'
+                """);
+        if (category != null) {
+            sql.append(" AND d.category = :category");
+        }
+        if (cursorCreatedAt != null) {
+            sql.append("""
+                     AND (d.article_created_at < :cursorCreatedAt
+                          OR (d.article_created_at = :cursorCreatedAt AND d.article_id < UNHEX(REPLACE(:cursorId, '-', ''))))
+                    """);
+        }
+        sql.append(" ORDER BY d.article_created_at DESC, d.article_id DESC LIMIT :limit");
+
+        Query query = em.createNativeQuery(sql.toString())
+                .setParameter("organizationId", organizationId)
+                .setParameter("phrase", toPhrase(keyword))
+                .setParameter("limit", limit);
+        if (category != null) {
+            query.setParameter("category", category.name());
+        }
+        if (cursorCreatedAt != null) {
+            query.setParameter("cursorCreatedAt", cursorCreatedAt);
+            query.setParameter("cursorId", cursorId.toString());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<byte[]> rows = query.getResultList();
+        return rows.stream()
+                .map(ArticleSearchDocumentRepositoryImpl::toUuid)
+                .toList();
+    }
+
+    private static String toPhrase(String keyword) {
+        // BOOLEAN MODE 연산자로 해석되지 않도록 큰따옴표를 제거한 뒤 구로 감쌉니다.
+        return "\"" + keyword.replace("\"", " ").trim() + "\"";
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,136 @@
+package unicon.Achiva.domain.article.infrastructure;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.entity.HomeTimeline;
+import unicon.Achiva.domain.friendship.FriendshipStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface HomeTimelineRepository extends JpaRepository<HomeTimeline, Long> {
+
+    /**
+     * 홈 피드 offset 페이지 조회.
+     * 친구 게시글(bucket 0) → 응원 관계 게시글(bucket 1) 순, 각 bucket 안에서는 최신순입니다.
+     * 책의 대표(메인) 아티클은 article.is_book_main 플래그로 제외합니다.
+     */
+    @Query(value = """
+            SELECT a
+              FROM HomeTimeline t
+              JOIN Article a ON a.id = t.articleId
+             WHERE t.ownerId = :ownerId
+               AND a.member.organization.id = :organizationId
+               AND a.bookMain = false
+             ORDER BY t.bucket ASC, t.articleCreatedAt DESC, t.articleId DESC
+            """,
+            countQuery = """
+                    SELECT COUNT(t)
+                      FROM HomeTimeline t
+                      JOIN Article a ON a.id = t.articleId
+                     WHERE t.ownerId = :ownerId
+                       AND a.member.organization.id = :organizationId
+                       AND a.bookMain = false
+                    """)
+    Page<Article> findFeedPage(@Param("ownerId") UUID ownerId,
+                               @Param("organizationId") Long organizationId,
+                               Pageable pageable);
+
+    /**
+     * 홈 피드 커서 조회.
+     * (bucket, articleCreatedAt, articleId) keyset 으로 커서 이후 위치부터 limit 개를 가져옵니다.
+     * 각 행은 [bucket(Integer), Article] 입니다. cursorBucket 이 null 이면 첫 페이지로 간주합니다.
+     */
+    @Query("""
+            SELECT t.bucket, a
+              FROM HomeTimeline t
+              JOIN Article a ON a.id = t.articleId
+             WHERE t.ownerId = :ownerId
+               AND a.member.organization.id = :organizationId
+               AND a.bookMain = false
+               AND (:cursorBucket IS NULL
+                    OR t.bucket > :cursorBucket
+                    OR (t.bucket = :cursorBucket
+                        AND (t.articleCreatedAt < :cursorCreatedAt
+                             OR (t.articleCreatedAt = :cursorCreatedAt AND t.articleId < :cursorId))))
+             ORDER BY t.bucket ASC, t.articleCreatedAt DESC, t.articleId DESC
+            """)
+    List<Object[]> findFeedSlice(@Param("ownerId") UUID ownerId,
+                                 @Param("organizationId") Long organizationId,
+                                 @Param("cursorBucket") Integer cursorBucket,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") UUID cursorId,
+                                 Limit limit);
+
+    boolean existsByOwnerIdAndAuthorId(UUID ownerId, UUID authorId);
+
+    /**
+     * 새 게시글을 작성자의 친구들 타임라인에 bucket 0 으로 기록합니다.
+     * 같은 organization 의 친구에게만 기록합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            INSERT INTO HomeTimeline (ownerId, articleId, authorId, bucket, articleCreatedAt)
+            SELECT DISTINCT
+                   CASE WHEN f.requester.id = a.member.id THEN f.receiver.id ELSE f.requester.id END,
+                   a.id, a.member.id, 0, a.createdAt
+              FROM Article a, Friendship f
+             WHERE a.id = :articleId
+               AND (f.requester.id = a.member.id OR f.receiver.id = a.member.id)
+               AND f.status = :status
+               AND f.requester.organization.id = f.receiver.organization.id
+            """)
+    int fanOutToFriends(@Param("articleId") UUID articleId,
+                        @Param("status") FriendshipStatus status);
+
+    /**
+     * 새 게시글을 작성자가 응원했던 사용자들의 타임라인에 bucket 1 로 기록합니다.
+     * 이미 친구로 기록된 사용자는 NOT EXISTS 로 건너뛰므로 fanOutToFriends 이후에 호출해야 합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            INSERT INTO HomeTimeline (ownerId, articleId, authorId, bucket, articleCreatedAt)
+            SELECT DISTINCT c.receiver.id, a.id, a.member.id, 1, a.createdAt
+              FROM Article a, Cheering c
+             WHERE a.id = :articleId
+               AND c.sender.id = a.member.id
+               AND c.receiver.id <> a.member.id
+               AND c.receiver.organization.id = a.member.organization.id
+               AND NOT EXISTS (
+                   SELECT 1 FROM HomeTimeline t
+                    WHERE t.ownerId = c.receiver.id
+                      AND t.articleId = a.id
+               )
+            """)
+    int fanOutToCheeredMembers(@Param("articleId") UUID articleId);
+
+    /**
+     * 작성자의 기존 게시글 전체를 owner 타임라인에 지정한 bucket 으로 기록합니다. (친구 수락, 첫 응원 시)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            INSERT INTO HomeTimeline (ownerId, articleId, authorId, bucket, articleCreatedAt)
+            SELECT :ownerId, a.id, a.member.id, :bucket, a.createdAt
+              FROM Article a
+             WHERE a.member.id = :authorId
+            """)
+    int appendAuthorArticles(@Param("ownerId") UUID ownerId,
+                             @Param("authorId") UUID authorId,
+                             @Param("bucket") int bucket);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM HomeTimeline t WHERE t.ownerId = :ownerId AND t.authorId = :authorId")
+    int deleteByOwnerIdAndAuthorId(@Param("ownerId") UUID ownerId,
+                                   @Param("authorId") UUID authorId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM HomeTimeline t WHERE t.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") UUID articleId);
+}
@@ -0,0 +1,59 @@
+package unicon.Achiva.domain.article.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.article.entity.MemberDailyCharCount;
+import unicon.Achiva.domain.article.entity.MemberDailyCharCountKey;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface MemberDailyCharCountRepository extends JpaRepository<MemberDailyCharCount, MemberDailyCharCountKey> {
+
+    /**
+     * 해당 (회원, 일자, 카테고리) 행에 delta 를 더합니다. 행이 없으면 생성합니다.
+     * 같은 행을 동시에 갱신해도 누락이 없도록 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 처리합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_daily_char_count (member_id, activity_date, category, char_count)
+            VALUES (UNHEX(REPLACE(:memberId, '-', '')), :activityDate, :category, :delta) AS new
+            ON DUPLICATE KEY UPDATE char_count = member_daily_char_count.char_count + new.char_count
+            """, nativeQuery = true)
+    int addCharCount(@Param("memberId") String memberId,
+                     @Param("activityDate") LocalDate activityDate,
+                     @Param("category") String category,
+                     @Param("delta") long delta);
+
+    /**
+     * [fromDate, toDate) 구간 일자의 글자 수 합계. null 이면 해당 방향으로 제한 없음.
+     */
+    @Query("""
+            SELECT COALESCE(SUM(d.charCount), 0)
+              FROM MemberDailyCharCount d
+             WHERE d.id.memberId = :memberId
+               AND (:fromDate is null or d.id.activityDate >= :fromDate)
+               AND (:toDate is null or d.id.activityDate < :toDate)
+            """)
+    long sumCharCount(@Param("memberId") UUID memberId,
+                      @Param("fromDate") LocalDate fromDate,
+                      @Param("toDate") LocalDate toDate);
+
+    /**
+     * [fromDate, toDate) 구간 일자의 카테고리별 글자 수 합계 (Category, Long)
+     */
+    @Query("""
+            SELECT d.id.category, COALESCE(SUM(d.charCount), 0)
+              FROM MemberDailyCharCount d
+             WHERE d.id.memberId = :memberId
+               AND (:fromDate is null or d.id.activityDate >= :fromDate)
+               AND (:toDate is null or d.id.activityDate < :toDate)
+             GROUP BY d.id.category
+            """)
+    List<Object[]> sumCharCountByCategory(@Param("memberId") UUID memberId,
+                                          @Param("fromDate") LocalDate fromDate,
+                                          @Param("toDate") LocalDate toDate);
+}
@@ -1,7 +1,21 @@
 package unicon.Achiva.domain.article.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import unicon.Achiva.domain.article.entity.Question;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+    @Query("""
+            SELECT q
+              FROM Question q
+             WHERE q.article.id IN :articleIds
+             ORDER BY q.id ASC
+            """)
+    List<Question> findAllByArticleIdIn(@Param("articleIds") Collection<UUID> articleIds);
 }
@@ -11,6 +11,7 @@ import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
 import unicon.Achiva.domain.auth.infrastructure.CognitoService;
 import unicon.Achiva.domain.auth.infrastructure.OIDCUserInfoService;
 import unicon.Achiva.domain.member.Gender;
+import unicon.Achiva.domain.member.MemberExistenceCache;
 import unicon.Achiva.domain.member.MemberErrorCode;
 import unicon.Achiva.domain.member.dto.MemberResponse;
 import unicon.Achiva.domain.member.entity.Member;
@@ -46,6 +47,7 @@ public class AuthService {
     private final LinkTokenRepository linkTokenRepository;
     private final ArticleRepository articleRepository;
     private final OrganizationService organizationService;
+    private final MemberExistenceCache memberExistenceCache;
 
     @Transactional
     public CreateMemberResponse signup(MemberRequest requestDto) {
@@ -75,6 +77,7 @@ public class AuthService {
                 .build();
 
         Member savedMember = memberRepository.save(member);
+        memberExistenceCache.invalidate(savedMember.getId());
 
         return CreateMemberResponse.fromEntity(savedMember);
     }
@@ -201,6 +204,7 @@ public class AuthService {
 
         // 4. 익명 Member 저장
         memberRepository.save(member);
+        memberExistenceCache.invalidate(memberId);
 
         // 5. Cognito 계정 삭제
         try {
@@ -1,7 +1,9 @@
 package unicon.Achiva.domain.auth.infrastructure;
 
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,6 +11,7 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import unicon.Achiva.global.config.RestTemplateConfig;
 
 import java.util.Collections;
 import java.util.Map;
@@ -16,9 +19,11 @@ import java.util.Optional;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class OIDCUserInfoService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Qualifier(RestTemplateConfig.OIDC_REST_TEMPLATE)
+    private final RestTemplate restTemplate;
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
     private String issuerUri;
     private String userInfoEndpoint;
@@ -5,7 +5,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.ArticleCharacterCountService;
 import unicon.Achiva.domain.article.ArticleErrorCode;
+import unicon.Achiva.domain.article.ArticleResponseAssembler;
 import unicon.Achiva.domain.article.ArticleService;
 import unicon.Achiva.domain.article.entity.Article;
 import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
@@ -14,12 +16,15 @@ import unicon.Achiva.domain.book.dto.BookResponse;
 import unicon.Achiva.domain.book.entity.Book;
 import unicon.Achiva.domain.book.entity.BookArticle;
 import unicon.Achiva.domain.book.infrastructure.BookRepository;
+import unicon.Achiva.domain.category.CategoryLeaderboardService;
+import unicon.Achiva.domain.member.MemberActivityService;
 import unicon.Achiva.domain.member.MemberErrorCode;
 import unicon.Achiva.domain.member.entity.Member;
 import unicon.Achiva.domain.member.infrastructure.MemberRepository;
 import unicon.Achiva.domain.organization.OrganizationAccessService;
 import unicon.Achiva.global.response.GeneralException;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +42,10 @@ public class BookService {
 
     private final ArticleService articleService;
     private final OrganizationAccessService organizationAccessService;
+    private final MemberActivityService memberActivityService;
+    private final ArticleCharacterCountService articleCharacterCountService;
+    private final CategoryLeaderboardService categoryLeaderboardService;
+    private final ArticleResponseAssembler articleResponseAssembler;
 
     @Transactional(readOnly = true)
     protected Member getCurrentMember(UUID memberId) {
@@ -72,8 +81,13 @@ public class BookService {
 
         Book savedBook = bookRepository.save(book);
         savedBook.setMainArticle(mainArticle);
+        articleCharacterCountService.unrecord(mainArticle);
+        categoryLeaderboardService.unrecord(mainArticle);
+        mainArticle.markAsBookMain();
+        // 대표 아티클은 주간 활동 집계에서 제외되므로 해당 주를 다시 계산합니다.
+        memberActivityService.rebuildWeek(memberId, mainArticle.getCreatedAt());
 
-        return BookResponse.fromEntity(savedBook);
+        return toResponse(savedBook);
     }
 
     /**
@@ -84,7 +98,7 @@ public class BookService {
         Long organizationId = organizationAccessService.getOrganizationId(requesterId);
         Book book = bookRepository.findByIdAndMember_Organization_Id(bookId, organizationId)
                 .orElseThrow(() -> new GeneralException(BookErrorCode.BOOK_NOT_FOUND));
-        return BookResponse.fromEntity(book);
+        return toResponse(book);
     }
 
     /**
@@ -93,8 +107,7 @@ public class BookService {
     @Transactional(readOnly = true)
     public Page<BookResponse> getAllBooks(UUID requesterId, Pageable pageable) {
         Long organizationId = organizationAccessService.getOrganizationId(requesterId);
-        return bookRepository.findAllByMember_Organization_Id(organizationId, pageable)
-                .map(BookResponse::fromEntity);
+        return toResponses(bookRepository.findAllByMember_Organization_Id(organizationId, pageable));
     }
 
     /**
@@ -134,7 +147,7 @@ public class BookService {
             }
         }
 
-        return BookResponse.fromEntity(book);
+        return toResponse(book);
     }
 
     /**
@@ -144,6 +157,13 @@ public class BookService {
     public void deleteBook(UUID bookId, UUID memberId) {
         Book book = bookRepository.findByIdAndMemberId(bookId, memberId)
                 .orElseThrow(() -> new GeneralException(BookErrorCode.UNAUTHORIZED_BOOK_ACCESS));
+        // 책이 사라지면 대표 아티클은 일반 게시글로 다시 노출됩니다.
+        if (book.getMainArticle() != null) {
+            book.getMainArticle().unmarkAsBookMain();
+            articleCharacterCountService.record(book.getMainArticle());
+            categoryLeaderboardService.record(book.getMainArticle());
+            memberActivityService.rebuildWeek(memberId, book.getMainArticle().getCreatedAt());
+        }
         bookRepository.delete(book);
     }
 
@@ -158,7 +178,7 @@ public class BookService {
 
         int index = book.getBookArticles().size();
         book.addArticle(article, index);
-        return BookResponse.fromEntity(book);
+        return toResponse(book);
     }
 
     /**
@@ -184,7 +204,7 @@ public class BookService {
         book.reorderIndices();
 
         // 트랜잭션이 끝나면서 재정렬된 UPDATE 쿼리가 나감
-        return BookResponse.fromEntity(book);
+        return toResponse(book);
     }
 
     /**
@@ -194,7 +214,27 @@ public class BookService {
     public Page<BookResponse> getBooksByMember(UUID requesterId, UUID targetMemberId, Pageable pageable) {
         UUID memberId = organizationAccessService.getAccessibleMember(requesterId, targetMemberId).getId();
         Long organizationId = organizationAccessService.getOrganizationId(requesterId);
-        return bookRepository.findAllByMemberIdAndMember_Organization_Id(memberId, organizationId, pageable)
-                .map(BookResponse::fromEntity);
+        return toResponses(bookRepository.findAllByMemberIdAndMember_Organization_Id(memberId, organizationId, pageable));
+    }
+
+    private BookResponse toResponse(Book book) {
+        articleResponseAssembler.assignAuthorCategoryRanks(articlesOf(List.of(book)));
+        return BookResponse.fromEntity(book);
+    }
+
+    private Page<BookResponse> toResponses(Page<Book> books) {
+        articleResponseAssembler.assignAuthorCategoryRanks(articlesOf(books.getContent()));
+        return books.map(BookResponse::fromEntity);
+    }
+
+    private static List<Article> articlesOf(List<Book> books) {
+        List<Article> articles = new ArrayList<>();
+        for (Book book : books) {
+            if (book.getMainArticle() != null) {
+                articles.add(book.getMainArticle());
+            }
+            book.getBookArticles().forEach(bookArticle -> articles.add(bookArticle.getArticle()));
+        }
+        return articles;
     }
 }
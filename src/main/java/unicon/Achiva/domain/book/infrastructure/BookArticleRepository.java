@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import unicon.Achiva.domain.book.entity.BookArticle;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,4 +23,20 @@ public interface BookArticleRepository extends JpaRepository<BookArticle, Long>
     @Query("SELECT ba FROM BookArticle ba JOIN FETCH ba.book b WHERE ba.article.id = :articleId")
     Optional<List<BookArticle>> findBookInfosByArticleId(@Param("articleId") UUID articleId);
 
+    /**
+     * 여러 아티클이 속한 책 정보를 한 번의 IN 쿼리로 조회합니다. (피드 페이지 단위 조회용)
+     * BookArticleInfoResponse 가 대표 아티클 제목을 사용하므로 mainArticle 까지 함께 가져옵니다.
+     *
+     * @param articleIds 조회할 아티클 UUID 목록
+     * @return BookArticle 엔티티 리스트 (Book, 대표 아티클 포함)
+     */
+    @Query("""
+            SELECT ba
+              FROM BookArticle ba
+              JOIN FETCH ba.book b
+              LEFT JOIN FETCH b.mainArticle
+             WHERE ba.article.id IN :articleIds
+            """)
+    List<BookArticle> findBookInfosByArticleIds(@Param("articleIds") Collection<UUID> articleIds);
+
 }
\ No newline at end of file
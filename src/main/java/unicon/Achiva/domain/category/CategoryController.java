@@ -1,9 +1,11 @@
 package unicon.Achiva.domain.category;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import unicon.Achiva.domain.article.ArticleService;
 import unicon.Achiva.domain.auth.AuthService;
@@ -36,9 +38,12 @@ public class CategoryController {
 
     @Operation(summary = "카테고리별 유저 랭킹 데이터 조회", description = "서비스 전체가 아니라 로그인한 사용자의 organization 기준 카테고리 랭킹 데이터입니다.")
     @GetMapping("/api/category/ranking")
-    public ResponseEntity<ApiResponseForm<CategoryRankingResponse>> getCategoryRanking() {
+    public ResponseEntity<ApiResponseForm<CategoryRankingResponse>> getCategoryRanking(
+            @Parameter(description = "카테고리별 상위 N명 (생략 시 전체)")
+            @RequestParam(required = false) Integer limit
+    ) {
         var requesterId = authService.getMemberIdFromToken();
-        CategoryRankingResponse response = articleService.getCategoryRanking(requesterId);
+        CategoryRankingResponse response = articleService.getCategoryRanking(requesterId, limit);
         return ResponseEntity.ok(ApiResponseForm.success(response, "카테고리별 유저 랭킹 데이터 조회 성공"));
     }
 }
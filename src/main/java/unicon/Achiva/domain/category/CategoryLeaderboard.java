@@ -0,0 +1,97 @@
+package unicon.Achiva.domain.category;
+
+import java.util.*;
+
+/**
+ * 한 organization 의 카테고리별 랭킹을 메모리에 정렬된 상태로 유지합니다.
+ * 카테고리마다 (게시글 수 내림차순, 회원 ID) 순서의 TreeSet 과 회원별 현재 값을 함께 두어
+ * 증감은 O(log M), 상위 N명 조회는 O(N) 입니다. 모든 메서드는 인스턴스 단위로 동기화됩니다.
+ * 회원 ID 순서는 TreeSet 안에서 항목을 구분하기 위한 것일 뿐이므로, 동점자 순서는 호출한 쪽이 정합니다.
+ */
+class CategoryLeaderboard {
+
+    private static final Comparator<Entry> RANKING_ORDER = Comparator
+            .comparingLong(Entry::articleCount).reversed()
+            .thenComparing(Entry::memberId);
+
+    private final Map<Category, NavigableSet<Entry>> rankings = new EnumMap<>(Category.class);
+    private final Map<Category, Map<UUID, Entry>> entries = new EnumMap<>(Category.class);
+    // 커밋 후 반영된 (카테고리, 회원) 값의 순번. 늦게 도착한 이전 값이 새 값을 덮지 않도록 비교합니다.
+    private final Map<Category, Map<UUID, Long>> versions = new EnumMap<>(Category.class);
+    private final long loadedAt;
+
+    CategoryLeaderboard(long loadedAt) {
+        this.loadedAt = loadedAt;
+        for (Category category : Category.values()) {
+            rankings.put(category, new TreeSet<>(RANKING_ORDER));
+            entries.put(category, new HashMap<>());
+            versions.put(category, new HashMap<>());
+        }
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    synchronized void add(Category category, UUID memberId, long delta) {
+        Entry current = entries.get(category).get(memberId);
+        set(category, memberId, delta + (current == null ? 0 : current.articleCount()));
+    }
+
+    /**
+     * 회원의 게시글 수를 articleCount 로 바꿉니다. 0 이하면 랭킹에서 뺍니다.
+     */
+    synchronized void set(Category category, UUID memberId, long articleCount) {
+        Map<UUID, Entry> categoryEntries = entries.get(category);
+        NavigableSet<Entry> ranking = rankings.get(category);
+
+        Entry current = categoryEntries.remove(memberId);
+        if (current != null) {
+            ranking.remove(current);
+        }
+        if (articleCount > 0) {
+            Entry updated = new Entry(memberId, articleCount);
+            categoryEntries.put(memberId, updated);
+            ranking.add(updated);
+        }
+    }
+
+    /**
+     * version 이 이미 반영한 값의 순번보다 클 때만 게시글 수를 articleCount 로 바꿉니다.
+     */
+    synchronized void set(Category category, UUID memberId, long articleCount, long version) {
+        Long applied = versions.get(category).get(memberId);
+        if (applied != null && applied >= version) {
+            return;
+        }
+        versions.get(category).put(memberId, version);
+        set(category, memberId, articleCount);
+    }
+
+    /**
+     * 게시글 수 상위 limit 명과, limit 번째와 게시글 수가 같은 회원을 모두 반환합니다.
+     * 경계의 동점자를 함께 넘겨야 호출한 쪽이 동점자 순서(닉네임 순)로 잘라낼 수 있습니다.
+     *
+     * @param limit null 이면 전체
+     */
+    synchronized List<Entry> top(Category category, Integer limit) {
+        NavigableSet<Entry> ranking = rankings.get(category);
+        if (limit == null || limit >= ranking.size()) {
+            return new ArrayList<>(ranking);
+        }
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<Entry> result = new ArrayList<>(limit);
+        for (Entry entry : ranking) {
+            if (result.size() >= limit && entry.articleCount() < result.getLast().articleCount()) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    record Entry(UUID memberId, long articleCount) {
+    }
+}
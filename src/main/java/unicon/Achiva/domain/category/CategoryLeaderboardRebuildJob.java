@@ -0,0 +1,32 @@
+package unicon.Achiva.domain.category;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import unicon.Achiva.domain.organization.entity.Organization;
+import unicon.Achiva.domain.organization.infrastructure.OrganizationRepository;
+
+/**
+ * 카테고리 랭킹 카운터를 article 기준으로 주기적으로 맞춥니다.
+ * organization 마다 별도 트랜잭션으로 재계산하므로 한 곳의 실패가 다른 organization 에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryLeaderboardRebuildJob {
+
+    private final CategoryLeaderboardService categoryLeaderboardService;
+    private final OrganizationRepository organizationRepository;
+
+    @Scheduled(cron = "${app.leaderboard.rebuild-cron:0 30 4 * * *}")
+    public void rebuildAll() {
+        for (Organization organization : organizationRepository.findAll()) {
+            try {
+                categoryLeaderboardService.rebuild(organization.getId());
+            } catch (Exception e) {
+                log.error("[Leaderboard] 카테고리 랭킹 재계산 실패 - organizationId: {}", organization.getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package unicon.Achiva.domain.category;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.category.entity.CategoryLeaderboardCount;
+import unicon.Achiva.domain.category.infrastructure.CategoryLeaderboardRepository;
+import unicon.Achiva.domain.member.entity.Member;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * organization-카테고리별 회원 게시글 수 랭킹
+ * <p>
+ * category_leaderboard 카운터 테이블이 기준 데이터이며, 게시글 작성/삭제/카테고리 이동 시 같은 트랜잭션에서 증감합니다.
+ * 조회는 organization 별로 메모리에 정렬해 둔 {@link CategoryLeaderboard} 에서 상위 N명만 읽습니다.
+ * 메모리 랭킹에는 증감이 아니라 갱신한 트랜잭션이 커밋 전에 읽어 둔 카운터 값을 커밋 후 반영하므로,
+ * 적재 스냅샷에 이미 포함된 변경이 두 번 더해지지 않습니다. 값마다 순번을 붙여 늦게 도착한 이전 값은 무시합니다.
+ * 적재는 호출한 쪽 트랜잭션에서 organization 당 한 요청만 하고(같은 organization 의 다른 요청은 그 결과를 기다림),
+ * 적재 중에 커밋된 변경은 모아 두었다가 적재한 랭킹에 다시 반영합니다.
+ * 커밋 후 반영과 적재 모두 커넥션을 추가로 잡거나 맵의 잠금을 쥔 채 DB 를 읽지 않습니다.
+ * 다른 인스턴스에서 일어난 변경은 refresh-interval 마다 카운터 테이블에서 다시 읽어 맞춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryLeaderboardService {
+
+    private final CategoryLeaderboardRepository categoryLeaderboardRepository;
+    private final MemberRepository memberRepository;
+
+    private final Map<Long, CategoryLeaderboard> leaderboards = new ConcurrentHashMap<>();
+    private final Map<Long, PendingLoad> loads = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    @Value("${app.leaderboard.refresh-interval:300}")
+    private long refreshIntervalSeconds;
+
+    /**
+     * 게시글 1건을 랭킹에 더합니다. (작성, 카테고리 이동 후, 책 대표 해제 후)
+     */
+    @Transactional
+    public void record(Article article) {
+        apply(article, 1);
+    }
+
+    /**
+     * 게시글 1건을 랭킹에서 뺍니다. (삭제, 카테고리 이동 전, 책 대표 지정 전)
+     */
+    @Transactional
+    public void unrecord(Article article) {
+        apply(article, -1);
+    }
+
+    private void apply(Article article, long delta) {
+        // 책 대표 아티클은 랭킹에서 제외됩니다.
+        if (article.isBookMain() || article.getCategory() == null) {
+            return;
+        }
+        Long organizationId = article.getMember().getOrganization().getId();
+        Category category = article.getCategory();
+        UUID memberId = article.getMember().getId();
+
+        categoryLeaderboardRepository.addArticleCount(organizationId, category.name(), memberId.toString(), delta);
+        // 방금 갱신해 이 트랜잭션이 잠근 행이므로, 읽은 값이 곧 커밋 시점의 값이고 순번도 커밋 순서를 따릅니다.
+        long articleCount = categoryLeaderboardRepository.findArticleCount(organizationId, category, memberId);
+        Change change = new Change(category, memberId, articleCount, versions.incrementAndGet());
+
+        afterCommit(() -> applyInMemory(organizationId, change));
+    }
+
+    /**
+     * 적재 중인 랭킹에 먼저 남기고 현재 랭킹에 반영합니다.
+     * 적재는 랭킹을 등록한 뒤 남은 변경을 반영하고 닫으므로, 이 순서여야 어느 시점에 끝나도 변경이 빠지지 않습니다.
+     */
+    private void applyInMemory(Long organizationId, Change change) {
+        PendingLoad pending = loads.get(organizationId);
+        if (pending != null) {
+            pending.record(change);
+        }
+        CategoryLeaderboard leaderboard = leaderboards.get(organizationId);
+        if (leaderboard != null) {
+            change.applyTo(leaderboard);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * @param limit 카테고리별 상위 N명 (null 이면 전체)
+     */
+    public CategoryRankingResponse getRanking(Long organizationId, Integer limit) {
+        CategoryLeaderboard leaderboard = getLeaderboard(organizationId);
+        Integer topN = limit != null && limit > 0 ? limit : null;
+
+        Map<Category, List<CategoryLeaderboard.Entry>> topByCategory = new EnumMap<>(Category.class);
+        Set<UUID> memberIds = new HashSet<>();
+        for (Category category : Category.values()) {
+            List<CategoryLeaderboard.Entry> top = leaderboard.top(category, topN);
+            topByCategory.put(category, top);
+            top.forEach(entry -> memberIds.add(entry.memberId()));
+        }
+
+        Map<UUID, Member> memberMap = memberIds.isEmpty()
+                ? Map.of()
+                : memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        List<CategoryRankingResponse.CategoryRanking> categories = topByCategory.entrySet().stream()
+                .map(entry -> new CategoryRankingResponse.CategoryRanking(
+                        Category.getDisplayName(entry.getKey()),
+                        entry.getValue().stream()
+                                .filter(rank -> memberMap.containsKey(rank.memberId()))
+                                .map(rank -> {
+                                    Member member = memberMap.get(rank.memberId());
+                                    return new CategoryRankingResponse.CategoryRankingMember(
+                                            member.getId(),
+                                            member.getNickName(),
+                                            member.getProfileImageUrl(),
+                                            rank.articleCount()
+                                    );
+                                })
+                                // 게시글 수가 같으면 닉네임 순. 경계의 동점자까지 받아 왔으므로 정렬한 뒤 상위 N명으로 자릅니다.
+                                .sorted(Comparator.comparing(CategoryRankingResponse.CategoryRankingMember::articleCount).reversed()
+                                        .thenComparing(CategoryRankingResponse.CategoryRankingMember::nickName,
+                                                Comparator.nullsLast(Comparator.naturalOrder())))
+                                .limit(topN == null ? Long.MAX_VALUE : topN)
+                                .toList()
+                ))
+                .toList();
+
+        return new CategoryRankingResponse(categories);
+    }
+
+    /**
+     * article 기준으로 organization 의 카운터를 다시 계산하고, 커밋 후 메모리 랭킹을 버려 다음 조회에서 새로 읽게 합니다.
+     */
+    @Transactional
+    public void rebuild(Long organizationId) {
+        categoryLeaderboardRepository.deleteAllByOrganizationId(organizationId);
+        int rows = categoryLeaderboardRepository.insertFromArticles(organizationId);
+        afterCommit(() -> leaderboards.remove(organizationId));
+        log.info("[Leaderboard] 카테고리 랭킹 재계산 - organizationId: {}, rows: {}", organizationId, rows);
+    }
+
+    private CategoryLeaderboard getLeaderboard(Long organizationId) {
+        CategoryLeaderboard leaderboard = leaderboards.get(organizationId);
+        if (isFresh(leaderboard)) {
+            return leaderboard;
+        }
+
+        PendingLoad created = new PendingLoad();
+        PendingLoad pending = loads.putIfAbsent(organizationId, created);
+        if (pending != null) {
+            // 같은 organization 을 이미 적재 중인 요청의 결과를 기다립니다.
+            return pending.result().join();
+        }
+        try {
+            CategoryLeaderboard current = leaderboards.get(organizationId);
+            CategoryLeaderboard loaded = isFresh(current) ? current : readLeaderboard(organizationId);
+            leaderboards.put(organizationId, loaded);
+            created.close(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            created.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(organizationId, created);
+        }
+    }
+
+    private boolean isFresh(CategoryLeaderboard leaderboard) {
+        return leaderboard != null && System.currentTimeMillis() - leaderboard.loadedAt() < refreshIntervalSeconds * 1000;
+    }
+
+    private CategoryLeaderboard readLeaderboard(Long organizationId) {
+        CategoryLeaderboard loaded = new CategoryLeaderboard(System.currentTimeMillis());
+        for (CategoryLeaderboardCount count : categoryLeaderboardRepository.findAllByOrganizationId(organizationId)) {
+            loaded.add(count.getId().getCategory(), count.getId().getMemberId(), count.getArticleCount());
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋된 (카테고리, 회원) 카운터 값과 그 순번
+     */
+    private record Change(Category category, UUID memberId, long articleCount, long version) {
+
+        void applyTo(CategoryLeaderboard leaderboard) {
+            leaderboard.set(category, memberId, articleCount, version);
+        }
+    }
+
+    /**
+     * 적재 중인 organization 랭킹. 적재 중에 커밋된 변경을 모아 두었다가, 적재가 끝나면 새 랭킹에 반영하고 닫습니다.
+     */
+    private static final class PendingLoad {
+
+        private final CompletableFuture<CategoryLeaderboard> result = new CompletableFuture<>();
+        private final List<Change> changes = new ArrayList<>();
+        private boolean closed;
+
+        CompletableFuture<CategoryLeaderboard> result() {
+            return result;
+        }
+
+        synchronized void record(Change change) {
+            if (!closed) {
+                changes.add(change);
+            }
+        }
+
+        synchronized void close(CategoryLeaderboard loaded) {
+            changes.forEach(change -> change.applyTo(loaded));
+            changes.clear();
+            closed = true;
+            result.complete(loaded);
+        }
+    }
+}
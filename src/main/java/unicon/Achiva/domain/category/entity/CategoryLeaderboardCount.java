@@ -0,0 +1,27 @@
+package unicon.Achiva.domain.category.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * organization-카테고리별 회원 게시글 수 (카테고리 랭킹용 카운터, 책 대표 아티클 제외)
+ * 게시글 작성/삭제/카테고리 이동 시 CategoryLeaderboardService 가 증감하고, 재계산 작업이 article 기준으로 맞춥니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(
+        name = "category_leaderboard",
+        indexes = {
+                @Index(name = "idx_category_leaderboard_member", columnList = "member_id")
+        }
+)
+public class CategoryLeaderboardCount {
+
+    @EmbeddedId
+    private CategoryLeaderboardKey id;
+
+    @Column(name = "article_count", nullable = false)
+    private long articleCount;
+}
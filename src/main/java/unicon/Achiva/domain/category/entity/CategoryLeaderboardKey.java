@@ -0,0 +1,32 @@
+package unicon.Achiva.domain.category.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import unicon.Achiva.domain.category.Category;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CategoryLeaderboardKey implements Serializable {
+
+    @Column(name = "organization_id")
+    private Long organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(50)")
+    private Category category;
+
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+}
@@ -0,0 +1,72 @@
+package unicon.Achiva.domain.category.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.category.Category;
+import unicon.Achiva.domain.category.entity.CategoryLeaderboardCount;
+import unicon.Achiva.domain.category.entity.CategoryLeaderboardKey;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CategoryLeaderboardRepository extends JpaRepository<CategoryLeaderboardCount, CategoryLeaderboardKey> {
+
+    /**
+     * (organization, 카테고리, 회원) 카운터에 delta 를 더합니다. 행이 없으면 생성합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_leaderboard (organization_id, category, member_id, article_count)
+            VALUES (:organizationId, :category, UNHEX(REPLACE(:memberId, '-', '')), :delta) AS new
+            ON DUPLICATE KEY UPDATE article_count = category_leaderboard.article_count + new.article_count
+            """, nativeQuery = true)
+    int addArticleCount(@Param("organizationId") Long organizationId,
+                        @Param("category") String category,
+                        @Param("memberId") String memberId,
+                        @Param("delta") long delta);
+
+    /**
+     * (organization, 카테고리, 회원) 카운터의 현재 값. 행이 없으면 0 입니다.
+     */
+    @Query("""
+            SELECT COALESCE(SUM(c.articleCount), 0)
+              FROM CategoryLeaderboardCount c
+             WHERE c.id.organizationId = :organizationId
+               AND c.id.category = :category
+               AND c.id.memberId = :memberId
+            """)
+    long findArticleCount(@Param("organizationId") Long organizationId,
+                          @Param("category") Category category,
+                          @Param("memberId") UUID memberId);
+
+    @Query("""
+            SELECT c
+              FROM CategoryLeaderboardCount c
+             WHERE c.id.organizationId = :organizationId
+               AND c.articleCount > 0
+            """)
+    List<CategoryLeaderboardCount> findAllByOrganizationId(@Param("organizationId") Long organizationId);
+
+    @Modifying
+    @Query(value = "DELETE FROM category_leaderboard WHERE organization_id = :organizationId", nativeQuery = true)
+    int deleteAllByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * article 기준으로 organization 의 카운터를 다시 채웁니다. deleteAllByOrganizationId 와 같은 트랜잭션에서 호출합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_leaderboard (organization_id, category, member_id, article_count)
+            SELECT m.organization_id, a.category, a.member_id, COUNT(*)
+              FROM article a
+              JOIN member m ON m.id = a.member_id
+             WHERE m.organization_id = :organizationId
+               AND a.is_deleted = b'0'
+               AND a.is_book_main = b'0'
+               AND a.category IS NOT NULL
+             GROUP BY m.organization_id, a.category, a.member_id
+            """, nativeQuery = true)
+    int insertFromArticles(@Param("organizationId") Long organizationId);
+}
@@ -114,6 +114,16 @@ public class CheeringController {
         return ResponseEntity.ok(ApiResponseForm.success(response, "응원 읽음 처리 성공"));
     }
 
+    @Operation(summary = "내 응원 일괄 읽음 처리", description = "upToId 를 지정하면 그 ID 이하의 받은 응원을 모두, 아니면 cheeringIds 의 응원을 읽음 처리하고 처리된 개수만 반환합니다.")
+    @PatchMapping("/api/cheerings/read-bulk")
+    public ResponseEntity<ApiResponseForm<CheeringReadResponse>> markCheeringsRead(
+            @RequestBody CheeringReadRequest request
+    ) {
+        UUID receiverId = authService.getMemberIdFromToken();
+        CheeringReadResponse response = cheeringService.markCheeringsRead(request, receiverId);
+        return ResponseEntity.ok(ApiResponseForm.success(response, "응원 일괄 읽음 처리 성공"));
+    }
+
     @Operation(
             summary = "특정 기간 동안 특정 유저가 보낸 총 응원 점수 조회",
             description = "기간을 지정하여 특정 유저가 보낸 응원의 총 점수를 조회합니다. " +
@@ -7,11 +7,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import unicon.Achiva.domain.article.ArticleErrorCode;
+import unicon.Achiva.domain.article.HomeTimelineService;
 import unicon.Achiva.domain.article.entity.Article;
 import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
 import unicon.Achiva.domain.cheering.dto.*;
 import unicon.Achiva.domain.cheering.entity.Cheering;
-import unicon.Achiva.domain.cheering.infrastructure.CategoryStatProjection;
 import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
 import unicon.Achiva.domain.member.MemberErrorCode;
 import unicon.Achiva.domain.member.entity.Member;
@@ -40,6 +40,9 @@ public class CheeringService {
     private final ArticleRepository articleRepository;
     private final PushService pushService;
     private final OrganizationAccessService organizationAccessService;
+    private final HomeTimelineService homeTimelineService;
+    private final UnreadCheeringCounterService unreadCheeringCounterService;
+    private final CheeringStatsService cheeringStatsService;
 
     @Transactional
     public CheeringResponse createCheering(CheeringRequest request, UUID memberId, UUID articleId) {
@@ -57,6 +60,9 @@ public class CheeringService {
                 .build();
 
         cheeringRepository.save(cheering);
+        unreadCheeringCounterService.increment(article.getMember().getId());
+        cheeringStatsService.record(cheering);
+        homeTimelineService.onCheeringCreated(member.getId(), article.getMember().getId());
 
         // 푸시 알림 전송: 응원 피드 (cheer_feed)
         // 자기 자신에게 응원하는 경우는 알림 보내지 않음
@@ -76,8 +82,10 @@ public class CheeringService {
             throw new GeneralException(CheeringErrorCode.UNAUTHORIZED_MEMBER);
         }
 
+        CheeringCategory previousCategory = cheering.getCheeringCategory();
         cheering.updateContent(request.getContent());
         cheering.updateCheeringCategory(request.getCheeringCategory());
+        cheeringStatsService.onCategoryChanged(cheering, previousCategory);
 
         return CheeringResponse.fromEntity(cheering);
     }
@@ -92,6 +100,11 @@ public class CheeringService {
         }
 
         cheeringRepository.delete(cheering);
+        if (!cheering.getIsRead()) {
+            unreadCheeringCounterService.decrement(cheering.getReceiver().getId(), 1);
+        }
+        cheeringStatsService.unrecord(cheering);
+        homeTimelineService.onCheeringDeleted(memberId, cheering.getReceiver().getId());
     }
 
     public CheeringResponse getCheering(UUID requesterId, Long cheeringId) {
@@ -108,12 +121,8 @@ public class CheeringService {
     }
 
     public UnreadCheeringResponse getUnreadCheeringCount(UUID memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
-
-        Long count = cheeringRepository.countByArticle_MemberAndIsReadFalse(member);
         return UnreadCheeringResponse.builder()
-                .unreadCheeringCount(count)
+                .unreadCheeringCount(unreadCheeringCounterService.getUnreadCount(memberId))
                 .build();
     }
 
@@ -124,22 +133,42 @@ public class CheeringService {
         return cheerings.map(CheeringResponse::fromEntity);
     }
 
+    /**
+     * 응원 읽음 처리 후 요청한 응원을 DTO 로 반환합니다. (UPDATE 한 번 + SELECT 한 번)
+     */
     @Transactional
     public List<CheeringResponse> readCheering(CheeringReadRequest request, UUID receiverId) {
-        List<Cheering> cheerings = cheeringRepository.findAllByIdInAndReceiver_Id(request.getCheeringIds(), receiverId);
-        cheerings.stream()
-                .filter(cheering -> !cheering.getIsRead())
-                .forEach(Cheering::markAsRead);
-        return cheerings.stream()
-                .map(CheeringResponse::fromEntity)
-                .toList();
+        List<Long> cheeringIds = request.getCheeringIds();
+        if (cheeringIds == null || cheeringIds.isEmpty()) {
+            return List.of();
+        }
+        int readCount = cheeringRepository.markReadByIds(receiverId, cheeringIds, LocalDateTime.now());
+        unreadCheeringCounterService.decrement(receiverId, readCount);
+        return cheeringRepository.findResponsesByIdInAndReceiverId(cheeringIds, receiverId);
+    }
+
+    /**
+     * 응원 일괄 읽음 처리. upToId 를 지정하면 그 ID 이하의 받은 응원 전체를, 아니면 cheeringIds 를 UPDATE 한 번으로 처리하고
+     * 새로 읽음 처리된 수만 반환합니다.
+     */
+    @Transactional
+    public CheeringReadResponse markCheeringsRead(CheeringReadRequest request, UUID receiverId) {
+        LocalDateTime now = LocalDateTime.now();
+        int readCount;
+        if (request.getUpToId() != null) {
+            readCount = cheeringRepository.markReadUpTo(receiverId, request.getUpToId(), now);
+        } else if (request.getCheeringIds() != null && !request.getCheeringIds().isEmpty()) {
+            readCount = cheeringRepository.markReadByIds(receiverId, request.getCheeringIds(), now);
+        } else {
+            readCount = 0;
+        }
+        unreadCheeringCounterService.decrement(receiverId, readCount);
+        return new CheeringReadResponse(readCount);
     }
 
     public List<CategoryStatDto> getGivenStats(UUID requesterId, UUID memberId) {
         UUID accessibleMemberId = organizationAccessService.getAccessibleMember(requesterId, memberId).getId();
-        return cheeringRepository.givenStatsByCategory(accessibleMemberId, POINTS_PER_CHEER).stream()
-                .map(CategoryStatProjection::toDto)
-                .toList();
+        return cheeringStatsService.getGivenStatsByCategory(accessibleMemberId, POINTS_PER_CHEER);
     }
 
     public List<CategoryStatDto> getReceivedStats(UUID requesterId, UUID memberId) {
@@ -148,9 +177,7 @@ public class CheeringService {
     }
 
     public List<CategoryStatDto> getReceivedStats(UUID memberId) {
-        return cheeringRepository.receivedStatsByCategory(memberId, POINTS_PER_CHEER).stream()
-                .map(CategoryStatProjection::toDto)
-                .toList();
+        return cheeringStatsService.getReceivedStatsByCategory(memberId, POINTS_PER_CHEER);
     }
 
     public TotalSendingCheeringScoreResponse getTotalGivenPoints(UUID requesterId, UUID memberId) {
@@ -160,7 +187,7 @@ public class CheeringService {
 
     public TotalSendingCheeringScoreResponse getTotalGivenPoints(UUID memberId) {
         return new TotalSendingCheeringScoreResponse(
-                cheeringRepository.totalGivenCount(memberId) * POINTS_PER_CHEER
+                cheeringStatsService.getTotalGivenCount(memberId, null, null) * POINTS_PER_CHEER
         );
     }
 
@@ -171,13 +198,13 @@ public class CheeringService {
 
     public TotalReceivedCheeringScoreResponse getTotalReceivedPoints(UUID memberId) {
         return new TotalReceivedCheeringScoreResponse(
-                cheeringRepository.totalReceivedCount(memberId) * POINTS_PER_CHEER
+                cheeringStatsService.getTotalReceivedCount(memberId) * POINTS_PER_CHEER
         );
     }
 
     public TotalSendingCheeringScoreResponse getTotalGivenPointsByDateRange(UUID memberId, LocalDateTime startDate, LocalDateTime endDate) {
         return new TotalSendingCheeringScoreResponse(
-                cheeringRepository.totalGivenCountByDateRange(memberId, startDate, endDate) * POINTS_PER_CHEER
+                cheeringStatsService.getTotalGivenCount(memberId, startDate, endDate) * POINTS_PER_CHEER
         );
     }
 
@@ -188,33 +215,29 @@ public class CheeringService {
 
     /**
      * 응원 피드 푸시 알림 전송
-     * 에러 발생 시에도 비즈니스 로직에 영향을 주지 않도록 예외 처리
+     * 호출한 트랜잭션에서 push_outbox 에 기록하므로, 기록에 실패하면 응원도 함께 롤백됩니다.
      */
     private void sendCheerFeedPushNotification(Member sender, Member receiver) {
-        try {
-            // 수신자의 pushEnabled 확인은 PushService에서 처리됨
-            String title = "응원이 도착했어요!";
-            String body = String.format("%s님이 회원님에게 힘이 되는 응원을 보냈어요.", sender.getNickName());
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("type", "cheer_feed");
-            data.put("fromUserId", sender.getId().toString());
-
-            PushSendRequest pushRequest = PushSendRequest.builder()
-                    .targetMemberId(receiver.getId())
-                    .title(title)
-                    .body(body)
-                    .data(data)
-                    .build();
-
-            pushService.sendPushNotification(sender.getId(), pushRequest);
-            log.info("[Cheering] 응원 피드 푸시 알림 전송 성공 - from: {}, to: {}",
-                     sender.getId(), receiver.getId());
-        } catch (Exception e) {
-            // 푸시 전송 실패 시 로그만 남기고 비즈니스 로직은 계속 진행
-            log.error("[Cheering] 응원 피드 푸시 알림 전송 실패 - from: {}, to: {}, error: {}",
-                      sender.getId(), receiver.getId(), e.getMessage(), e);
-        }
+        // 수신자의 pushEnabled 확인은 PushService에서 처리됨
+        String title = "응원이 도착했어요!";
+        String nickName = sender.getNickName();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("type", "cheer_feed");
+        data.put("fromUserId", sender.getId().toString());
+
+        PushSendRequest pushRequest = PushSendRequest.builder()
+                .targetMemberId(receiver.getId())
+                .title(title)
+                .data(data)
+                .build();
+
+        // 짧은 시간에 몰린 응원은 "OO님 외 N명" 알림 하나로 묶어 보냄
+        pushService.enqueueCoalescedPushNotification(sender.getId(), pushRequest, "cheer_feed", count -> count == 1
+                ? String.format("%s님이 회원님에게 힘이 되는 응원을 보냈어요.", nickName)
+                : String.format("%s님 외 %d명이 회원님에게 힘이 되는 응원을 보냈어요.", nickName, count - 1));
+        log.info("[Cheering] 응원 피드 푸시 알림 등록 - from: {}, to: {}",
+                 sender.getId(), receiver.getId());
     }
 
 }
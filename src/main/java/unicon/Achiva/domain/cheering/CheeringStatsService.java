@@ -0,0 +1,145 @@
+package unicon.Achiva.domain.cheering;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.cheering.dto.CategoryStatDto;
+import unicon.Achiva.domain.cheering.entity.Cheering;
+import unicon.Achiva.domain.cheering.entity.MemberCheerStats;
+import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
+import unicon.Achiva.domain.cheering.infrastructure.MemberCheerStatsRepository;
+import unicon.Achiva.global.common.DayRange;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 보낸/받은 응원 통계
+ * <p>
+ * 응원 생성/삭제/카테고리 변경, 게시글 삭제 시 member_cheer_stats 의 (회원, 일자, 카테고리) 행을 호출한 쪽 트랜잭션에서 증감하고,
+ * 조회는 회원의 집계 행만 읽습니다. 기간별 조회는 하루 전체가 포함되는 일자만 집계 행으로, 하루 미만 경계는 cheering 에서 계산합니다.
+ * 카테고리 없이 작성된 응원은 NO_CATEGORY 행으로 집계해 총합에는 포함하고 카테고리별 통계에서만 제외합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CheeringStatsService {
+
+    // 작성 일시가 없는 오래된 응원은 기간 조건 없는 총합에만 포함되도록 이 날짜로 집계합니다. (V18 백필과 같은 기준)
+    private static final LocalDate UNDATED = LocalDate.EPOCH;
+
+    private final MemberCheerStatsRepository memberCheerStatsRepository;
+    private final CheeringRepository cheeringRepository;
+
+    /**
+     * 응원을 통계에 더합니다. 저장(작성 일시가 채워진) 후 호출합니다. 카테고리가 없는 응원도 총합에 포함됩니다.
+     */
+    @Transactional
+    public void record(Cheering cheering) {
+        apply(cheering, cheering.getCheeringCategory(), 1);
+    }
+
+    /**
+     * 응원을 통계에서 뺍니다.
+     */
+    @Transactional
+    public void unrecord(Cheering cheering) {
+        apply(cheering, cheering.getCheeringCategory(), -1);
+    }
+
+    /**
+     * 응원 카테고리가 바뀌었으면 이전 카테고리에서 빼고 현재 카테고리에 더합니다.
+     */
+    @Transactional
+    public void onCategoryChanged(Cheering cheering, CheeringCategory previousCategory) {
+        if (previousCategory == cheering.getCheeringCategory()) {
+            return;
+        }
+        apply(cheering, previousCategory, -1);
+        apply(cheering, cheering.getCheeringCategory(), 1);
+    }
+
+    /**
+     * 게시글이 삭제되면 FK CASCADE 로 함께 지워질 응원을 통계에서 뺍니다. 삭제 전에 호출합니다.
+     * 동시에 실행되는 다른 갱신과 잠금 순서가 엇갈리지 않도록 (일자, 카테고리, 보낸 사람) 순으로 반영합니다.
+     */
+    @Transactional
+    public void onArticleDeleted(UUID articleId, UUID authorId) {
+        Map<StatKey, Long> counts = new TreeMap<>(StatKey.ORDER);
+        for (Object[] row : cheeringRepository.findStatKeysByArticleId(articleId)) {
+            StatKey key = new StatKey((UUID) row[0], statDate((LocalDateTime) row[1]),
+                    MemberCheerStats.categoryKey((CheeringCategory) row[2]));
+            counts.merge(key, 1L, Long::sum);
+        }
+        counts.forEach((key, count) -> memberCheerStatsRepository.addCount(
+                key.senderId(), authorId, key.statDate(), key.category(), -count));
+    }
+
+    public List<CategoryStatDto> getGivenStatsByCategory(UUID memberId, long pointsPerCheer) {
+        return toDtos(memberCheerStatsRepository.sumGivenCountByCategory(memberId, MemberCheerStats.NO_CATEGORY), pointsPerCheer);
+    }
+
+    public List<CategoryStatDto> getReceivedStatsByCategory(UUID memberId, long pointsPerCheer) {
+        return toDtos(memberCheerStatsRepository.sumReceivedCountByCategory(memberId, MemberCheerStats.NO_CATEGORY), pointsPerCheer);
+    }
+
+    private static List<CategoryStatDto> toDtos(List<Object[]> rows, long pointsPerCheer) {
+        return rows.stream()
+                .map(row -> {
+                    long count = ((Number) row[1]).longValue();
+                    return new CategoryStatDto(
+                            CheeringCategory.getDisplayName(CheeringCategory.valueOf((String) row[0])),
+                            count,
+                            count * pointsPerCheer
+                    );
+                })
+                .toList();
+    }
+
+    public long getTotalReceivedCount(UUID memberId) {
+        return memberCheerStatsRepository.sumReceivedCount(memberId);
+    }
+
+    /**
+     * @param startDate 시작 일시 (포함, null이면 제한 없음)
+     * @param endDate   종료 일시 (포함, null이면 제한 없음)
+     */
+    public long getTotalGivenCount(UUID memberId, LocalDateTime startDate, LocalDateTime endDate) {
+        DayRange range = DayRange.of(startDate, endDate);
+        if (range.isBoundaryOnly()) {
+            return cheeringRepository.countGivenByCreatedAtRange(memberId, startDate, null, endDate);
+        }
+
+        long total = memberCheerStatsRepository.sumGivenCount(memberId, range.fromDate(), range.toDate());
+        if (range.hasPartialHead()) {
+            total += cheeringRepository.countGivenByCreatedAtRange(memberId, startDate, range.fromDate().atStartOfDay(), null);
+        }
+        if (range.hasPartialTail()) {
+            total += cheeringRepository.countGivenByCreatedAtRange(memberId, range.toDate().atStartOfDay(), null, endDate);
+        }
+        return total;
+    }
+
+    private void apply(Cheering cheering, CheeringCategory category, long delta) {
+        memberCheerStatsRepository.addCount(
+                cheering.getSender().getId(),
+                cheering.getReceiver().getId(),
+                statDate(cheering.getCreatedAt()),
+                MemberCheerStats.categoryKey(category),
+                delta
+        );
+    }
+
+    private static LocalDate statDate(LocalDateTime createdAt) {
+        return createdAt == null ? UNDATED : createdAt.toLocalDate();
+    }
+
+    private record StatKey(UUID senderId, LocalDate statDate, String category) {
+
+        private static final Comparator<StatKey> ORDER = Comparator
+                .comparing(StatKey::statDate)
+                .thenComparing(StatKey::category)
+                .thenComparing(key -> key.senderId().toString());
+    }
+}
@@ -0,0 +1,60 @@
+package unicon.Achiva.domain.cheering;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
+import unicon.Achiva.domain.cheering.infrastructure.MemberUnreadCheeringRepository;
+
+import java.util.UUID;
+
+/**
+ * 회원별 읽지 않은 응원 수 (member_unread_cheering 카운터)
+ * <p>
+ * 응원 생성/읽음/삭제, 게시글 삭제 시 호출한 쪽 트랜잭션에서 증감하므로 조회는 PK 한 번으로 끝납니다.
+ * 게시글 삭제처럼 FK CASCADE 로 지워지는 응원 등에서 생길 수 있는 오차는 reconcile 이 cheering 기준으로 맞춥니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UnreadCheeringCounterService {
+
+    private final MemberUnreadCheeringRepository memberUnreadCheeringRepository;
+    private final CheeringRepository cheeringRepository;
+
+    public long getUnreadCount(UUID memberId) {
+        return memberUnreadCheeringRepository.findUnreadCountByMemberId(memberId).orElse(0L);
+    }
+
+    @Transactional
+    public void increment(UUID receiverId) {
+        memberUnreadCheeringRepository.addUnreadCount(receiverId.toString(), 1);
+    }
+
+    @Transactional
+    public void decrement(UUID receiverId, long count) {
+        if (count > 0) {
+            memberUnreadCheeringRepository.addUnreadCount(receiverId.toString(), -count);
+        }
+    }
+
+    /**
+     * 게시글이 삭제되면 FK CASCADE 로 함께 지워질 읽지 않은 응원만큼 작성자 카운터를 줄입니다. 삭제 전에 호출합니다.
+     */
+    @Transactional
+    public void onArticleDeleted(UUID articleId, UUID authorId) {
+        decrement(authorId, cheeringRepository.countByArticle_IdAndIsReadFalse(articleId));
+    }
+
+    /**
+     * cheering 기준으로 모든 회원의 카운터를 다시 계산합니다.
+     */
+    @Transactional
+    public void reconcile() {
+        int updated = memberUnreadCheeringRepository.reconcileUnreadCounts();
+        int reset = memberUnreadCheeringRepository.resetStaleUnreadCounts();
+        log.info("[Cheering] 읽지 않은 응원 수 재계산 - updated: {}, reset: {}", updated, reset);
+    }
+}
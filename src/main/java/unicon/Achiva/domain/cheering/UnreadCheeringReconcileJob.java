@@ -0,0 +1,26 @@
+package unicon.Achiva.domain.cheering;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽지 않은 응원 수 카운터를 cheering 기준으로 주기적으로 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCheeringReconcileJob {
+
+    private final UnreadCheeringCounterService unreadCheeringCounterService;
+
+    @Scheduled(cron = "${app.cheering.unread-reconcile-cron:0 45 4 * * *}")
+    public void reconcile() {
+        try {
+            unreadCheeringCounterService.reconcile();
+        } catch (Exception e) {
+            log.error("[Cheering] 읽지 않은 응원 수 재계산 실패", e);
+        }
+    }
+}
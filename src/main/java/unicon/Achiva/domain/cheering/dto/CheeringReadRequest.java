@@ -1,10 +1,15 @@
 package unicon.Achiva.domain.cheering.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
 import java.util.List;
 
 @Getter
 public class CheeringReadRequest {
+    @Schema(description = "읽음 처리할 응원 ID 목록")
     private List<Long> cheeringIds;
+
+    @Schema(description = "이 ID 이하의 받은 응원을 모두 읽음 처리 (일괄 읽음 처리에서만 사용, 지정하면 cheeringIds 는 무시)")
+    private Long upToId;
 }
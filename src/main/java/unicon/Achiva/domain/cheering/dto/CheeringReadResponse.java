@@ -0,0 +1,10 @@
+package unicon.Achiva.domain.cheering.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "응원 일괄 읽음 처리 결과")
+public record CheeringReadResponse(
+        @Schema(description = "새로 읽음 처리된 응원 수", example = "12")
+        int readCount
+) {
+}
@@ -1,5 +1,6 @@
 package unicon.Achiva.domain.cheering.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import unicon.Achiva.domain.cheering.CheeringCategory;
@@ -10,6 +11,7 @@ import java.util.UUID;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class CheeringResponse {
     private Long id;
     private String content;
@@ -60,8 +60,4 @@ public class Cheering extends LongBaseEntity {
     public boolean getIsRead() {
         return isRead;
     }
-
-    public void markAsRead() {
-        this.isRead = true;
-    }
 }
@@ -0,0 +1,34 @@
+package unicon.Achiva.domain.cheering.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import unicon.Achiva.domain.cheering.CheeringCategory;
+
+/**
+ * 회원별-일자별-응원 카테고리별 보낸/받은 응원 수
+ * 응원 통계를 cheering 전체 대신 회원의 집계 행만 읽어 계산합니다.
+ * 카테고리가 없는 응원도 총합에 포함되도록 NO_CATEGORY 행으로 집계하며, 카테고리별 통계에서는 제외합니다.
+ * 갱신은 CheeringStatsService 의 upsert 로만 이루어집니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "member_cheer_stats")
+public class MemberCheerStats {
+
+    public static final String NO_CATEGORY = "NONE";
+
+    @EmbeddedId
+    private MemberCheerStatsKey id;
+
+    @Column(name = "given_count", nullable = false)
+    private long givenCount;
+
+    @Column(name = "received_count", nullable = false)
+    private long receivedCount;
+
+    public static String categoryKey(CheeringCategory category) {
+        return category == null ? NO_CATEGORY : category.name();
+    }
+}
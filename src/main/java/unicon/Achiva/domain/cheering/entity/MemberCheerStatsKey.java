@@ -0,0 +1,32 @@
+package unicon.Achiva.domain.cheering.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class MemberCheerStatsKey implements Serializable {
+
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    /**
+     * CheeringCategory 이름. 카테고리 없이 작성된 응원은 {@link MemberCheerStats#NO_CATEGORY} 로 집계합니다.
+     */
+    @Column(name = "cheering_category", columnDefinition = "varchar(20)")
+    private String cheeringCategory;
+}
@@ -0,0 +1,28 @@
+package unicon.Achiva.domain.cheering.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 회원별 읽지 않은 응원 수 (응원함 배지용 카운터)
+ * 응원 생성/읽음/삭제, 게시글 삭제 시 UnreadCheeringCounter 가 증감하고, 재계산 작업이 cheering 기준으로 맞춥니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "member_unread_cheering")
+public class MemberUnreadCheering {
+
+    @Id
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
@@ -3,17 +3,71 @@ package unicon.Achiva.domain.cheering.infrastructure;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.cheering.dto.CheeringResponse;
 import unicon.Achiva.domain.cheering.entity.Cheering;
-import unicon.Achiva.domain.member.entity.Member;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface CheeringRepository extends JpaRepository<Cheering, Long>, CheeringRepositoryCustom {
 
-    List<Cheering> findAllByIdInAndReceiver_Id(List<Long> ids, UUID receiverId);
+    /**
+     * 받은 사람의 응원 중 ids 에 해당하는 읽지 않은 응원을 한 문장으로 읽음 처리합니다.
+     *
+     * @return 새로 읽음 처리된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Cheering c
+               set c.isRead = true, c.updatedAt = :now
+             where c.receiver.id = :receiverId
+               and c.id in :ids
+               and c.isRead = false
+            """)
+    int markReadByIds(@Param("receiverId") UUID receiverId,
+                      @Param("ids") Collection<Long> ids,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 받은 사람의 응원 중 upToId 이하의 읽지 않은 응원을 모두 읽음 처리합니다. (receiver_id, is_read) 인덱스 범위로 처리됩니다.
+     *
+     * @return 새로 읽음 처리된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Cheering c
+               set c.isRead = true, c.updatedAt = :now
+             where c.receiver.id = :receiverId
+               and c.isRead = false
+               and c.id <= :upToId
+            """)
+    int markReadUpTo(@Param("receiverId") UUID receiverId,
+                     @Param("upToId") Long upToId,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 받은 사람의 응원을 보낸/받은 사람 정보와 함께 DTO 로 조회합니다. (엔티티/지연 로딩 없이 한 번의 SELECT)
+     */
+    @Query("""
+            select new unicon.Achiva.domain.cheering.dto.CheeringResponse(
+                c.id, c.content, c.cheeringCategory,
+                sender.id, sender.nickName, sender.profileImageUrl,
+                receiver.id, receiver.nickName,
+                c.article.id, c.isRead, c.createdAt, c.updatedAt)
+            from Cheering c
+            join c.sender sender
+            join c.receiver receiver
+            where receiver.id = :receiverId
+              and c.id in :ids
+            order by c.id
+            """)
+    List<CheeringResponse> findResponsesByIdInAndReceiverId(@Param("ids") Collection<Long> ids,
+                                                            @Param("receiverId") UUID receiverId);
 
     Page<Cheering> findAllByArticleId(UUID articleId, Pageable pageable);
 
@@ -24,67 +78,41 @@ public interface CheeringRepository extends JpaRepository<Cheering, Long>, Cheer
             """)
     List<UUID> findDistinctCheererIdsWhoCheeredMyArticles(@Param("me") UUID me);
 
-    Long countByArticle_MemberAndIsReadFalse(Member member);
+    boolean existsBySender_IdAndReceiver_Id(UUID senderId, UUID receiverId);
+
+    long countByArticle_IdAndIsReadFalse(UUID articleId);
 
     Page<Cheering> findAllByArticle_Member_Id(UUID memberId, Pageable pageable);
 
 
     /**
-     * 내가 보낸 응원의 카테고리별 개수/점수(=count*pt)를 반환합니다.
+     * 짧은 경계 구간 동안 보낸 응원 수를 조회합니다. (기간별 통계의 하루 미만 구간용)
      *
-     * @param memberId       대상 사용자 ID
-     * @param pointsPerCheer 응원 1건당 점수
-     * @return 카테고리별 통계 프로젝션 목록
+     * @param startDate    시작 일시 (포함)
+     * @param endExclusive 종료 일시 (미포함, null 이면 제한 없음)
+     * @param endInclusive 종료 일시 (포함, null 이면 제한 없음)
      */
     @Query("""
-                select
-                    c.cheeringCategory as cheeringCategory,
-                    count(c) as count,
-                    count(c) * :pt as points
-                from Cheering c
-                where c.sender.id = :memberId
-                group by c.cheeringCategory
+            select count(c) from Cheering c
+            where c.sender.id = :memberId
+            and c.createdAt >= :startDate
+            and (:endExclusive is null or c.createdAt < :endExclusive)
+            and (:endInclusive is null or c.createdAt <= :endInclusive)
             """)
-    List<CategoryStatProjection> givenStatsByCategory(@Param("memberId") UUID memberId,
-                                                      @Param("pt") long pointsPerCheer);
+    long countGivenByCreatedAtRange(@Param("memberId") UUID memberId,
+                                    @Param("startDate") LocalDateTime startDate,
+                                    @Param("endExclusive") LocalDateTime endExclusive,
+                                    @Param("endInclusive") LocalDateTime endInclusive);
 
     /**
-     * 내가 받은 응원의 카테고리별 개수/점수(=count*pt)를 반환합니다.
-     *
-     * @param memberId       대상 사용자 ID
-     * @param pointsPerCheer 응원 1건당 점수
-     * @return 카테고리별 통계 프로젝션 목록
+     * 게시글에 달린 응원의 (보낸 사람 ID, 작성 일시, 카테고리) 목록. 게시글 삭제 시 응원 통계에서 빼는 데 사용합니다.
      */
     @Query("""
-            select
-                c.cheeringCategory     as cheeringCategory,
-                count(c)       as count,
-                count(c) * :pt as points
+            select c.sender.id, c.createdAt, c.cheeringCategory
             from Cheering c
-            where c.receiver.id = :memberId
-            group by c.cheeringCategory
-            """)
-    List<CategoryStatProjection> receivedStatsByCategory(@Param("memberId") UUID memberId,
-                                                         @Param("pt") long pointsPerCheer);
-
-    // 멤버의 총 준 응원 개수
-    @Query("select count(c) from Cheering c where c.sender.id = :memberId")
-    long totalGivenCount(@Param("memberId") UUID memberId);
-
-    // 멤버의 총 받은 응원 개수
-    @Query("select count(c) from Cheering c where c.receiver.id = :memberId")
-    long totalReceivedCount(@Param("memberId") UUID memberId);
-
-    // 멤버의 특정 기간 동안 준 응원 개수
-    @Query("""
-            select count(c) from Cheering c
-            where c.sender.id = :memberId
-            and (:startDate is null or c.createdAt >= :startDate)
-            and (:endDate is null or c.createdAt <= :endDate)
+            where c.article.id = :articleId
             """)
-    long totalGivenCountByDateRange(@Param("memberId") UUID memberId,
-                                     @Param("startDate") java.time.LocalDateTime startDate,
-                                     @Param("endDate") java.time.LocalDateTime endDate);
+    List<Object[]> findStatKeysByArticleId(@Param("articleId") UUID articleId);
 
     /**
      * 특정 사용자와 응원 관계가 있는 모든 사용자 ID를 조회합니다.
@@ -0,0 +1,101 @@
+package unicon.Achiva.domain.cheering.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.cheering.entity.MemberCheerStats;
+import unicon.Achiva.domain.cheering.entity.MemberCheerStatsKey;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface MemberCheerStatsRepository extends JpaRepository<MemberCheerStats, MemberCheerStatsKey> {
+
+    /**
+     * 보낸 사람 행의 given_count 와 받은 사람 행의 received_count 에 delta 를 더합니다. 행이 없으면 생성합니다.
+     * 서로 응원을 주고받는 두 트랜잭션이 같은 두 행을 반대 순서로 잠그지 않도록, 두 행은 항상 member_id 의
+     * BINARY 비교 순서(부호 없는 바이트 순)로 넣습니다. 자기 자신에게 보낸 응원이면 같은 행에 둘 다 더해집니다.
+     */
+    default int addCount(UUID senderId, UUID receiverId, LocalDate statDate, String category, long delta) {
+        if (compareUnsigned(senderId, receiverId) <= 0) {
+            return addCounts(senderId.toString(), delta, 0, receiverId.toString(), 0, delta, statDate, category);
+        }
+        return addCounts(receiverId.toString(), 0, delta, senderId.toString(), delta, 0, statDate, category);
+    }
+
+    private static int compareUnsigned(UUID first, UUID second) {
+        int result = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+
+    /**
+     * 두 (회원, 일자, 카테고리) 행에 보낸/받은 수를 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 더합니다. 행은 적힌 순서로 잠깁니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_cheer_stats (member_id, stat_date, cheering_category, given_count, received_count)
+            VALUES (UNHEX(REPLACE(:firstMemberId, '-', '')), :statDate, :category, :firstGiven, :firstReceived),
+                   (UNHEX(REPLACE(:secondMemberId, '-', '')), :statDate, :category, :secondGiven, :secondReceived) AS new
+            ON DUPLICATE KEY UPDATE given_count = member_cheer_stats.given_count + new.given_count,
+                                    received_count = member_cheer_stats.received_count + new.received_count
+            """, nativeQuery = true)
+    int addCounts(@Param("firstMemberId") String firstMemberId,
+                  @Param("firstGiven") long firstGiven,
+                  @Param("firstReceived") long firstReceived,
+                  @Param("secondMemberId") String secondMemberId,
+                  @Param("secondGiven") long secondGiven,
+                  @Param("secondReceived") long secondReceived,
+                  @Param("statDate") LocalDate statDate,
+                  @Param("category") String category);
+
+    /**
+     * 보낸 응원의 카테고리별 개수 (카테고리 이름, Long). 카테고리 없는 응원은 제외합니다.
+     */
+    @Query("""
+            SELECT s.id.cheeringCategory, SUM(s.givenCount)
+              FROM MemberCheerStats s
+             WHERE s.id.memberId = :memberId
+               AND s.id.cheeringCategory <> :noCategory
+             GROUP BY s.id.cheeringCategory
+            HAVING SUM(s.givenCount) > 0
+            """)
+    List<Object[]> sumGivenCountByCategory(@Param("memberId") UUID memberId,
+                                           @Param("noCategory") String noCategory);
+
+    /**
+     * 받은 응원의 카테고리별 개수 (카테고리 이름, Long). 카테고리 없는 응원은 제외합니다.
+     */
+    @Query("""
+            SELECT s.id.cheeringCategory, SUM(s.receivedCount)
+              FROM MemberCheerStats s
+             WHERE s.id.memberId = :memberId
+               AND s.id.cheeringCategory <> :noCategory
+             GROUP BY s.id.cheeringCategory
+            HAVING SUM(s.receivedCount) > 0
+            """)
+    List<Object[]> sumReceivedCountByCategory(@Param("memberId") UUID memberId,
+                                              @Param("noCategory") String noCategory);
+
+    /**
+     * [fromDate, toDate) 구간 일자의 보낸 응원 수 합계 (카테고리 없는 응원 포함). null 이면 해당 방향으로 제한 없음.
+     */
+    @Query("""
+            SELECT COALESCE(SUM(s.givenCount), 0)
+              FROM MemberCheerStats s
+             WHERE s.id.memberId = :memberId
+               AND (:fromDate is null or s.id.statDate >= :fromDate)
+               AND (:toDate is null or s.id.statDate < :toDate)
+            """)
+    long sumGivenCount(@Param("memberId") UUID memberId,
+                       @Param("fromDate") LocalDate fromDate,
+                       @Param("toDate") LocalDate toDate);
+
+    @Query("""
+            SELECT COALESCE(SUM(s.receivedCount), 0)
+              FROM MemberCheerStats s
+             WHERE s.id.memberId = :memberId
+            """)
+    long sumReceivedCount(@Param("memberId") UUID memberId);
+}
@@ -0,0 +1,58 @@
+package unicon.Achiva.domain.cheering.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.cheering.entity.MemberUnreadCheering;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MemberUnreadCheeringRepository extends JpaRepository<MemberUnreadCheering, UUID> {
+
+    @Query("select u.unreadCount from MemberUnreadCheering u where u.memberId = :memberId")
+    Optional<Long> findUnreadCountByMemberId(@Param("memberId") UUID memberId);
+
+    /**
+     * 회원 카운터에 delta 를 더합니다. 행이 없으면 생성하고, 0 아래로는 내려가지 않습니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_unread_cheering (member_id, unread_count)
+            VALUES (UNHEX(REPLACE(:memberId, '-', '')), GREATEST(:delta, 0))
+            ON DUPLICATE KEY UPDATE unread_count = GREATEST(unread_count + :delta, 0)
+            """, nativeQuery = true)
+    int addUnreadCount(@Param("memberId") String memberId,
+                       @Param("delta") long delta);
+
+    /**
+     * cheering 기준으로 읽지 않은 응원이 있는 회원의 카운터를 다시 채웁니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_unread_cheering (member_id, unread_count)
+            SELECT counted.member_id, counted.unread_count
+              FROM (SELECT c.receiver_id AS member_id, COUNT(*) AS unread_count
+                      FROM cheering c
+                     WHERE c.is_read = b'0'
+                     GROUP BY c.receiver_id) counted
+            ON DUPLICATE KEY UPDATE unread_count = counted.unread_count
+            """, nativeQuery = true)
+    int reconcileUnreadCounts();
+
+    /**
+     * 읽지 않은 응원이 더 없는데 카운터가 남아 있는 회원을 0 으로 맞춥니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE member_unread_cheering u
+               SET u.unread_count = 0
+             WHERE u.unread_count <> 0
+               AND NOT EXISTS (SELECT 1
+                                 FROM cheering c
+                                WHERE c.receiver_id = u.member_id
+                                  AND c.is_read = b'0')
+            """, nativeQuery = true)
+    int resetStaleUnreadCounts();
+}
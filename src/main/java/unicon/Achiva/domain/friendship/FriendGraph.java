@@ -0,0 +1,195 @@
+package unicon.Achiva.domain.friendship;
+
+import java.util.*;
+
+/**
+ * 한 organization 의 수락된 친구 관계를 메모리에 인접 배열로 유지합니다.
+ * 회원 UUID 를 0 부터 시작하는 정수 ID 로 바꾸고, 회원마다 친구의 정수 ID 를 정렬된 int[] 로 둡니다.
+ * 친구 추가/삭제는 O(D), 공통 친구 수는 두 배열을 병합하며 세므로 O(D1 + D2) 입니다. (D = 친구 수)
+ * 모든 메서드는 인스턴스 단위로 동기화됩니다.
+ */
+class FriendGraph {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<UUID, Integer> indexByMemberId = new HashMap<>();
+    private final List<UUID> memberIds = new ArrayList<>();
+    private final List<int[]> adjacency = new ArrayList<>();
+    private final long loadedAt;
+
+    FriendGraph(long loadedAt) {
+        this.loadedAt = loadedAt;
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    synchronized void link(UUID first, UUID second) {
+        if (first.equals(second)) {
+            return;
+        }
+        int a = indexOf(first);
+        int b = indexOf(second);
+        adjacency.set(a, insert(adjacency.get(a), b));
+        adjacency.set(b, insert(adjacency.get(b), a));
+    }
+
+    synchronized void unlink(UUID first, UUID second) {
+        Integer a = indexByMemberId.get(first);
+        Integer b = indexByMemberId.get(second);
+        if (a == null || b == null) {
+            return;
+        }
+        adjacency.set(a, remove(adjacency.get(a), b));
+        adjacency.set(b, remove(adjacency.get(b), a));
+    }
+
+    /**
+     * 회원의 친구 목록을 friendIds 로 맞춥니다. 상대 회원의 인접 배열도 함께 바뀝니다.
+     */
+    synchronized void replaceFriends(UUID memberId, Set<UUID> friendIds) {
+        for (UUID current : friendsOf(memberId)) {
+            if (!friendIds.contains(current)) {
+                unlink(memberId, current);
+            }
+        }
+        for (UUID friendId : friendIds) {
+            link(memberId, friendId);
+        }
+    }
+
+    synchronized List<UUID> friendsOf(UUID memberId) {
+        int[] friends = neighbors(memberId);
+        List<UUID> result = new ArrayList<>(friends.length);
+        for (int friend : friends) {
+            result.add(memberIds.get(friend));
+        }
+        return result;
+    }
+
+    synchronized int friendCount(UUID memberId) {
+        return neighbors(memberId).length;
+    }
+
+    synchronized int mutualFriendCount(UUID first, UUID second) {
+        int[] left = neighbors(first);
+        int[] right = neighbors(second);
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 친구의 친구(본인과 이미 친구인 회원 제외)와 각 후보의 공통 친구 수.
+     * 본인 친구 목록을 BitSet 으로 표시해 두고, 친구들의 인접 배열을 훑으며 후보별로 셉니다.
+     *
+     * @param counts memberCount() 이상 크기의 0 으로 채워진 작업 배열. 호출이 끝나면 다시 0 으로 되돌려 둡니다.
+     */
+    synchronized List<Candidate> friendsOfFriends(UUID memberId, int[] counts) {
+        Integer self = indexByMemberId.get(memberId);
+        if (self == null) {
+            return List.of();
+        }
+        int[] friends = adjacency.get(self);
+        BitSet excluded = new BitSet(memberIds.size());
+        excluded.set(self);
+        for (int friend : friends) {
+            excluded.set(friend);
+        }
+
+        List<Integer> touched = new ArrayList<>();
+        for (int friend : friends) {
+            for (int candidate : adjacency.get(friend)) {
+                if (!excluded.get(candidate) && counts[candidate]++ == 0) {
+                    touched.add(candidate);
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(touched.size());
+        for (int candidate : touched) {
+            result.add(new Candidate(memberIds.get(candidate), counts[candidate]));
+            counts[candidate] = 0;
+        }
+        return result;
+    }
+
+    /**
+     * 같은 관계를 가진 독립된 그래프. 인접 배열은 바뀔 때 새 배열로 교체되므로 배열 자체는 공유합니다.
+     */
+    synchronized FriendGraph copy() {
+        FriendGraph copied = new FriendGraph(loadedAt);
+        copied.indexByMemberId.putAll(indexByMemberId);
+        copied.memberIds.addAll(memberIds);
+        copied.adjacency.addAll(adjacency);
+        return copied;
+    }
+
+    /**
+     * 그래프에 한 번이라도 등장한 회원 수 (친구가 모두 끊긴 회원 포함)
+     */
+    synchronized int memberCount() {
+        return memberIds.size();
+    }
+
+    synchronized List<UUID> memberIds() {
+        return List.copyOf(memberIds);
+    }
+
+    private int[] neighbors(UUID memberId) {
+        Integer index = indexByMemberId.get(memberId);
+        return index == null ? EMPTY : adjacency.get(index);
+    }
+
+    private int indexOf(UUID memberId) {
+        Integer index = indexByMemberId.get(memberId);
+        if (index != null) {
+            return index;
+        }
+        int created = memberIds.size();
+        indexByMemberId.put(memberId, created);
+        memberIds.add(memberId);
+        adjacency.add(EMPTY);
+        return created;
+    }
+
+    private static int[] insert(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position >= 0) {
+            return sorted;
+        }
+        int insertAt = -position - 1;
+        int[] result = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+        return result;
+    }
+
+    private static int[] remove(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            return sorted;
+        }
+        int[] result = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+        return result;
+    }
+
+    record Candidate(UUID memberId, int mutualFriendCount) {
+    }
+}
@@ -0,0 +1,186 @@
+package unicon.Achiva.domain.friendship;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import unicon.Achiva.domain.friendship.infrastructure.FriendshipRepository;
+import unicon.Achiva.domain.organization.OrganizationAccessService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * organization 별 친구 그래프 조회
+ * <p>
+ * friendship 테이블이 기준 데이터이며, 조회는 organization 별로 메모리에 적재한 {@link FriendGraph} 에서 처리합니다.
+ * 친구 수락/차단 등 ACCEPTED 상태가 바뀌면 커밋 후 같은 변경을 반영하고,
+ * 다른 인스턴스에서 일어난 변경은 refresh-interval 마다 friendship 테이블에서 다시 읽어 맞춥니다.
+ * 적재는 호출한 쪽 트랜잭션에서 organization 당 한 요청만 하고(같은 organization 의 다른 요청은 그 결과를 기다림),
+ * 적재 중에 커밋된 변경은 모아 두었다가 적재한 그래프에 다시 반영합니다.
+ * 커밋 후 반영은 메모리만 바꾸므로 적재가 끝나기를 기다리지 않고, 적재도 커넥션을 추가로 잡거나 맵의 잠금을 쥔 채 DB 를 읽지 않습니다.
+ * <p>
+ * 그래프는 친구 여부만 담으므로, 관계별 설정(게시글 푸시 허용 등)이나 같은 트랜잭션에서 방금 바뀐 관계가 필요한 곳
+ * (타임라인 fan-out, 친구 운동 푸시, 푸시 설정 조회)은 friendship 테이블을 직접 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FriendGraphService {
+
+    private final FriendshipRepository friendshipRepository;
+    private final OrganizationAccessService organizationAccessService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, FriendGraph> graphs = new ConcurrentHashMap<>();
+    private final Map<Long, PendingLoad> loads = new ConcurrentHashMap<>();
+
+    @Value("${app.friend-graph.refresh-interval:300}")
+    private long refreshIntervalSeconds;
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("friend.graph.organizations", graphs, Map::size);
+        meterRegistry.gauge("friend.graph.members", graphs,
+                loaded -> loaded.values().stream().mapToInt(FriendGraph::memberCount).sum());
+    }
+
+    /**
+     * 두 회원이 친구가 되었음을 커밋 후 그래프에 반영합니다.
+     */
+    public void onLinked(UUID firstMemberId, UUID secondMemberId) {
+        afterCommit(firstMemberId, graph -> graph.link(firstMemberId, secondMemberId));
+    }
+
+    /**
+     * 두 회원의 친구 관계가 끊겼음을 커밋 후 그래프에 반영합니다.
+     */
+    public void onUnlinked(UUID firstMemberId, UUID secondMemberId) {
+        afterCommit(firstMemberId, graph -> graph.unlink(firstMemberId, secondMemberId));
+    }
+
+    /**
+     * 두 회원의 공통 친구 수. 두 회원은 같은 organization 이어야 합니다.
+     */
+    public int getMutualFriendCount(UUID firstMemberId, UUID secondMemberId) {
+        return getGraph(organizationAccessService.getOrganizationId(firstMemberId))
+                .mutualFriendCount(firstMemberId, secondMemberId);
+    }
+
+    private void afterCommit(UUID memberId, Consumer<FriendGraph> change) {
+        Long organizationId = organizationAccessService.getOrganizationId(memberId);
+        Runnable applyInMemory = () -> applyInMemory(organizationId, change);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyInMemory.run();
+                }
+            });
+        } else {
+            applyInMemory.run();
+        }
+    }
+
+    /**
+     * 적재 중인 그래프에 먼저 남기고 현재 그래프에 반영합니다.
+     * 적재는 그래프를 등록한 뒤 남은 변경을 반영하고 닫으므로, 이 순서여야 어느 시점에 끝나도 변경이 빠지지 않습니다.
+     */
+    private void applyInMemory(Long organizationId, Consumer<FriendGraph> change) {
+        PendingLoad pending = loads.get(organizationId);
+        if (pending != null) {
+            pending.record(change);
+        }
+        FriendGraph graph = graphs.get(organizationId);
+        if (graph != null) {
+            change.accept(graph);
+        }
+    }
+
+    FriendGraph getGraph(Long organizationId) {
+        FriendGraph graph = graphs.get(organizationId);
+        if (isFresh(graph)) {
+            return graph;
+        }
+
+        PendingLoad created = new PendingLoad();
+        PendingLoad pending = loads.putIfAbsent(organizationId, created);
+        if (pending != null) {
+            // 같은 organization 을 이미 적재 중인 요청의 결과를 기다립니다.
+            return pending.result().join();
+        }
+        try {
+            FriendGraph current = graphs.get(organizationId);
+            FriendGraph loaded = isFresh(current) ? current : readGraph(organizationId);
+            graphs.put(organizationId, loaded);
+            created.close(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            created.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(organizationId, created);
+        }
+    }
+
+    private boolean isFresh(FriendGraph graph) {
+        return graph != null && System.currentTimeMillis() - graph.loadedAt() < refreshIntervalSeconds * 1000;
+    }
+
+    /**
+     * friendship 테이블에서 organization 그래프를 호출한 쪽 트랜잭션으로 새로 읽습니다.
+     * 캐시에는 넣지 않으므로 호출한 쪽만 사용하는 그래프입니다.
+     */
+    FriendGraph readGraph(Long organizationId) {
+        FriendGraph loaded = new FriendGraph(System.currentTimeMillis());
+        int edges = 0;
+        try (Stream<Object[]> pairs = friendshipRepository.streamMemberPairsInOrganization(organizationId, FriendshipStatus.ACCEPTED)) {
+            for (Object[] pair : (Iterable<Object[]>) pairs::iterator) {
+                loaded.link((UUID) pair[0], (UUID) pair[1]);
+                edges++;
+            }
+        }
+        log.debug("[FriendGraph] 친구 그래프 적재 - organizationId: {}, members: {}, edges: {}",
+                organizationId, loaded.memberCount(), edges);
+        return loaded;
+    }
+
+    /**
+     * 적재 중인 organization 그래프. 적재 중에 커밋된 변경을 모아 두었다가, 적재가 끝나면 새 그래프에 반영하고 닫습니다.
+     */
+    private static final class PendingLoad {
+
+        private final CompletableFuture<FriendGraph> result = new CompletableFuture<>();
+        private final List<Consumer<FriendGraph>> changes = new ArrayList<>();
+        private boolean closed;
+
+        CompletableFuture<FriendGraph> result() {
+            return result;
+        }
+
+        synchronized void record(Consumer<FriendGraph> change) {
+            if (!closed) {
+                changes.add(change);
+            }
+        }
+
+        synchronized void close(FriendGraph loaded) {
+            changes.forEach(change -> change.accept(loaded));
+            changes.clear();
+            closed = true;
+            result.complete(loaded);
+        }
+    }
+}
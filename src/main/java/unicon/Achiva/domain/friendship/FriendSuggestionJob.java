@@ -0,0 +1,46 @@
+package unicon.Achiva.domain.friendship;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import unicon.Achiva.domain.friendship.infrastructure.FriendSuggestionDirtyRepository;
+import unicon.Achiva.domain.organization.entity.Organization;
+import unicon.Achiva.domain.organization.infrastructure.OrganizationRepository;
+
+/**
+ * 친구 추천을 주기적으로 계산합니다.
+ * refresh-interval 마다 친구 관계가 바뀐 회원만 다시 계산하고, rebuild-cron 에 organization 전체를 다시 계산합니다.
+ * organization 마다 별도 트랜잭션으로 처리하므로 한 곳의 실패가 다른 organization 에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendSuggestionJob {
+
+    private final FriendSuggestionService friendSuggestionService;
+    private final FriendSuggestionDirtyRepository friendSuggestionDirtyRepository;
+    private final OrganizationRepository organizationRepository;
+
+    @Scheduled(fixedDelayString = "${app.friend-suggestion.refresh-interval:60000}")
+    public void refreshDirty() {
+        for (Long organizationId : friendSuggestionDirtyRepository.findOrganizationIds()) {
+            try {
+                friendSuggestionService.refreshDirty(organizationId);
+            } catch (Exception e) {
+                log.error("[FriendSuggestion] 추천 갱신 실패 - organizationId: {}", organizationId, e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.friend-suggestion.rebuild-cron:0 0 5 * * *}")
+    public void rebuildAll() {
+        for (Organization organization : organizationRepository.findAll()) {
+            try {
+                friendSuggestionService.rebuild(organization.getId());
+            } catch (Exception e) {
+                log.error("[FriendSuggestion] 추천 재계산 실패 - organizationId: {}", organization.getId(), e);
+            }
+        }
+    }
+}
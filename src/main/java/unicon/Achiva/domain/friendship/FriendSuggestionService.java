@@ -0,0 +1,254 @@
+package unicon.Achiva.domain.friendship;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.friendship.dto.FriendSuggestionResponse;
+import unicon.Achiva.domain.friendship.entity.FriendSuggestion;
+import unicon.Achiva.domain.friendship.entity.FriendSuggestionKey;
+import unicon.Achiva.domain.friendship.infrastructure.FriendSuggestionDirtyRepository;
+import unicon.Achiva.domain.friendship.infrastructure.FriendSuggestionRepository;
+import unicon.Achiva.domain.friendship.infrastructure.FriendshipRepository;
+import unicon.Achiva.domain.moim.repository.MoimMemberRepository;
+import unicon.Achiva.domain.organization.OrganizationAccessService;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 알 수도 있는 친구(친구의 친구) 추천
+ * <p>
+ * 추천은 friend_suggestion 테이블에 회원별 순위대로 미리 계산해 두고, 조회는 회원 ID 로 한 번에 읽습니다.
+ * 계산은 organization 친구 그래프({@link FriendGraph})에서 2-hop 후보와 공통 친구 수를 세고,
+ * 같은 모임에 함께 참여 중인 수를 더해 정렬합니다. 이미 친구이거나 요청/거절/차단 관계인 회원은 제외합니다.
+ * 계산은 항상 이 서비스만 쓰는 그래프에서 하므로, 계산 도중 커밋된 친구 변경이 계산 중인 그래프를 바꾸지 않습니다.
+ * <p>
+ * 친구 관계가 바뀐 회원은 friend_suggestion_dirty 에 기록되어, 그 회원과 친구들만 다시 계산합니다.
+ * 부분 갱신은 캐시된 그래프의 복사본에 기록된 회원의 친구 관계만 friendship 에서 다시 읽어 반영하고,
+ * 제외 관계와 모임은 대상 회원과 후보에 대해서만 읽습니다. organization 전체를 읽는 것은 rebuild 뿐입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FriendSuggestionService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final List<FriendshipStatus> EXCLUDED_STATUSES =
+            List.of(FriendshipStatus.PENDING, FriendshipStatus.REJECTED, FriendshipStatus.BLOCKED);
+    private static final long[] NO_MOIMS = new long[0];
+    private static final int IDS_PER_QUERY = 1000;
+
+    private final FriendSuggestionRepository friendSuggestionRepository;
+    private final FriendSuggestionDirtyRepository friendSuggestionDirtyRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final MoimMemberRepository moimMemberRepository;
+    private final FriendGraphService friendGraphService;
+    private final OrganizationAccessService organizationAccessService;
+
+    @Value("${app.friend-suggestion.max-per-member:50}")
+    private int maxPerMember;
+
+    public List<FriendSuggestionResponse> getSuggestions(UUID memberId, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Long organizationId = organizationAccessService.getOrganizationId(memberId);
+        return friendSuggestionRepository.findResponsesByMemberId(memberId, organizationId, Limit.of(limit));
+    }
+
+    /**
+     * 두 회원 사이의 친구 관계(요청/수락/거절/차단/취소)가 바뀌었음을 기록합니다. 호출한 쪽 트랜잭션에 참여합니다.
+     */
+    @Transactional
+    public void markChanged(UUID firstMemberId, UUID secondMemberId) {
+        friendSuggestionDirtyRepository.mark(firstMemberId.toString(), secondMemberId.toString(), LocalDateTime.now());
+    }
+
+    /**
+     * 기록된 회원과 그 친구들의 추천을 다시 계산합니다.
+     * 관계가 바뀐 두 회원뿐 아니라 그 친구들의 2-hop 후보도 달라지므로 함께 계산합니다.
+     *
+     * @return 다시 계산한 회원 수
+     */
+    @Transactional
+    public int refreshDirty(Long organizationId) {
+        LocalDateTime readAt = LocalDateTime.now();
+        List<UUID> dirtyMemberIds = friendSuggestionDirtyRepository.findMemberIdsByOrganizationId(organizationId);
+        if (dirtyMemberIds.isEmpty()) {
+            return 0;
+        }
+
+        // 다른 인스턴스에서 바뀐 관계가 캐시에 아직 없을 수 있으므로 기록된 회원의 친구 관계는 다시 읽어 맞춥니다.
+        FriendGraph graph = friendGraphService.getGraph(organizationId).copy();
+        Map<UUID, Set<UUID>> acceptedPairs = loadPairs(organizationId, dirtyMemberIds, List.of(FriendshipStatus.ACCEPTED));
+        dirtyMemberIds.forEach(memberId -> graph.replaceFriends(memberId, acceptedPairs.getOrDefault(memberId, Set.of())));
+
+        Set<UUID> targets = new HashSet<>(dirtyMemberIds);
+        dirtyMemberIds.forEach(memberId -> targets.addAll(graph.friendsOf(memberId)));
+
+        int[] counts = new int[graph.memberCount()];
+        Map<UUID, List<FriendGraph.Candidate>> candidatesByTarget = new HashMap<>();
+        Set<UUID> involved = new HashSet<>(targets);
+        for (UUID memberId : targets) {
+            List<FriendGraph.Candidate> candidates = graph.friendsOfFriends(memberId, counts);
+            candidatesByTarget.put(memberId, candidates);
+            candidates.forEach(candidate -> involved.add(candidate.memberId()));
+        }
+
+        List<FriendSuggestion> suggestions = compute(organizationId, targets, candidatesByTarget::get,
+                loadPairs(organizationId, targets, EXCLUDED_STATUSES),
+                loadMoimIds(organizationId, involved));
+
+        friendSuggestionRepository.deleteAllByMemberIdIn(targets);
+        int rows = friendSuggestionRepository.insertAll(suggestions);
+        friendSuggestionDirtyRepository.deleteAllMarkedBefore(dirtyMemberIds, readAt);
+
+        log.debug("[FriendSuggestion] 추천 갱신 - organizationId: {}, dirty: {}, members: {}, rows: {}",
+                organizationId, dirtyMemberIds.size(), targets.size(), rows);
+        return targets.size();
+    }
+
+    /**
+     * organization 전체 회원의 추천을 다시 계산합니다.
+     */
+    @Transactional
+    public void rebuild(Long organizationId) {
+        FriendGraph graph = friendGraphService.readGraph(organizationId);
+        List<UUID> targets = graph.memberIds();
+        int[] counts = new int[graph.memberCount()];
+
+        List<FriendSuggestion> suggestions = compute(organizationId, targets,
+                memberId -> graph.friendsOfFriends(memberId, counts),
+                streamExcludedPairs(organizationId),
+                streamMoimIds(organizationId));
+
+        friendSuggestionRepository.deleteAllByOrganizationId(organizationId);
+        int rows = friendSuggestionRepository.insertAll(suggestions);
+        log.info("[FriendSuggestion] 추천 재계산 - organizationId: {}, members: {}, rows: {}",
+                organizationId, targets.size(), rows);
+    }
+
+    private List<FriendSuggestion> compute(Long organizationId,
+                                           Collection<UUID> targets,
+                                           Function<UUID, List<FriendGraph.Candidate>> candidatesOf,
+                                           Map<UUID, Set<UUID>> excludedPairs,
+                                           Map<UUID, long[]> moimIdsByMember) {
+        LocalDateTime computedAt = LocalDateTime.now();
+        List<FriendSuggestion> suggestions = new ArrayList<>();
+        for (UUID memberId : targets) {
+            Set<UUID> excluded = excludedPairs.getOrDefault(memberId, Set.of());
+            long[] memberMoims = moimIdsByMember.getOrDefault(memberId, NO_MOIMS);
+
+            List<Scored> ranked = candidatesOf.apply(memberId).stream()
+                    .filter(candidate -> !excluded.contains(candidate.memberId()))
+                    .map(candidate -> new Scored(candidate.memberId(), candidate.mutualFriendCount(),
+                            countShared(memberMoims, moimIdsByMember.getOrDefault(candidate.memberId(), NO_MOIMS))))
+                    .sorted(Scored.ORDER)
+                    .limit(maxPerMember)
+                    .toList();
+
+            for (int rankNo = 0; rankNo < ranked.size(); rankNo++) {
+                Scored scored = ranked.get(rankNo);
+                suggestions.add(FriendSuggestion.builder()
+                        .id(new FriendSuggestionKey(memberId, rankNo))
+                        .organizationId(organizationId)
+                        .candidateId(scored.candidateId())
+                        .mutualFriendCount(scored.mutualFriendCount())
+                        .sharedMoimCount(scored.sharedMoimCount())
+                        .computedAt(computedAt)
+                        .build());
+            }
+        }
+        return suggestions;
+    }
+
+    private Map<UUID, Set<UUID>> streamExcludedPairs(Long organizationId) {
+        Map<UUID, Set<UUID>> excluded = new HashMap<>();
+        try (Stream<Object[]> pairs = friendshipRepository.streamMemberPairsInOrganizationByStatusIn(organizationId, EXCLUDED_STATUSES)) {
+            pairs.forEach(pair -> addPair(excluded, (UUID) pair[0], (UUID) pair[1]));
+        }
+        return excluded;
+    }
+
+    /**
+     * memberIds 중 한 명이 포함된 관계를 양쪽 회원 기준으로 모읍니다.
+     */
+    private Map<UUID, Set<UUID>> loadPairs(Long organizationId, Collection<UUID> memberIds, List<FriendshipStatus> statuses) {
+        Map<UUID, Set<UUID>> pairs = new HashMap<>();
+        for (List<UUID> chunk : chunks(memberIds)) {
+            for (Object[] pair : friendshipRepository.findMemberPairsInOrganizationByMemberIdIn(organizationId, chunk, statuses)) {
+                addPair(pairs, (UUID) pair[0], (UUID) pair[1]);
+            }
+        }
+        return pairs;
+    }
+
+    private static void addPair(Map<UUID, Set<UUID>> pairs, UUID first, UUID second) {
+        pairs.computeIfAbsent(first, ignored -> new HashSet<>()).add(second);
+        pairs.computeIfAbsent(second, ignored -> new HashSet<>()).add(first);
+    }
+
+    private Map<UUID, long[]> streamMoimIds(Long organizationId) {
+        Map<UUID, List<Long>> moimIds = new HashMap<>();
+        try (Stream<Object[]> rows = moimMemberRepository.streamMemberMoimPairsByOrganizationId(organizationId)) {
+            rows.forEach(row -> moimIds.computeIfAbsent((UUID) row[0], ignored -> new ArrayList<>()).add((Long) row[1]));
+        }
+        return sortMoimIds(moimIds);
+    }
+
+    private Map<UUID, long[]> loadMoimIds(Long organizationId, Collection<UUID> memberIds) {
+        Map<UUID, List<Long>> moimIds = new HashMap<>();
+        for (List<UUID> chunk : chunks(memberIds)) {
+            for (Object[] row : moimMemberRepository.findMemberMoimPairsByOrganizationIdAndMemberIdIn(organizationId, chunk)) {
+                moimIds.computeIfAbsent((UUID) row[0], ignored -> new ArrayList<>()).add((Long) row[1]);
+            }
+        }
+        return sortMoimIds(moimIds);
+    }
+
+    private static Map<UUID, long[]> sortMoimIds(Map<UUID, List<Long>> moimIds) {
+        Map<UUID, long[]> sorted = new HashMap<>(moimIds.size());
+        moimIds.forEach((memberId, ids) -> sorted.put(memberId, ids.stream().mapToLong(Long::longValue).sorted().toArray()));
+        return sorted;
+    }
+
+    private static List<List<UUID>> chunks(Collection<UUID> memberIds) {
+        List<UUID> ids = new ArrayList<>(memberIds);
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IDS_PER_QUERY) {
+            chunks.add(ids.subList(from, Math.min(from + IDS_PER_QUERY, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static int countShared(long[] left, long[] right) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private record Scored(UUID candidateId, int mutualFriendCount, int sharedMoimCount) {
+
+        // 공통 친구 수 → 공통 모임 수 → 회원 ID 순 (재계산해도 순서가 흔들리지 않도록)
+        private static final Comparator<Scored> ORDER = Comparator
+                .comparingInt(Scored::mutualFriendCount).reversed()
+                .thenComparing(Comparator.comparingInt(Scored::sharedMoimCount).reversed())
+                .thenComparing(Scored::candidateId);
+    }
+}
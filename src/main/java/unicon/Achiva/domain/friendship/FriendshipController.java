@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import unicon.Achiva.domain.auth.AuthService;
+import unicon.Achiva.domain.friendship.dto.FriendSuggestionResponse;
 import unicon.Achiva.domain.friendship.dto.FriendshipRequest;
 import unicon.Achiva.domain.friendship.dto.FriendshipResponse;
 import unicon.Achiva.global.response.ApiResponseForm;
@@ -71,6 +72,16 @@ public class FriendshipController {
         return ResponseEntity.ok(ApiResponseForm.success(friendList, "특정 유저 친구 목록 조회 성공"));
     }
 
+    @Operation(summary = "공통 친구 수 조회", description = "같은 organization의 유저에 대해서만 조회할 수 있습니다.")
+    @GetMapping("/api/friendships/{memberId}/mutual-count")
+    public ResponseEntity<ApiResponseForm<Integer>> getMutualFriendCount(
+            @PathVariable UUID memberId
+    ) {
+        UUID requesterId = authService.getMemberIdFromToken();
+        int mutualFriendCount = friendshipService.getMutualFriendCount(requesterId, memberId);
+        return ResponseEntity.ok(ApiResponseForm.success(mutualFriendCount, "공통 친구 수 조회 성공"));
+    }
+
     @Operation(summary = "특정 유저 친구 목록 조회 (닉네임으로)", description = "같은 organization의 유저에 대해서만 조회할 수 있습니다.")
     @GetMapping("/api2/friendships/{nickname}")
     public ResponseEntity<ApiResponseForm<List<FriendshipResponse>>> getFriendListByNickname(
@@ -90,6 +101,16 @@ public class FriendshipController {
         return ResponseEntity.ok(ApiResponseForm.success(friendRequests, "친구 신청 목록 조회 성공"));
     }
 
+    @Operation(summary = "알 수도 있는 친구 추천", description = "친구의 친구를 공통 친구 수, 함께 참여 중인 모임 수 순으로 조회합니다.")
+    @GetMapping("/api/friendships/suggestions")
+    public ResponseEntity<ApiResponseForm<List<FriendSuggestionResponse>>> getFriendSuggestions(
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        UUID memberId = authService.getMemberIdFromToken();
+        List<FriendSuggestionResponse> suggestions = friendshipService.getFriendSuggestions(memberId, size);
+        return ResponseEntity.ok(ApiResponseForm.success(suggestions, "친구 추천 조회 성공"));
+    }
+
     @Operation(summary = "내가 보낸 친구 신청 목록 조회")
     @GetMapping("/api/friendships/sent-requests")
     public ResponseEntity<ApiResponseForm<List<FriendshipResponse>>> getSentFriendRequests(
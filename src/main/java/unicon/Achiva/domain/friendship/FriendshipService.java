@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.HomeTimelineService;
+import unicon.Achiva.domain.friendship.dto.FriendSuggestionResponse;
 import unicon.Achiva.domain.friendship.dto.FriendshipRequest;
 import unicon.Achiva.domain.friendship.dto.FriendshipResponse;
 import unicon.Achiva.domain.friendship.entity.Friendship;
@@ -16,7 +18,6 @@ import unicon.Achiva.domain.push.PushService;
 import unicon.Achiva.domain.push.dto.PushSendRequest;
 import unicon.Achiva.global.response.GeneralException;
 
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,16 +31,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class FriendshipService {
 
-    private static final Comparator<Friendship> FRIENDSHIP_PRIORITY = Comparator
-            .comparingInt((Friendship friendship) -> statusPriority(friendship.getStatus())).reversed()
-            .thenComparing(Friendship::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
-            .thenComparing(Friendship::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
-            .thenComparing(Friendship::getId, Comparator.nullsLast(Comparator.reverseOrder()));
-
     private final FriendshipRepository friendshipRepository;
     private final MemberRepository memberRepository;
     private final PushService pushService;
     private final OrganizationAccessService organizationAccessService;
+    private final HomeTimelineService homeTimelineService;
+    private final FriendGraphService friendGraphService;
+    private final FriendSuggestionService friendSuggestionService;
 
     @Transactional
     public FriendshipResponse sendFriendRequest(FriendshipRequest friendshipRequest, UUID fromMemberId) {
@@ -53,51 +51,33 @@ public class FriendshipService {
         Map<UUID, Member> members = lockMembers(fromMemberId, receiverId);
         Member requester = members.get(fromMemberId);
         Member receiver = members.get(receiverId);
-        List<Friendship> pairFriendships = friendshipRepository.findAllByMemberPairForUpdate(fromMemberId, receiverId);
-
-        Friendship blockedFriendship = findLatestByStatus(pairFriendships, FriendshipStatus.BLOCKED);
-        if (blockedFriendship != null) {
-            cleanupPairDuplicates(pairFriendships, blockedFriendship);
-            throw new GeneralException(FriendshipErrorCode.FRIENDSHIP_BLOCKED);
-        }
-
-        Friendship acceptedFriendship = findLatestByStatus(pairFriendships, FriendshipStatus.ACCEPTED);
-        if (acceptedFriendship != null) {
-            cleanupPairDuplicates(pairFriendships, acceptedFriendship);
-            return FriendshipResponse.fromEntity(acceptedFriendship);
-        }
-
-        Friendship reversePendingFriendship = pairFriendships.stream()
-                .filter(friendship -> friendship.getStatus() == FriendshipStatus.PENDING)
-                .filter(friendship -> friendship.getRequester().getId().equals(receiverId))
-                .filter(friendship -> friendship.getReceiver().getId().equals(fromMemberId))
-                .max(FRIENDSHIP_PRIORITY)
-                .orElse(null);
-        if (reversePendingFriendship != null) {
-            reversePendingFriendship.updateStatus(FriendshipStatus.ACCEPTED);
-            cleanupPairDuplicates(pairFriendships, reversePendingFriendship);
-            sendFriendAcceptPushNotification(requester, receiver);
-            return FriendshipResponse.fromEntity(reversePendingFriendship);
-        }
-
-        Friendship sameDirectionPendingFriendship = pairFriendships.stream()
-                .filter(friendship -> friendship.getStatus() == FriendshipStatus.PENDING)
-                .filter(friendship -> friendship.getRequester().getId().equals(fromMemberId))
-                .filter(friendship -> friendship.getReceiver().getId().equals(receiverId))
-                .max(FRIENDSHIP_PRIORITY)
-                .orElse(null);
-        if (sameDirectionPendingFriendship != null) {
-            cleanupPairDuplicates(pairFriendships, sameDirectionPendingFriendship);
-            return FriendshipResponse.fromEntity(sameDirectionPendingFriendship);
-        }
-
-        Friendship reusableRejectedFriendship = findLatestByStatus(pairFriendships, FriendshipStatus.REJECTED);
-        if (reusableRejectedFriendship != null) {
-            reusableRejectedFriendship.updateParticipants(requester, receiver);
-            reusableRejectedFriendship.updateStatus(FriendshipStatus.PENDING);
-            cleanupPairDuplicates(pairFriendships, reusableRejectedFriendship);
-            sendFriendRequestPushNotification(requester, receiver);
-            return FriendshipResponse.fromEntity(reusableRejectedFriendship);
+        Friendship existing = friendshipRepository.findByMemberPairForUpdate(fromMemberId, receiverId).orElse(null);
+
+        if (existing != null) {
+            switch (existing.getStatus()) {
+                case BLOCKED -> throw new GeneralException(FriendshipErrorCode.FRIENDSHIP_BLOCKED);
+                case ACCEPTED -> {
+                    return FriendshipResponse.fromEntity(existing);
+                }
+                case PENDING -> {
+                    // 상대가 이미 보낸 요청이 있으면 바로 수락, 같은 방향이면 기존 요청 그대로
+                    if (existing.getRequester().getId().equals(receiverId)) {
+                        existing.updateStatus(FriendshipStatus.ACCEPTED);
+                        homeTimelineService.refreshRelation(receiverId, fromMemberId);
+                        friendGraphService.onLinked(receiverId, fromMemberId);
+                        friendSuggestionService.markChanged(receiverId, fromMemberId);
+                        sendFriendAcceptPushNotification(requester, receiver);
+                    }
+                    return FriendshipResponse.fromEntity(existing);
+                }
+                case REJECTED -> {
+                    existing.updateParticipants(requester, receiver);
+                    existing.updateStatus(FriendshipStatus.PENDING);
+                    friendSuggestionService.markChanged(fromMemberId, receiverId);
+                    sendFriendRequestPushNotification(requester, receiver);
+                    return FriendshipResponse.fromEntity(existing);
+                }
+            }
         }
 
         Friendship friendship = Friendship.builder()
@@ -107,6 +87,7 @@ public class FriendshipService {
                 .build();
 
         friendshipRepository.save(friendship);
+        friendSuggestionService.markChanged(fromMemberId, receiverId);
 
         // 푸시 알림 전송: 친구 요청 (friend_request)
         sendFriendRequestPushNotification(requester, receiver);
@@ -116,7 +97,7 @@ public class FriendshipService {
 
     @Transactional
     public FriendshipResponse acceptFriendRequest(Long friendshipId, UUID memberId) {
-        Friendship friendship = friendshipRepository.findById(friendshipId)
+        Friendship friendship = friendshipRepository.findByIdForUpdate(friendshipId)
                 .orElseThrow(() -> new GeneralException(FriendshipErrorCode.FRIENDSHIP_NOT_FOUND));
         validateFriendshipAccessible(memberId, friendship);
 
@@ -132,13 +113,10 @@ public class FriendshipService {
             throw new GeneralException(FriendshipErrorCode.FRIENDSHIP_NOT_RECEIVER);
         }
 
-        lockMembers(friendship.getRequester().getId(), friendship.getReceiver().getId());
-        List<Friendship> pairFriendships = friendshipRepository.findAllByMemberPairForUpdate(
-                friendship.getRequester().getId(),
-                friendship.getReceiver().getId()
-        );
         friendship.updateStatus(FriendshipStatus.ACCEPTED);
-        cleanupPairDuplicates(pairFriendships, friendship);
+        homeTimelineService.refreshRelation(friendship.getRequester().getId(), friendship.getReceiver().getId());
+        friendGraphService.onLinked(friendship.getRequester().getId(), friendship.getReceiver().getId());
+        friendSuggestionService.markChanged(friendship.getRequester().getId(), friendship.getReceiver().getId());
 
         // 푸시 알림 전송: 친구 수락 (friend_accept)
         sendFriendAcceptPushNotification(friendship.getReceiver(), friendship.getRequester());
@@ -148,7 +126,7 @@ public class FriendshipService {
 
     @Transactional
     public FriendshipResponse rejectFriendRequest(Long friendshipId, UUID memberId) {
-        Friendship friendship = friendshipRepository.findById(friendshipId)
+        Friendship friendship = friendshipRepository.findByIdForUpdate(friendshipId)
                 .orElseThrow(() -> new GeneralException(FriendshipErrorCode.FRIENDSHIP_NOT_FOUND));
         validateFriendshipAccessible(memberId, friendship);
 
@@ -164,41 +142,27 @@ public class FriendshipService {
             throw new GeneralException(FriendshipErrorCode.FRIENDSHIP_NOT_RECEIVER);
         }
 
-        lockMembers(friendship.getRequester().getId(), friendship.getReceiver().getId());
-        List<Friendship> pairFriendships = friendshipRepository.findAllByMemberPairForUpdate(
-                friendship.getRequester().getId(),
-                friendship.getReceiver().getId()
-        );
         friendship.updateStatus(FriendshipStatus.REJECTED);
-        cleanupPairDuplicates(pairFriendships, friendship);
+        friendSuggestionService.markChanged(friendship.getRequester().getId(), friendship.getReceiver().getId());
         friendshipRepository.save(friendship);
         return FriendshipResponse.fromEntity(friendship);
     }
 
     public List<FriendshipResponse> getFriendRequests(UUID memberId) {
-        return friendshipRepository.findByReceiverIdAndStatus(memberId, FriendshipStatus.PENDING)
-                .stream()
-                .filter(friendship -> isFriendshipAccessible(memberId, friendship))
-                .map(FriendshipResponse::fromEntity)
-                .collect(Collectors.toList());
+        Long organizationId = organizationAccessService.getOrganizationId(memberId);
+        return friendshipRepository.findResponsesByReceiverIdInOrganization(memberId, organizationId, FriendshipStatus.PENDING);
     }
 
     public List<FriendshipResponse> getSentFriendRequests(UUID memberId) {
-        return friendshipRepository.findByRequesterIdAndStatus(memberId, FriendshipStatus.PENDING)
-                .stream()
-                .filter(friendship -> isFriendshipAccessible(memberId, friendship))
-                .map(FriendshipResponse::fromEntity)
-                .collect(Collectors.toList());
+        Long organizationId = organizationAccessService.getOrganizationId(memberId);
+        return friendshipRepository.findResponsesByRequesterIdInOrganization(memberId, organizationId, FriendshipStatus.PENDING);
     }
 
     public List<FriendshipResponse> getFriends(UUID requesterId, UUID targetMemberId) {
         UUID memberId = organizationAccessService.getAccessibleMember(requesterId, targetMemberId).getId();
-        return friendshipRepository.findByRequesterIdOrReceiverId(memberId, memberId)
-                .stream()
-                .filter(friendship -> friendship.getStatus() == FriendshipStatus.ACCEPTED)
-                .filter(friendship -> isFriendshipAccessible(requesterId, friendship))
-                .map(FriendshipResponse::fromEntity)
-                .collect(Collectors.toList());
+        Long organizationId = organizationAccessService.getOrganizationId(requesterId);
+        return friendshipRepository.findResponsesByMemberIdInOrganization(
+                memberId, requesterId, organizationId, FriendshipStatus.ACCEPTED);
     }
 
     public List<FriendshipResponse> getFriendsByNickname(UUID requesterId, String nickname) {
@@ -207,12 +171,23 @@ public class FriendshipService {
                 .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND))
                 .getId();
 
-        return friendshipRepository.findByRequesterIdOrReceiverId(memberId, memberId)
-                .stream()
-                .filter(friendship -> friendship.getStatus() == FriendshipStatus.ACCEPTED)
-                .filter(friendship -> isFriendshipAccessible(requesterId, friendship))
-                .map(FriendshipResponse::fromEntity)
-                .collect(Collectors.toList());
+        return friendshipRepository.findResponsesByMemberIdInOrganization(
+                memberId, requesterId, organizationId, FriendshipStatus.ACCEPTED);
+    }
+
+    /**
+     * 알 수도 있는 친구 (친구의 친구를 공통 친구 수 순으로)
+     */
+    public List<FriendSuggestionResponse> getFriendSuggestions(UUID memberId, int size) {
+        return friendSuggestionService.getSuggestions(memberId, size);
+    }
+
+    /**
+     * 요청자와 대상 회원의 공통 친구 수 (같은 organization 회원만 조회 가능)
+     */
+    public int getMutualFriendCount(UUID requesterId, UUID targetMemberId) {
+        organizationAccessService.validateSameOrganization(requesterId, targetMemberId);
+        return friendGraphService.getMutualFriendCount(requesterId, targetMemberId);
     }
 
     @Transactional
@@ -227,6 +202,9 @@ public class FriendshipService {
 
         if (friendship.getReceiver().getId().equals(memberId)) {
             friendship.updateStatus(FriendshipStatus.BLOCKED);
+            homeTimelineService.refreshRelation(friendship.getRequester().getId(), memberId);
+            friendGraphService.onUnlinked(friendship.getRequester().getId(), memberId);
+            friendSuggestionService.markChanged(friendship.getRequester().getId(), memberId);
         } else {
             throw new GeneralException(FriendshipErrorCode.FRIENDSHIP_NOT_RECEIVER);
         }
@@ -244,6 +222,7 @@ public class FriendshipService {
 
         if (friendship.getRequester().getId().equals(memberId)) {
             friendshipRepository.delete(friendship);
+            friendSuggestionService.markChanged(memberId, friendship.getReceiver().getId());
         } else {
             throw new GeneralException(FriendshipErrorCode.FRIENDSHIP_NOT_REQUESTER);
         }
@@ -275,64 +254,54 @@ public class FriendshipService {
 
     /**
      * 친구 요청 푸시 알림 전송
-     * 에러 발생 시에도 비즈니스 로직에 영향을 주지 않도록 예외 처리
+     * 호출한 트랜잭션에서 push_outbox 에 기록하므로, 기록에 실패하면 친구 관계 변경도 함께 롤백됩니다.
      */
     private void sendFriendRequestPushNotification(Member requester, Member receiver) {
-        try {
-            // 수신자의 pushEnabled 확인은 PushService에서 처리됨
-            String title = "새로운 친구 요청";
-            String body = String.format("%s님이 회원님에게 친구 요청을 남겼어요.", requester.getNickName());
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("type", "friend_request");
-            data.put("fromUserId", requester.getId().toString());
-
-            PushSendRequest pushRequest = PushSendRequest.builder()
-                    .targetMemberId(receiver.getId())
-                    .title(title)
-                    .body(body)
-                    .data(data)
-                    .build();
-
-            pushService.sendPushNotification(requester.getId(), pushRequest);
-            log.info("[Friendship] 친구 요청 푸시 알림 전송 성공 - from: {}, to: {}",
-                     requester.getId(), receiver.getId());
-        } catch (Exception e) {
-            // 푸시 전송 실패 시 로그만 남기고 비즈니스 로직은 계속 진행
-            log.error("[Friendship] 친구 요청 푸시 알림 전송 실패 - from: {}, to: {}, error: {}",
-                      requester.getId(), receiver.getId(), e.getMessage(), e);
-        }
+        // 수신자의 pushEnabled 확인은 PushService에서 처리됨
+        String title = "새로운 친구 요청";
+        String nickName = requester.getNickName();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("type", "friend_request");
+        data.put("fromUserId", requester.getId().toString());
+
+        PushSendRequest pushRequest = PushSendRequest.builder()
+                .targetMemberId(receiver.getId())
+                .title(title)
+                .data(data)
+                .build();
+
+        // 짧은 시간에 몰린 친구 요청은 알림 하나로 묶어 보냄
+        pushService.enqueueCoalescedPushNotification(requester.getId(), pushRequest, "friend_request", count -> count == 1
+                ? String.format("%s님이 회원님에게 친구 요청을 남겼어요.", nickName)
+                : String.format("%s님 외 %d명이 회원님에게 친구 요청을 남겼어요.", nickName, count - 1));
+        log.info("[Friendship] 친구 요청 푸시 알림 등록 - from: {}, to: {}",
+                 requester.getId(), receiver.getId());
     }
 
     /**
      * 친구 수락 푸시 알림 전송
-     * 에러 발생 시에도 비즈니스 로직에 영향을 주지 않도록 예외 처리
+     * 호출한 트랜잭션에서 push_outbox 에 기록하므로, 기록에 실패하면 친구 관계 변경도 함께 롤백됩니다.
      */
     private void sendFriendAcceptPushNotification(Member acceptor, Member requester) {
-        try {
-            // 수신자의 pushEnabled 확인은 PushService에서 처리됨
-            String title = String.format("%s님과 친구가 되었어요", acceptor.getNickName());
-            String body = "새로운 친구에게 응원코멘트를 남겨보세요.";
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("type", "friend_accept");
-            data.put("fromUserId", acceptor.getId().toString());
-
-            PushSendRequest pushRequest = PushSendRequest.builder()
-                    .targetMemberId(requester.getId())
-                    .title(title)
-                    .body(body)
-                    .data(data)
-                    .build();
-
-            pushService.sendPushNotification(acceptor.getId(), pushRequest);
-            log.info("[Friendship] 친구 수락 푸시 알림 전송 성공 - from: {}, to: {}",
-                     acceptor.getId(), requester.getId());
-        } catch (Exception e) {
-            // 푸시 전송 실패 시 로그만 남기고 비즈니스 로직은 계속 진행
-            log.error("[Friendship] 친구 수락 푸시 알림 전송 실패 - from: {}, to: {}, error: {}",
-                      acceptor.getId(), requester.getId(), e.getMessage(), e);
-        }
+        // 수신자의 pushEnabled 확인은 PushService에서 처리됨
+        String title = String.format("%s님과 친구가 되었어요", acceptor.getNickName());
+        String body = "새로운 친구에게 응원코멘트를 남겨보세요.";
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("type", "friend_accept");
+        data.put("fromUserId", acceptor.getId().toString());
+
+        PushSendRequest pushRequest = PushSendRequest.builder()
+                .targetMemberId(requester.getId())
+                .title(title)
+                .body(body)
+                .data(data)
+                .build();
+
+        pushService.enqueuePushNotification(acceptor.getId(), pushRequest);
+        log.info("[Friendship] 친구 수락 푸시 알림 등록 - from: {}, to: {}",
+                 acceptor.getId(), requester.getId());
     }
 
     private Map<UUID, Member> lockMembers(UUID firstMemberId, UUID secondMemberId) {
@@ -349,37 +318,14 @@ public class FriendshipService {
                 .collect(Collectors.toMap(Member::getId, Function.identity()));
     }
 
-    private Friendship findLatestByStatus(List<Friendship> friendships, FriendshipStatus status) {
-        return friendships.stream()
-                .filter(friendship -> friendship.getStatus() == status)
-                .max(FRIENDSHIP_PRIORITY)
-                .orElse(null);
-    }
-
-    private void cleanupPairDuplicates(List<Friendship> friendships, Friendship canonicalFriendship) {
-        List<Friendship> duplicates = friendships.stream()
-                .filter(friendship -> !friendship.getId().equals(canonicalFriendship.getId()))
-                .toList();
-
-        if (!duplicates.isEmpty()) {
-            friendshipRepository.deleteAll(duplicates);
-        }
-    }
-
-    private static int statusPriority(FriendshipStatus status) {
-        return switch (status) {
-            case BLOCKED -> 4;
-            case ACCEPTED -> 3;
-            case PENDING -> 2;
-            case REJECTED -> 1;
-        };
+    private boolean isFriendshipAccessible(UUID requesterId, Friendship friendship) {
+        return organizationAccessService.isSameOrganization(requesterId, otherMemberId(requesterId, friendship));
     }
 
-    private boolean isFriendshipAccessible(UUID requesterId, Friendship friendship) {
-        UUID otherMemberId = friendship.getRequester().getId().equals(requesterId)
+    private static UUID otherMemberId(UUID requesterId, Friendship friendship) {
+        return friendship.getRequester().getId().equals(requesterId)
                 ? friendship.getReceiver().getId()
                 : friendship.getRequester().getId();
-        return organizationAccessService.isSameOrganization(requesterId, otherMemberId);
     }
 
     private void validateFriendshipAccessible(UUID requesterId, Friendship friendship) {
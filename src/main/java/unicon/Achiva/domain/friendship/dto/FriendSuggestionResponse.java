@@ -0,0 +1,20 @@
+package unicon.Achiva.domain.friendship.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "알 수도 있는 친구 추천")
+public record FriendSuggestionResponse(
+        @Schema(description = "추천 회원 ID")
+        UUID memberId,
+        @Schema(description = "닉네임", example = "achiva_user")
+        String nickName,
+        @Schema(description = "프로필 이미지 URL", example = "https://example.com/profile.png")
+        String profileImageUrl,
+        @Schema(description = "공통 친구 수", example = "3")
+        int mutualFriendCount,
+        @Schema(description = "함께 참여 중인 모임 수", example = "1")
+        int sharedMoimCount
+) {
+}
@@ -1,5 +1,6 @@
 package unicon.Achiva.domain.friendship.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import unicon.Achiva.domain.friendship.FriendshipStatus;
@@ -9,6 +10,7 @@ import java.util.UUID;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class FriendshipResponse {
     private Long id;
     private UUID requesterId;
@@ -0,0 +1,46 @@
+package unicon.Achiva.domain.friendship.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 알 수도 있는 친구 추천 (회원별 rank_no 순)
+ * FriendSuggestionService 가 친구 그래프에서 친구의 친구를 공통 친구 수, 공통 모임 수 순으로 골라 저장합니다.
+ */
+@Entity
+@Table(
+    name = "friend_suggestion",
+    indexes = {
+        @Index(name = "idx_friend_suggestion_organization", columnList = "organization_id")
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FriendSuggestion {
+
+    @EmbeddedId
+    private FriendSuggestionKey id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "candidate_id", nullable = false)
+    private UUID candidateId;
+
+    @Column(name = "mutual_friend_count", nullable = false)
+    private int mutualFriendCount;
+
+    @Column(name = "shared_moim_count", nullable = false)
+    private int sharedMoimCount;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
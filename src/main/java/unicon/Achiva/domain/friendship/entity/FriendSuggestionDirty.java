@@ -0,0 +1,34 @@
+package unicon.Achiva.domain.friendship.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 친구 관계가 바뀌어 추천을 다시 계산해야 하는 회원
+ * 친구 요청/수락/거절/차단/취소 시 두 회원을 기록하고, FriendSuggestionJob 이 처리한 뒤 지웁니다.
+ */
+@Entity
+@Table(
+    name = "friend_suggestion_dirty",
+    indexes = {
+        @Index(name = "idx_friend_suggestion_dirty_organization", columnList = "organization_id, marked_at")
+    }
+)
+@Getter
+@NoArgsConstructor
+public class FriendSuggestionDirty {
+
+    @Id
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "marked_at", nullable = false)
+    private LocalDateTime markedAt;
+}
@@ -11,6 +11,8 @@ import unicon.Achiva.domain.friendship.FriendshipStatus;
 import unicon.Achiva.domain.member.entity.Member;
 import unicon.Achiva.global.common.LongBaseEntity;
 
+import java.util.UUID;
+
 @Getter
 @Entity
 @NoArgsConstructor
@@ -24,10 +26,20 @@ public class Friendship extends LongBaseEntity {
     private Member requester;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "receiver_id")
+    @JoinColumn(name = "receiver_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Member receiver;
 
+    /**
+     * 두 회원 ID 중 작은 쪽/큰 쪽 (BINARY(16) 바이트 순서). (member_low, member_high) 유니크 인덱스로
+     * 한 쌍의 회원 사이에는 방향과 관계없이 friendship 행이 하나만 존재합니다.
+     */
+    @Column(name = "member_low", nullable = false, updatable = false)
+    private UUID memberLow;
+
+    @Column(name = "member_high", nullable = false, updatable = false)
+    private UUID memberHigh;
+
     @Enumerated(EnumType.STRING)
     private FriendshipStatus status;
 
@@ -37,14 +49,34 @@ public class Friendship extends LongBaseEntity {
     @Builder.Default
     private boolean requesterAllowsPostPush = true;
 
-    public void updateReceiver(Member receiver) {
-        this.receiver = receiver;
+    @PrePersist
+    void assignMemberPair() {
+        UUID requesterId = requester.getId();
+        UUID receiverId = receiver.getId();
+        this.memberLow = pairLow(requesterId, receiverId);
+        this.memberHigh = pairHigh(requesterId, receiverId);
     }
 
-    public void updateRequester(Member requester) {
-        this.requester = requester;
+    /**
+     * MySQL 이 BINARY(16) 을 비교하는 순서(부호 없는 바이트 순)와 같은 기준으로 작은 쪽 ID 를 고릅니다.
+     * UUID.compareTo 는 부호 있는 long 비교라 이 순서와 다릅니다.
+     */
+    public static UUID pairLow(UUID first, UUID second) {
+        return compareUnsigned(first, second) <= 0 ? first : second;
+    }
+
+    public static UUID pairHigh(UUID first, UUID second) {
+        return compareUnsigned(first, second) <= 0 ? second : first;
+    }
+
+    private static int compareUnsigned(UUID first, UUID second) {
+        int result = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
     }
 
+    /**
+     * 같은 두 회원 사이에서 요청 방향만 바꿉니다. (member_low, member_high) 는 바뀌지 않습니다.
+     */
     public void updateParticipants(Member requester, Member receiver) {
         this.requester = requester;
         this.receiver = receiver;
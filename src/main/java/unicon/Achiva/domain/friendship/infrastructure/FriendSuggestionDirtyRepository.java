@@ -0,0 +1,48 @@
+package unicon.Achiva.domain.friendship.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.friendship.entity.FriendSuggestionDirty;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface FriendSuggestionDirtyRepository extends JpaRepository<FriendSuggestionDirty, UUID> {
+
+    /**
+     * 두 회원을 추천 재계산 대상으로 기록합니다. 이미 있으면 marked_at 만 갱신합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO friend_suggestion_dirty (member_id, organization_id, marked_at)
+            SELECT m.id, m.organization_id, :markedAt
+              FROM member m
+             WHERE m.id IN (UNHEX(REPLACE(:firstMemberId, '-', '')), UNHEX(REPLACE(:secondMemberId, '-', '')))
+            ON DUPLICATE KEY UPDATE marked_at = :markedAt
+            """, nativeQuery = true)
+    int mark(@Param("firstMemberId") String firstMemberId,
+             @Param("secondMemberId") String secondMemberId,
+             @Param("markedAt") LocalDateTime markedAt);
+
+    @Query("select distinct d.organizationId from FriendSuggestionDirty d")
+    List<Long> findOrganizationIds();
+
+    @Query("select d.memberId from FriendSuggestionDirty d where d.organizationId = :organizationId")
+    List<UUID> findMemberIdsByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * 처리한 대상만 지웁니다. 처리 중 다시 기록된 회원(marked_at 이 이후)은 남겨 다음 실행에서 다시 계산합니다.
+     */
+    @Modifying
+    @Query("""
+            delete from FriendSuggestionDirty d
+            where d.memberId in :memberIds
+              and d.markedAt <= :markedAt
+            """)
+    int deleteAllMarkedBefore(@Param("memberIds") Collection<UUID> memberIds,
+                              @Param("markedAt") LocalDateTime markedAt);
+}
@@ -0,0 +1,42 @@
+package unicon.Achiva.domain.friendship.infrastructure;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.friendship.dto.FriendSuggestionResponse;
+import unicon.Achiva.domain.friendship.entity.FriendSuggestion;
+import unicon.Achiva.domain.friendship.entity.FriendSuggestionKey;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface FriendSuggestionRepository extends JpaRepository<FriendSuggestion, FriendSuggestionKey>, FriendSuggestionRepositoryCustom {
+
+    /**
+     * 회원의 추천 목록을 rank_no 순으로 조회합니다. (PK (member_id, rank_no) 범위 조회)
+     * 계산 이후 다른 organization 으로 옮긴 후보는 제외합니다.
+     */
+    @Query("""
+            select new unicon.Achiva.domain.friendship.dto.FriendSuggestionResponse(
+                candidate.id, candidate.nickName, candidate.profileImageUrl, s.mutualFriendCount, s.sharedMoimCount)
+            from FriendSuggestion s
+            join Member candidate on candidate.id = s.candidateId
+            where s.id.memberId = :memberId
+              and candidate.organization.id = :organizationId
+            order by s.id.rankNo
+            """)
+    List<FriendSuggestionResponse> findResponsesByMemberId(@Param("memberId") UUID memberId,
+                                                           @Param("organizationId") Long organizationId,
+                                                           Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from FriendSuggestion s where s.id.memberId in :memberIds")
+    int deleteAllByMemberIdIn(@Param("memberIds") Collection<UUID> memberIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from FriendSuggestion s where s.organizationId = :organizationId")
+    int deleteAllByOrganizationId(@Param("organizationId") Long organizationId);
+}
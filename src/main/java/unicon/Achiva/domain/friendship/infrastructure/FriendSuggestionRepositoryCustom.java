@@ -0,0 +1,10 @@
+package unicon.Achiva.domain.friendship.infrastructure;
+
+import unicon.Achiva.domain.friendship.entity.FriendSuggestion;
+
+import java.util.List;
+
+public interface FriendSuggestionRepositoryCustom {
+
+    int insertAll(List<FriendSuggestion> suggestions);
+}
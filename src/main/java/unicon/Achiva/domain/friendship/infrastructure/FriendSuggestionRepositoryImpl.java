@@ -0,0 +1,69 @@
+package unicon.Achiva.domain.friendship.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import unicon.Achiva.domain.friendship.entity.FriendSuggestion;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FriendSuggestionRepositoryImpl implements FriendSuggestionRepositoryCustom {
+
+    // 한 문장의 바인딩 파라미터 수를 제한하기 위한 행 수
+    private static final int ROWS_PER_STATEMENT = 300;
+
+    private final EntityManager em;
+
+    /**
+     * 추천을 multi-row INSERT 로 저장합니다.
+     * 다른 인스턴스의 작업이 같은 (member_id, rank_no) 를 먼저 썼다면 이번 계산 결과로 덮어씁니다.
+     */
+    @Override
+    public int insertAll(List<FriendSuggestion> suggestions) {
+        int inserted = 0;
+        for (int from = 0; from < suggestions.size(); from += ROWS_PER_STATEMENT) {
+            List<FriendSuggestion> chunk = suggestions.subList(from, Math.min(from + ROWS_PER_STATEMENT, suggestions.size()));
+
+            StringBuilder sql = new StringBuilder("""
+                    INSERT INTO friend_suggestion
+                           (member_id, rank_no, organization_id, candidate_id, mutual_friend_count, shared_moim_count, computed_at)
+                    VALUES
+                    """);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(',');
+                }
+                sql.append("""
+                        (UNHEX(REPLACE(:member%d, '-', '')), :rank%d, :organization%d,
+                         UNHEX(REPLACE(:candidate%d, '-', '')), :mutual%d, :moim%d, :computedAt%d)
+                        """.formatted(i, i, i, i, i, i, i));
+            }
+            sql.append("""
+                     AS new
+                     ON DUPLICATE KEY UPDATE
+                        organization_id = new.organization_id,
+                        candidate_id = new.candidate_id,
+                        mutual_friend_count = new.mutual_friend_count,
+                        shared_moim_count = new.shared_moim_count,
+                        computed_at = new.computed_at
+                    """);
+
+            Query query = em.createNativeQuery(sql.toString());
+            for (int i = 0; i < chunk.size(); i++) {
+                FriendSuggestion suggestion = chunk.get(i);
+                query.setParameter("member" + i, suggestion.getId().getMemberId().toString());
+                query.setParameter("rank" + i, suggestion.getId().getRankNo());
+                query.setParameter("organization" + i, suggestion.getOrganizationId());
+                query.setParameter("candidate" + i, suggestion.getCandidateId().toString());
+                query.setParameter("mutual" + i, suggestion.getMutualFriendCount());
+                query.setParameter("moim" + i, suggestion.getSharedMoimCount());
+                query.setParameter("computedAt" + i, suggestion.getComputedAt());
+            }
+            inserted += query.executeUpdate();
+        }
+        return inserted;
+    }
+}
@@ -1,44 +1,108 @@
 package unicon.Achiva.domain.friendship.infrastructure;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import unicon.Achiva.domain.friendship.FriendshipStatus;
+import unicon.Achiva.domain.friendship.dto.FriendshipResponse;
 import unicon.Achiva.domain.friendship.entity.Friendship;
+import unicon.Achiva.domain.push.dto.IndividualFriendPushSetting;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
-    List<Friendship> findByReceiverIdAndStatus(UUID memberId, FriendshipStatus friendshipStatus);
-
-    List<Friendship> findByRequesterIdOrReceiverId(UUID memberId, UUID memberId1);
-
-    List<Friendship> findByRequesterIdAndStatus(UUID memberId, FriendshipStatus friendshipStatus);
+    /**
+     * 두 회원 사이의 friendship 을 잠그고 조회합니다. (member_low, member_high) 유니크 인덱스 한 번으로 찾습니다.
+     */
+    default Optional<Friendship> findByMemberPairForUpdate(UUID firstMemberId, UUID secondMemberId) {
+        return findByPairKeyForUpdate(Friendship.pairLow(firstMemberId, secondMemberId),
+                Friendship.pairHigh(firstMemberId, secondMemberId));
+    }
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
             select f
             from Friendship f
-            where (f.requester.id = :firstMemberId and f.receiver.id = :secondMemberId)
-               or (f.requester.id = :secondMemberId and f.receiver.id = :firstMemberId)
+            where f.memberLow = :memberLow
+              and f.memberHigh = :memberHigh
             """)
-    List<Friendship> findAllByMemberPairForUpdate(@Param("firstMemberId") UUID firstMemberId,
-                                                  @Param("secondMemberId") UUID secondMemberId);
+    Optional<Friendship> findByPairKeyForUpdate(@Param("memberLow") UUID memberLow,
+                                                @Param("memberHigh") UUID memberHigh);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from Friendship f where f.id = :id")
+    Optional<Friendship> findByIdForUpdate(@Param("id") Long id);
+
+    default boolean existsByMemberPairAndStatus(UUID firstMemberId, UUID secondMemberId, FriendshipStatus status) {
+        return existsByPairKeyAndStatus(Friendship.pairLow(firstMemberId, secondMemberId),
+                Friendship.pairHigh(firstMemberId, secondMemberId), status);
+    }
 
     @Query("""
-            select case
-                when f.requester.id = :me then f.receiver.id
-                else f.requester.id
-            end
+            select count(f) > 0
             from Friendship f
-            where (f.requester.id = :me or f.receiver.id = :me)
+            where f.memberLow = :memberLow
+              and f.memberHigh = :memberHigh
               and f.status = :status
             """)
-    List<UUID> findFriendIdsOf(@Param("me") UUID me,
-                               @Param("status") FriendshipStatus status);
+    boolean existsByPairKeyAndStatus(@Param("memberLow") UUID memberLow,
+                                     @Param("memberHigh") UUID memberHigh,
+                                     @Param("status") FriendshipStatus status);
+
+    /**
+     * organization 안의 수락된 친구 관계를 (requesterId, receiverId) 로 스트리밍합니다. (FriendGraph 적재용)
+     * fetch size Integer.MIN_VALUE 는 MySQL 드라이버가 결과를 모두 받아 두지 않고 한 행씩 읽게 하는 값입니다.
+     * 스트림을 닫기 전에는 같은 커넥션으로 다른 쿼리를 실행할 수 없습니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("""
+            select f.requester.id, f.receiver.id
+            from Friendship f
+            where f.status = :status
+              and f.requester.organization.id = :organizationId
+              and f.receiver.organization.id = :organizationId
+            """)
+    Stream<Object[]> streamMemberPairsInOrganization(@Param("organizationId") Long organizationId,
+                                                     @Param("status") FriendshipStatus status);
+
+    /**
+     * organization 안의 statuses 상태 관계를 (requesterId, receiverId) 로 스트리밍합니다. (친구 추천 전체 재계산용)
+     * streamMemberPairsInOrganization 과 같이 드라이버 스트리밍으로 한 행씩 읽습니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("""
+            select f.requester.id, f.receiver.id
+            from Friendship f
+            where f.status in :statuses
+              and f.requester.organization.id = :organizationId
+              and f.receiver.organization.id = :organizationId
+            """)
+    Stream<Object[]> streamMemberPairsInOrganizationByStatusIn(@Param("organizationId") Long organizationId,
+                                                               @Param("statuses") Collection<FriendshipStatus> statuses);
+
+    /**
+     * memberIds 중 한 명이 포함된 organization 안의 친구 관계를 (requesterId, receiverId) 로 조회합니다. (친구 추천 부분 갱신용)
+     */
+    @Query("""
+            select f.requester.id, f.receiver.id
+            from Friendship f
+            where f.status in :statuses
+              and (f.requester.id in :memberIds or f.receiver.id in :memberIds)
+              and f.requester.organization.id = :organizationId
+              and f.receiver.organization.id = :organizationId
+            """)
+    List<Object[]> findMemberPairsInOrganizationByMemberIdIn(@Param("organizationId") Long organizationId,
+                                                             @Param("memberIds") Collection<UUID> memberIds,
+                                                             @Param("statuses") Collection<FriendshipStatus> statuses);
 
     @Query("""
             select f
@@ -57,4 +121,75 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
             """)
     List<Friendship> findAllAcceptedFriendships(@Param("memberId") UUID memberId,
                                                  @Param("status") FriendshipStatus status);
+
+    /**
+     * memberId 의 친구 관계 중 viewerId 기준 상대가 organizationId 에 속한 것만 DTO 로 조회합니다.
+     * (상대 = viewer 가 requester 면 receiver, 아니면 requester)
+     */
+    @Query("""
+            select new unicon.Achiva.domain.friendship.dto.FriendshipResponse(f.id, f.requester.id, f.receiver.id, f.status)
+            from Friendship f
+            join Member other
+              on other.id = case when f.requester.id = :viewerId then f.receiver.id else f.requester.id end
+            where (f.requester.id = :memberId or f.receiver.id = :memberId)
+              and f.status = :status
+              and other.organization.id = :organizationId
+            order by f.id
+            """)
+    List<FriendshipResponse> findResponsesByMemberIdInOrganization(@Param("memberId") UUID memberId,
+                                                                   @Param("viewerId") UUID viewerId,
+                                                                   @Param("organizationId") Long organizationId,
+                                                                   @Param("status") FriendshipStatus status);
+
+    /**
+     * 받은 요청 중 요청자가 organizationId 에 속한 것
+     */
+    @Query("""
+            select new unicon.Achiva.domain.friendship.dto.FriendshipResponse(f.id, f.requester.id, f.receiver.id, f.status)
+            from Friendship f
+            join f.requester requester
+            where f.receiver.id = :receiverId
+              and f.status = :status
+              and requester.organization.id = :organizationId
+            order by f.id
+            """)
+    List<FriendshipResponse> findResponsesByReceiverIdInOrganization(@Param("receiverId") UUID receiverId,
+                                                                     @Param("organizationId") Long organizationId,
+                                                                     @Param("status") FriendshipStatus status);
+
+    /**
+     * 보낸 요청 중 수신자가 organizationId 에 속한 것
+     */
+    @Query("""
+            select new unicon.Achiva.domain.friendship.dto.FriendshipResponse(f.id, f.requester.id, f.receiver.id, f.status)
+            from Friendship f
+            join f.receiver receiver
+            where f.requester.id = :requesterId
+              and f.status = :status
+              and receiver.organization.id = :organizationId
+            order by f.id
+            """)
+    List<FriendshipResponse> findResponsesByRequesterIdInOrganization(@Param("requesterId") UUID requesterId,
+                                                                      @Param("organizationId") Long organizationId,
+                                                                      @Param("status") FriendshipStatus status);
+
+    /**
+     * 같은 organization 친구별 게시글 푸시 수신 설정 (memberId 쪽 allowsPostPush 값)
+     */
+    @Query("""
+            select new unicon.Achiva.domain.push.dto.IndividualFriendPushSetting(
+                other.id,
+                other.nickName,
+                case when f.requester.id = :memberId then f.requesterAllowsPostPush else f.receiverAllowsPostPush end)
+            from Friendship f
+            join Member other
+              on other.id = case when f.requester.id = :memberId then f.receiver.id else f.requester.id end
+            where (f.requester.id = :memberId or f.receiver.id = :memberId)
+              and f.status = :status
+              and other.organization.id = :organizationId
+            order by f.id
+            """)
+    List<IndividualFriendPushSetting> findPushSettingsInOrganization(@Param("memberId") UUID memberId,
+                                                                     @Param("organizationId") Long organizationId,
+                                                                     @Param("status") FriendshipStatus status);
 }
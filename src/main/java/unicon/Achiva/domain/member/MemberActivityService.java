@@ -0,0 +1,141 @@
+package unicon.Achiva.domain.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.member.dto.MemberStatsResponse;
+import unicon.Achiva.domain.member.entity.MemberWeekKey;
+import unicon.Achiva.domain.member.entity.MemberWeeklyActivity;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+import unicon.Achiva.domain.member.infrastructure.MemberWeeklyActivityRepository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주간 운동 횟수(weeklyWorkoutCount)와 연속 목표 달성 주(continuousGoalWeeks)를
+ * member_weekly_activity 집계로 계산합니다.
+ * <p>
+ * 게시글 생성/삭제 시 해당 주의 행 하나만 갱신하고, 통계 조회는 최근 {@value #LOOKBACK_WEEKS}주 구간만 읽습니다.
+ * 연속 기록이 구간 끝까지 이어지는 경우에만 이전 구간을 추가로 조회하므로
+ * 작성자의 전체 게시글 이력을 읽지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberActivityService {
+
+    static final int LOOKBACK_WEEKS = 26;
+    private static final int GOAL_ACTIVE_DAYS_PER_WEEK = 3;
+
+    private final MemberWeeklyActivityRepository memberWeeklyActivityRepository;
+    private final MemberRepository memberRepository;
+    private final ArticleRepository articleRepository;
+
+    /**
+     * 새 게시글을 해당 주 집계에 반영합니다.
+     */
+    @Transactional
+    public void recordArticle(UUID memberId, LocalDateTime createdAt) {
+        LocalDate date = createdAt.toLocalDate();
+        lockOrInit(new MemberWeekKey(memberId, weekStartOf(date))).recordArticle(date);
+    }
+
+    /**
+     * 해당 주의 집계를 게시글 기준으로 다시 계산합니다. (게시글 삭제, 책 대표 아티클 지정/해제 시)
+     * 한 주 구간만 조회하므로 비용이 이력 길이와 무관합니다.
+     */
+    @Transactional
+    public void rebuildWeek(UUID memberId, LocalDateTime anyTimeInWeek) {
+        LocalDate weekStart = weekStartOf(anyTimeInWeek.toLocalDate());
+        List<LocalDateTime> createdDates = articleRepository.findCreatedAtByMemberIdAndRange(
+                memberId,
+                weekStart.atStartOfDay(),
+                weekStart.plusWeeks(1).atStartOfDay()
+        );
+
+        MemberWeeklyActivity activity = lockOrInit(new MemberWeekKey(memberId, weekStart));
+        activity.setDayMask(0);
+        activity.setArticleCount(0);
+        createdDates.forEach(createdAt -> activity.recordArticle(createdAt.toLocalDate()));
+    }
+
+    public MemberStatsResponse getStats(UUID memberId, LocalDate referenceDate) {
+        return getStatsMap(List.of(memberId), referenceDate).get(memberId);
+    }
+
+    public Map<UUID, MemberStatsResponse> getStatsMap(Collection<UUID> memberIds, LocalDate referenceDate) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        LocalDate currentWeek = weekStartOf(referenceDate);
+        LocalDate windowStart = currentWeek.minusWeeks(LOOKBACK_WEEKS - 1L);
+
+        Map<UUID, Map<LocalDate, MemberWeeklyActivity>> weeksByMemberId = memberWeeklyActivityRepository
+                .findByMemberIdsAndWeekRange(memberIds, windowStart, currentWeek)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        activity -> activity.getId().getMemberId(),
+                        Collectors.toMap(activity -> activity.getId().getWeekStart(), Function.identity())
+                ));
+
+        Map<UUID, MemberStatsResponse> statsMap = new HashMap<>();
+        for (UUID memberId : memberIds) {
+            Map<LocalDate, MemberWeeklyActivity> weeks = weeksByMemberId.getOrDefault(memberId, Map.of());
+            MemberWeeklyActivity thisWeek = weeks.get(currentWeek);
+            statsMap.put(memberId, new MemberStatsResponse(
+                    thisWeek == null ? 0 : thisWeek.getArticleCount(),
+                    calculateContinuousGoalWeeks(memberId, currentWeek, weeks, windowStart)
+            ));
+        }
+        return statsMap;
+    }
+
+    private int calculateContinuousGoalWeeks(UUID memberId,
+                                             LocalDate currentWeek,
+                                             Map<LocalDate, MemberWeeklyActivity> loadedWeeks,
+                                             LocalDate oldestLoadedWeek) {
+        // 이번 주는 아직 진행 중이므로 목표에 못 미쳐도 연속 기록을 끊지 않습니다.
+        int continuousWeeks = isGoalWeek(loadedWeeks.get(currentWeek)) ? 1 : 0;
+
+        Map<LocalDate, MemberWeeklyActivity> weeks = loadedWeeks;
+        LocalDate week = currentWeek.minusWeeks(1);
+        while (true) {
+            if (week.isBefore(oldestLoadedWeek)) {
+                // 연속 기록이 조회 구간 끝까지 이어진 경우에만 이전 구간을 추가로 읽습니다.
+                oldestLoadedWeek = oldestLoadedWeek.minusWeeks(LOOKBACK_WEEKS);
+                weeks = memberWeeklyActivityRepository.findByMemberIdsAndWeekRange(List.of(memberId), oldestLoadedWeek, week)
+                        .stream()
+                        .collect(Collectors.toMap(activity -> activity.getId().getWeekStart(), Function.identity()));
+            }
+            if (!isGoalWeek(weeks.get(week))) {
+                return continuousWeeks;
+            }
+            continuousWeeks++;
+            week = week.minusWeeks(1);
+        }
+    }
+
+    private boolean isGoalWeek(MemberWeeklyActivity activity) {
+        return activity != null && activity.getActiveDayCount() >= GOAL_ACTIVE_DAYS_PER_WEEK;
+    }
+
+    private MemberWeeklyActivity lockOrInit(MemberWeekKey key) {
+        return memberWeeklyActivityRepository.lockById(key).orElseGet(() -> {
+            MemberWeeklyActivity activity = new MemberWeeklyActivity();
+            activity.setId(key);
+            activity.setMember(memberRepository.getReferenceById(key.getMemberId()));
+            return memberWeeklyActivityRepository.saveAndFlush(activity);
+        });
+    }
+
+    static LocalDate weekStartOf(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+}
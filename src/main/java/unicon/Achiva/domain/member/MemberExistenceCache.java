@@ -0,0 +1,84 @@
+package unicon.Achiva.domain.member;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 회원 가입(초기화) 여부 캐시
+ * 모든 인증 요청이 거치는 UserInitializedAuthorizationManager 에서 매번 DB 를 조회하지 않도록 결과를 보관합니다.
+ * 가입 직후 바로 접근할 수 있도록 "없음" 결과는 짧게, "있음" 결과는 길게 보관하며,
+ * 가입/탈퇴 시 invalidate 로 즉시 지웁니다. 적중률은 cache.gets{cache=member.exists.*} 메트릭으로 확인할 수 있습니다.
+ */
+@Component
+public class MemberExistenceCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<UUID, Boolean> existing;
+    private final Cache<UUID, Boolean> missing;
+
+    public MemberExistenceCache(
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.member-cache.max-size:100000}") long maxSize,
+            @Value("${app.auth.member-cache.positive-ttl:300}") long positiveTtlSeconds,
+            @Value("${app.auth.member-cache.negative-ttl:5}") long negativeTtlSeconds
+    ) {
+        this.memberRepository = memberRepository;
+        this.existing = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(positiveTtlSeconds))
+                .recordStats()
+                .build();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, existing, "member.exists.positive");
+        CaffeineCacheMetrics.monitor(meterRegistry, missing, "member.exists.negative");
+    }
+
+    public boolean exists(UUID memberId) {
+        if (existing.getIfPresent(memberId) != null) {
+            return true;
+        }
+        if (missing.getIfPresent(memberId) != null) {
+            return false;
+        }
+
+        boolean exists = memberRepository.existsById(memberId);
+        (exists ? existing : missing).put(memberId, Boolean.TRUE);
+        return exists;
+    }
+
+    /**
+     * 캐시된 결과를 지웁니다. 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 지워,
+     * 커밋 전에 다른 요청이 옛 결과를 다시 채워 넣은 경우도 정리합니다.
+     */
+    public void invalidate(UUID memberId) {
+        evict(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(memberId);
+                }
+            });
+        }
+    }
+
+    private void evict(UUID memberId) {
+        existing.invalidate(memberId);
+        missing.invalidate(memberId);
+    }
+}
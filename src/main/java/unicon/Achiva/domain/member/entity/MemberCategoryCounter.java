@@ -26,6 +26,28 @@ public class MemberCategoryCounter {
     @Version
     private long version;
 
+    /**
+     * 해당 카테고리의 현재 게시글 수
+     */
     @Column(nullable = false)
     private long size = 0L;
+
+    /**
+     * 지금까지 부여한 가장 큰 author_category_seq. 삭제/이동으로 줄어들지 않습니다.
+     */
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq = 0L;
+
+    /**
+     * 새 글에 부여할 정렬 키를 발급합니다. 새 글은 항상 마지막 순서이므로 순위는 증가한 size 와 같습니다.
+     */
+    public long issueSeq() {
+        this.size++;
+        this.lastSeq++;
+        return this.lastSeq;
+    }
+
+    public void release() {
+        this.size--;
+    }
 }
\ No newline at end of file
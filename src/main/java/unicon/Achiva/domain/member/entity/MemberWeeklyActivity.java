@@ -0,0 +1,52 @@
+package unicon.Achiva.domain.member.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 회원별-주(ISO week)별 활동 집계
+ * day_mask 는 게시글을 작성한 요일을 비트로 표시합니다. (월요일 = bit 0 ... 일요일 = bit 6)
+ * article_count 는 해당 주에 작성한 게시글 수입니다. (책 대표 아티클 제외)
+ */
+@Entity
+@Table(name = "member_weekly_activity")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MemberWeeklyActivity {
+
+    @EmbeddedId
+    private MemberWeekKey id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("memberId")
+    @JoinColumn(name = "member_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member member;
+
+    @Column(name = "day_mask", nullable = false)
+    private int dayMask = 0;
+
+    @Column(name = "article_count", nullable = false)
+    private int articleCount = 0;
+
+    public static int dayBit(LocalDate date) {
+        return 1 << (date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+    }
+
+    public void recordArticle(LocalDate date) {
+        this.dayMask |= dayBit(date);
+        this.articleCount++;
+    }
+
+    public int getActiveDayCount() {
+        return Integer.bitCount(dayMask);
+    }
+}
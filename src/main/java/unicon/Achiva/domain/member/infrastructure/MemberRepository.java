@@ -39,6 +39,9 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     List<UUID> findIdsByOrganizationIdAndIdIn(@Param("organizationId") Long organizationId,
                                               @Param("memberIds") Collection<UUID> memberIds);
 
+    @Query("select m.organization.id from Member m where m.id = :memberId")
+    Optional<Long> findOrganizationIdById(@Param("memberId") UUID memberId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
             select m
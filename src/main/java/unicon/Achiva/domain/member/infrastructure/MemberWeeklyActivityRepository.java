@@ -0,0 +1,36 @@
+package unicon.Achiva.domain.member.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.member.entity.MemberWeekKey;
+import unicon.Achiva.domain.member.entity.MemberWeeklyActivity;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MemberWeeklyActivityRepository
+        extends JpaRepository<MemberWeeklyActivity, MemberWeekKey> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from MemberWeeklyActivity w where w.id = :id")
+    Optional<MemberWeeklyActivity> lockById(@Param("id") MemberWeekKey id);
+
+    /**
+     * [fromWeek, toWeek] 구간의 주별 집계를 조회합니다. 활동이 없는 주는 행이 없습니다.
+     */
+    @Query("""
+            select w
+              from MemberWeeklyActivity w
+             where w.id.memberId in :memberIds
+               and w.id.weekStart between :fromWeek and :toWeek
+            """)
+    List<MemberWeeklyActivity> findByMemberIdsAndWeekRange(@Param("memberIds") Collection<UUID> memberIds,
+                                                           @Param("fromWeek") LocalDate fromWeek,
+                                                           @Param("toWeek") LocalDate toWeek);
+}
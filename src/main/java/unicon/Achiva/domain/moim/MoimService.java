@@ -6,6 +6,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.article.ArticleResponseAssembler;
 import unicon.Achiva.domain.article.dto.ArticleResponse;
 import unicon.Achiva.domain.article.entity.Article;
 import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
@@ -48,6 +49,7 @@ public class MoimService {
     private final ArticleRepository articleRepository;
     private final MoimScoreRepository moimScoreRepository;
     private final OrganizationAccessService organizationAccessService;
+    private final ArticleResponseAssembler articleResponseAssembler;
 
     @Transactional
     public MoimResponse createMoim(MoimCreateRequest request, UUID memberId) {
@@ -202,6 +204,7 @@ public class MoimService {
         }
 
         Page<Article> articles = articleRepository.findByMemberIds(memberIds, pageable);
+        articleResponseAssembler.assignAuthorCategoryRanks(articles.getContent());
         return articles.map(ArticleResponse::fromEntity);
     }
 
@@ -224,6 +227,7 @@ public class MoimService {
         }
 
         Page<Article> articles = articleRepository.findByMemberIds(joinedMemberIds, pageable);
+        articleResponseAssembler.assignAuthorCategoryRanks(articles.getContent());
         return articles.map(ArticleResponse::fromEntity);
     }
 
@@ -1,11 +1,16 @@
 package unicon.Achiva.domain.moim.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import unicon.Achiva.domain.moim.entity.MoimMember;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MoimMemberRepository extends JpaRepository<MoimMember, Long> {
     List<MoimMember> findByMoimId(Long moimId);
@@ -19,6 +24,31 @@ public interface MoimMemberRepository extends JpaRepository<MoimMember, Long> {
             """)
     List<UUID> findDistinctJoinedMemberIdsByMemberId(@Param("memberId") UUID memberId);
 
+    /**
+     * organization 모임의 (회원 ID, 모임 ID) 목록을 스트리밍합니다. (친구 추천의 공통 모임 수 계산용)
+     * fetch size Integer.MIN_VALUE 는 MySQL 드라이버가 결과를 모두 받아 두지 않고 한 행씩 읽게 하는 값입니다.
+     * 스트림을 닫기 전에는 같은 커넥션으로 다른 쿼리를 실행할 수 없습니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("""
+            select mm.member.id, mm.moim.id
+            from MoimMember mm
+            where mm.moim.organization.id = :organizationId
+            """)
+    Stream<Object[]> streamMemberMoimPairsByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * memberIds 회원들의 organization 모임 (회원 ID, 모임 ID) 목록 (친구 추천 부분 갱신용)
+     */
+    @Query("""
+            select mm.member.id, mm.moim.id
+            from MoimMember mm
+            where mm.moim.organization.id = :organizationId
+              and mm.member.id in :memberIds
+            """)
+    List<Object[]> findMemberMoimPairsByOrganizationIdAndMemberIdIn(@Param("organizationId") Long organizationId,
+                                                                   @Param("memberIds") Collection<UUID> memberIds);
+
     boolean existsByMoimIdAndMemberId(Long moimId, UUID memberId);
     java.util.Optional<MoimMember> findByMoimIdAndMemberId(Long moimId, UUID memberId);
 }
@@ -26,21 +26,25 @@ public class OrganizationAccessService {
     private final MemberRepository memberRepository;
     private final MoimRepository moimRepository;
     private final ArticleRepository articleRepository;
+    private final RequesterContext requesterContext;
 
     public Member getMember(UUID memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
     }
 
+    /**
+     * 회원의 organizationId. 같은 요청 안에서는 처음 한 번만 조회합니다.
+     */
     public Long getOrganizationId(UUID memberId) {
-        return getMember(memberId).getOrganization().getId();
+        return requesterContext.organizationIdOf(memberId);
     }
 
     public Member getAccessibleMember(UUID requesterId, UUID targetMemberId) {
-        Member requester = getMember(requesterId);
+        Long requesterOrganizationId = getOrganizationId(requesterId);
         Member target = getMember(targetMemberId);
 
-        if (!requester.getOrganization().getId().equals(target.getOrganization().getId())) {
+        if (!requesterOrganizationId.equals(target.getOrganization().getId())) {
             throw new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND);
         }
 
@@ -0,0 +1,53 @@
+package unicon.Achiva.domain.organization;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import unicon.Achiva.domain.member.MemberErrorCode;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+import unicon.Achiva.global.response.GeneralException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 요청 단위 회원 → organizationId 조회 결과
+ * 한 요청 안에서 요청자(JWT sub)와 대상 회원의 organization 을 여러 번 확인하므로, 처음 조회한 값을 요청 속성에 보관해 재사용합니다.
+ * organization 은 가입 이후 바뀌지 않으므로 요청이 끝날 때까지 보관해도 안전합니다.
+ * 요청 밖(스케줄러, 비동기 푸시)에서는 보관하지 않고 매번 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+class RequesterContext {
+
+    private static final String ORGANIZATION_IDS = RequesterContext.class.getName() + ".organizationIds";
+
+    private final MemberRepository memberRepository;
+
+    Long organizationIdOf(UUID memberId) {
+        Map<UUID, Long> memo = memo();
+        Long organizationId = memo.get(memberId);
+        if (organizationId == null) {
+            organizationId = memberRepository.findOrganizationIdById(memberId)
+                    .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
+            memo.put(memberId, organizationId);
+        }
+        return organizationId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Long> memo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+        Map<UUID, Long> memo = (Map<UUID, Long>) attributes.getAttribute(ORGANIZATION_IDS, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(ORGANIZATION_IDS, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+}
@@ -12,6 +12,7 @@ public enum PushErrorCode implements ErrorCode {
     PUSH_DISABLED(4005, "푸시 알림이 비활성화된 사용자입니다.", HttpStatus.FORBIDDEN),
     PUSH_SEND_FAILED(4006, "푸시 전송에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     MEMBER_NOT_FOUND_FOR_PUSH(4007, "푸시 대상 사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    PUSH_RECEIPT_FETCH_FAILED(4008, "푸시 영수증 조회에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     ;
 
     private final Integer code;
@@ -0,0 +1,230 @@
+package unicon.Achiva.domain.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.push.dto.PushSendRequest;
+import unicon.Achiva.domain.push.entity.PushOutbox;
+import unicon.Achiva.domain.push.infrastructure.PushOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * push_outbox 기록/조회/상태 전이
+ * enqueue 는 호출한 비즈니스 트랜잭션에 참여하므로, 롤백된 변경의 알림은 전송되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PushOutboxService {
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.push.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.push.outbox.base-backoff:10}")
+    private long baseBackoffSeconds;
+
+    @Value("${app.push.outbox.max-backoff:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${app.push.outbox.lease:60}")
+    private long leaseSeconds;
+
+    @Value("${app.http.expo.connect-timeout:2000}")
+    private long expoConnectTimeoutMillis;
+
+    @Value("${app.http.expo.read-timeout:10000}")
+    private long expoReadTimeoutMillis;
+
+    @Value("${app.push.coalesce.window:30}")
+    private long coalesceWindowSeconds;
+
+    @Value("${app.push.coalesce.max-size:20}")
+    private int coalesceMaxSize;
+
+    /**
+     * lease 는 전송 직전에 다시 잡으므로 Expo 요청 한 번(연결 + 응답 대기 한도)만 덮으면 됩니다.
+     * 설정값이 그 두 배보다 짧으면 느린 요청 도중 lease 가 끝나 다른 워커가 같은 알림을 다시 보내므로 늘려서 사용합니다.
+     */
+    @PostConstruct
+    void ensureLeaseCoversExpoRequest() {
+        long minLeaseSeconds = 2 * Math.ceilDiv(expoConnectTimeoutMillis + expoReadTimeoutMillis, 1000L);
+        if (leaseSeconds < minLeaseSeconds) {
+            log.warn("[Push] outbox lease 가 Expo 요청 시간 한도보다 짧아 늘립니다 - configured: {}s, applied: {}s",
+                    leaseSeconds, minLeaseSeconds);
+            leaseSeconds = minLeaseSeconds;
+        }
+    }
+
+    @Transactional
+    public PushOutbox enqueue(UUID senderId, PushSendRequest request) {
+        return pushOutboxRepository.save(PushOutbox.builder()
+                .senderId(senderId)
+                .targetMemberId(request.getTargetMemberId())
+                .title(request.getTitle())
+                .body(request.getBody())
+                .data(writeData(request.getData()))
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 같은 알림을 여러 수신자에게 보내도록 기록합니다. request 의 targetMemberId 는 사용하지 않습니다.
+     *
+     * @return 기록된 행 수
+     */
+    @Transactional
+    public int enqueueAll(UUID senderId, List<UUID> targetMemberIds, PushSendRequest request) {
+        if (targetMemberIds.isEmpty()) {
+            return 0;
+        }
+        return pushOutboxRepository.insertAll(senderId, targetMemberIds, request.getTitle(), request.getBody(),
+                writeData(request.getData()), LocalDateTime.now());
+    }
+
+    /**
+     * (수신자, coalesceKey) 단위로 묶어서 기록합니다.
+     * 열린 묶음이 없으면 window 뒤에 전송되는 새 묶음을 만들고, 있으면 거기에 더하고 본문을 digestBody(묶인 수) 로 바꿉니다.
+     * 묶인 수가 max-size 에 도달하면 즉시 전송 대상이 됩니다.
+     * 행 생성과 묶인 수 증가는 열린 묶음 유니크 키에 대한 upsert 한 문장으로 하므로, 조회 후 삽입과 달리
+     * 같은 수신자의 첫 알림이 동시에 들어와도 빈 구간 잠금 때문에 교착되지 않습니다.
+     *
+     * @param digestBody 묶인 알림 수를 받아 본문을 만드는 함수 (1 이면 단건 본문)
+     */
+    @Transactional
+    public PushOutbox enqueueCoalesced(UUID senderId, PushSendRequest request, String coalesceKey,
+                                       IntFunction<String> digestBody) {
+        LocalDateTime now = LocalDateTime.now();
+        pushOutboxRepository.upsertOpenDigest(
+                senderId.toString(),
+                request.getTargetMemberId().toString(),
+                request.getTitle(),
+                digestBody.apply(1),
+                writeData(withCount(request.getData(), 1)),
+                coalesceKey,
+                now.plusSeconds(coalesceWindowSeconds),
+                now
+        );
+
+        // upsert 로 이 트랜잭션이 잠근 행이므로 다른 트랜잭션이 닫거나 더할 수 없습니다.
+        PushOutbox digest = pushOutboxRepository.findOpenDigest(request.getTargetMemberId(), coalesceKey)
+                .orElseThrow(() -> new IllegalStateException("열린 푸시 묶음이 없습니다 - coalesceKey: " + coalesceKey));
+        int count = digest.getCoalescedCount();
+        if (count > 1) {
+            digest.coalesce(senderId, digestBody.apply(count), writeData(withCount(request.getData(), count)),
+                    coalesceMaxSize, now);
+        }
+        return digest;
+    }
+
+    /**
+     * 전송할 행을 최대 limit 개 꺼내고 lease 를 걸어 반환합니다.
+     */
+    @Transactional
+    public List<PushOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = pushOutboxRepository.lockDueIds(now, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        pushOutboxRepository.lease(ids, now.plusSeconds(leaseSeconds));
+        return pushOutboxRepository.findAllById(ids);
+    }
+
+    /**
+     * 전송 직전에 lease 를 다시 잡습니다. 배치 안에서 차례를 기다리는 동안 lease 가 끝나 다른 워커가 이미 꺼내 갔으면 false 입니다.
+     */
+    @Transactional
+    public boolean renewLease(PushOutbox outbox) {
+        return pushOutboxRepository.renewLease(outbox.getId(), outbox.getAttempts(),
+                LocalDateTime.now().plusSeconds(leaseSeconds)) == 1;
+    }
+
+    @Transactional
+    public void markSent(Long id, LocalDateTime sentAt) {
+        pushOutboxRepository.findById(id).ifPresent(outbox -> outbox.markSent(sentAt));
+    }
+
+    /**
+     * @return DEAD 로 전환되었으면 true
+     */
+    @Transactional
+    public boolean markFailed(Long id, String error) {
+        return pushOutboxRepository.findById(id)
+                .map(outbox -> {
+                    outbox.markFailed(error, LocalDateTime.now(), maxAttempts,
+                            Duration.ofSeconds(baseBackoffSeconds), Duration.ofSeconds(maxBackoffSeconds));
+                    return outbox.getStatus() == PushOutboxStatus.DEAD;
+                })
+                .orElse(false);
+    }
+
+    @Transactional
+    public void markDead(Long id, String error) {
+        pushOutboxRepository.findById(id).ifPresent(outbox -> outbox.markDead(error));
+    }
+
+    public long countPending() {
+        return pushOutboxRepository.countByStatus(PushOutboxStatus.PENDING);
+    }
+
+    @Transactional
+    public int purgeSentBefore(LocalDateTime cutoff) {
+        return pushOutboxRepository.deleteByStatusAndSentAtBefore(PushOutboxStatus.SENT, cutoff);
+    }
+
+    public PushSendRequest toRequest(PushOutbox outbox) {
+        return PushSendRequest.builder()
+                .targetMemberId(outbox.getTargetMemberId())
+                .title(outbox.getTitle())
+                .body(outbox.getBody())
+                .data(readData(outbox.getData()))
+                .build();
+    }
+
+    private static Map<String, Object> withCount(Map<String, Object> data, int count) {
+        Map<String, Object> merged = data == null ? new HashMap<>() : new HashMap<>(data);
+        merged.put("count", count);
+        return merged;
+    }
+
+    private String writeData(Map<String, Object> data) {
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("푸시 data 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, Object> readData(String data) {
+        if (data == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(data, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("[Push] outbox data 역직렬화 실패 - data: {}", data);
+            return Map.of();
+        }
+    }
+}
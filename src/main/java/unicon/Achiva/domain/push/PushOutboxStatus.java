@@ -0,0 +1,7 @@
+package unicon.Achiva.domain.push;
+
+public enum PushOutboxStatus {
+    PENDING,   // 전송 대기 (재시도 포함)
+    SENT,      // 전송 완료
+    DEAD       // 재시도 한도 초과 또는 재시도 불가 오류
+}
@@ -0,0 +1,146 @@
+package unicon.Achiva.domain.push;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import unicon.Achiva.domain.push.dto.PushSendResponse;
+import unicon.Achiva.domain.push.entity.PushOutbox;
+import unicon.Achiva.global.config.AsyncConfig;
+import unicon.Achiva.global.config.SchedulingConfig;
+import unicon.Achiva.global.response.GeneralException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * push_outbox 를 주기적으로 비우는 워커
+ * <p>
+ * 메트릭: push.outbox.depth(대기 행 수), push.outbox.delivery.lag(기록~전송 완료 시간),
+ * push.outbox.deliveries{result=sent|retry|dead|lease_lost}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushOutboxWorker {
+
+    private static final String DELIVERY_METRIC = "push.outbox.deliveries";
+
+    // 다시 보내도 같은 결과인 Expo 티켓 오류 (등록 해제된 기기, 크기 초과 메시지)
+    private static final Set<String> NON_RETRYABLE_ERRORS = Set.of("DeviceNotRegistered", "MessageTooBig");
+
+    private final PushOutboxService pushOutboxService;
+    private final PushService pushService;
+    private final MeterRegistry meterRegistry;
+    @Qualifier(AsyncConfig.PUSH_OUTBOX_EXECUTOR)
+    private final Executor pushOutboxExecutor;
+
+    private final AtomicLong pendingDepth = new AtomicLong();
+
+    @Value("${app.push.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.push.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gauge("push.outbox.depth", pendingDepth);
+    }
+
+    /**
+     * 한 번에 batchSize 개씩 꺼내 워커 풀에서 전송합니다. 배치가 가득 찼으면 바로 다음 배치를 꺼냅니다.
+     * 다른 스케줄 작업과 스레드를 나누지 않도록 전용 scheduler 에서 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.push.outbox.poll-interval:1000}", scheduler = SchedulingConfig.PUSH_OUTBOX_SCHEDULER)
+    public void drain() {
+        try {
+            List<PushOutbox> batch;
+            do {
+                batch = pushOutboxService.claimDue(batchSize);
+                CompletableFuture.allOf(batch.stream()
+                                .map(outbox -> CompletableFuture.runAsync(() -> deliver(outbox), pushOutboxExecutor))
+                                .toArray(CompletableFuture[]::new))
+                        .join();
+            } while (batch.size() == batchSize);
+        } catch (Exception e) {
+            log.error("[Push] outbox 처리 중 오류 - error: {}", e.getMessage(), e);
+        } finally {
+            pendingDepth.set(pushOutboxService.countPending());
+        }
+    }
+
+    @Scheduled(cron = "${app.push.outbox.purge-cron:0 0 5 * * *}")
+    public void purgeSent() {
+        int deleted = pushOutboxService.purgeSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("[Push] 전송 완료 outbox 정리 - deleted: {}", deleted);
+    }
+
+    void deliver(PushOutbox outbox) {
+        try {
+            if (!pushOutboxService.renewLease(outbox)) {
+                log.warn("[Push] outbox lease 만료로 다른 워커가 전송 - id: {}", outbox.getId());
+                meterRegistry.counter(DELIVERY_METRIC, "result", "lease_lost").increment();
+                return;
+            }
+
+            PushSendResponse response = pushService.sendPushNotification(
+                    outbox.getSenderId(), pushOutboxService.toRequest(outbox));
+
+            if (response.getSentCount() == 0 && response.getFailedCount() > 0) {
+                if (isNonRetryable(response)) {
+                    dead(outbox, response.getResults().getFirst().getError());
+                } else {
+                    retry(outbox, response.getMessage());
+                }
+                return;
+            }
+
+            LocalDateTime sentAt = LocalDateTime.now();
+            pushOutboxService.markSent(outbox.getId(), sentAt);
+            meterRegistry.timer("push.outbox.delivery.lag").record(Duration.between(outbox.getCreatedAt(), sentAt));
+            meterRegistry.counter(DELIVERY_METRIC, "result", "sent").increment();
+        } catch (GeneralException e) {
+            // 푸시 OFF, 접근 불가 등 재시도해도 결과가 같은 오류
+            dead(outbox, e.getMessage());
+        } catch (Exception e) {
+            retry(outbox, e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 토큰이 재시도해도 성공할 수 없는 오류로 실패했는지
+     */
+    private static boolean isNonRetryable(PushSendResponse response) {
+        List<PushSendResponse.PushResult> results = response.getResults();
+        return results != null && !results.isEmpty() && results.stream()
+                .allMatch(result -> result.getError() != null && NON_RETRYABLE_ERRORS.contains(result.getError()));
+    }
+
+    private void dead(PushOutbox outbox, String error) {
+        log.warn("[Push] outbox 전송 불가 - id: {}, error: {}", outbox.getId(), error);
+        pushOutboxService.markDead(outbox.getId(), error);
+        meterRegistry.counter(DELIVERY_METRIC, "result", "dead").increment();
+    }
+
+    private void retry(PushOutbox outbox, String error) {
+        boolean dead = pushOutboxService.markFailed(outbox.getId(), error);
+        if (dead) {
+            log.error("[Push] outbox 재시도 한도 초과 - id: {}, attempts: {}, error: {}",
+                    outbox.getId(), outbox.getAttempts(), error);
+        } else {
+            log.warn("[Push] outbox 전송 실패, 재시도 예약 - id: {}, attempts: {}, error: {}",
+                    outbox.getId(), outbox.getAttempts(), error);
+        }
+        meterRegistry.counter(DELIVERY_METRIC, "result", dead ? "dead" : "retry").increment();
+    }
+}
@@ -0,0 +1,59 @@
+package unicon.Achiva.domain.push;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import unicon.Achiva.domain.push.dto.ExpoPushResponse;
+import unicon.Achiva.domain.push.entity.PushTicket;
+import unicon.Achiva.domain.push.infrastructure.ExpoPushClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 남아 있는 푸시 티켓의 영수증을 1000개 단위로 주기적으로 조회합니다.
+ * 비활성화한 토큰 수는 push.receipt.deactivated 카운터로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushReceiptPoller {
+
+    private final PushReceiptService pushReceiptService;
+    private final ExpoPushClient expoPushClient;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${app.push.receipt.poll-interval:300000}")
+    public void poll() {
+        try {
+            int expired = pushReceiptService.purgeExpired();
+            if (expired > 0) {
+                log.warn("[Push] 영수증 확인 전에 만료된 티켓 정리 - count: {}", expired);
+            }
+
+            List<PushTicket> tickets;
+            do {
+                tickets = pushReceiptService.findDueTickets(ExpoPushClient.MAX_RECEIPT_BATCH_SIZE);
+                if (tickets.isEmpty()) {
+                    return;
+                }
+
+                Map<String, ExpoPushResponse> receipts =
+                        expoPushClient.getReceipts(tickets.stream().map(PushTicket::getTicketId).toList());
+                PushReceiptService.ReceiptResult result = pushReceiptService.applyReceipts(tickets, receipts);
+                meterRegistry.counter("push.receipt.deactivated").increment(result.deactivated());
+                log.info("[Push] 영수증 반영 - tickets: {}, resolved: {}, deactivated: {}",
+                        tickets.size(), result.resolved(), result.deactivated());
+
+                // 영수증이 하나도 준비되지 않았으면 같은 티켓을 다시 조회하지 않도록 다음 주기로 넘깁니다.
+                if (result.resolved() == 0) {
+                    return;
+                }
+            } while (tickets.size() == ExpoPushClient.MAX_RECEIPT_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("[Push] 영수증 조회 중 오류 - error: {}", e.getMessage(), e);
+        }
+    }
+}
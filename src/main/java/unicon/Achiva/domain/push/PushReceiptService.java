@@ -0,0 +1,82 @@
+package unicon.Achiva.domain.push;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unicon.Achiva.domain.push.dto.ExpoPushResponse;
+import unicon.Achiva.domain.push.entity.PushTicket;
+import unicon.Achiva.domain.push.infrastructure.PushTicketRepository;
+import unicon.Achiva.domain.push.infrastructure.PushTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Expo 푸시 영수증 반영
+ * DeviceNotRegistered 영수증이 온 토큰은 비활성화하여 이후 전송 대상에서 제외합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PushReceiptService {
+
+    // Expo 는 영수증을 전송 후 24시간 동안만 보관합니다.
+    private static final long RECEIPT_RETENTION_HOURS = 24;
+
+    private final PushTicketRepository pushTicketRepository;
+    private final PushTokenRepository pushTokenRepository;
+
+    // Expo 권장: 전송 후 영수증이 준비될 때까지 약 15분 대기
+    @Value("${app.push.receipt.delay:900}")
+    private long receiptDelaySeconds;
+
+    public List<PushTicket> findDueTickets(int limit) {
+        return pushTicketRepository.findAllSentBefore(LocalDateTime.now().minusSeconds(receiptDelaySeconds), Limit.of(limit));
+    }
+
+    /**
+     * 영수증이 도착한 티켓을 정리하고 등록 해제된 토큰을 비활성화합니다.
+     * 영수증이 아직 없는 티켓은 남겨 두었다가 다음 조회에서 다시 확인합니다.
+     *
+     * @return 영수증이 확인된 티켓 수와 비활성화한 토큰 수
+     */
+    @Transactional
+    public ReceiptResult applyReceipts(List<PushTicket> tickets, Map<String, ExpoPushResponse> receipts) {
+        List<String> resolvedTicketIds = new ArrayList<>();
+        List<UUID> deadTokenIds = new ArrayList<>();
+        for (PushTicket ticket : tickets) {
+            ExpoPushResponse receipt = receipts.get(ticket.getTicketId());
+            if (receipt == null) {
+                continue;
+            }
+            resolvedTicketIds.add(ticket.getTicketId());
+            if (receipt.isDeviceNotRegistered()) {
+                deadTokenIds.add(ticket.getPushTokenId());
+            } else if (!"ok".equals(receipt.getStatus())) {
+                log.warn("[Push] 영수증 오류 - ticketId: {}, error: {}, message: {}",
+                        ticket.getTicketId(), receipt.getError(), receipt.getMessage());
+            }
+        }
+
+        if (!resolvedTicketIds.isEmpty()) {
+            pushTicketRepository.deleteAllByIdInBatch(resolvedTicketIds);
+        }
+        int deactivated = deadTokenIds.isEmpty() ? 0 : pushTokenRepository.deactivateAllByIds(deadTokenIds);
+        return new ReceiptResult(resolvedTicketIds.size(), deactivated);
+    }
+
+    @Transactional
+    public int purgeExpired() {
+        return pushTicketRepository.deleteAllSentBefore(LocalDateTime.now().minusHours(RECEIPT_RETENTION_HOURS));
+    }
+
+    public record ReceiptResult(int resolved, int deactivated) {
+    }
+}
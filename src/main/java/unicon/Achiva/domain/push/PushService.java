@@ -6,9 +6,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import unicon.Achiva.domain.friendship.FriendshipStatus;
-import unicon.Achiva.domain.friendship.entity.Friendship;
 import unicon.Achiva.domain.friendship.infrastructure.FriendshipRepository;
 import unicon.Achiva.domain.member.MemberErrorCode;
 import unicon.Achiva.domain.member.entity.Member;
@@ -19,14 +21,20 @@ import unicon.Achiva.domain.push.entity.LinkToken;
 import unicon.Achiva.domain.push.entity.PushToken;
 import unicon.Achiva.domain.push.infrastructure.ExpoPushClient;
 import unicon.Achiva.domain.push.infrastructure.LinkTokenRepository;
+import unicon.Achiva.domain.push.infrastructure.PushTicketRepository;
 import unicon.Achiva.domain.push.infrastructure.PushTokenRepository;
 import unicon.Achiva.global.response.GeneralException;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.IntFunction;
 
 @Slf4j
 @Service
@@ -40,6 +48,9 @@ public class PushService {
     private final FriendshipRepository friendshipRepository;
     private final ExpoPushClient expoPushClient;
     private final OrganizationAccessService organizationAccessService;
+    private final PushOutboxService pushOutboxService;
+    private final PushTicketRepository pushTicketRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${app.security.link-token-secret}")
     private String linkTokenSecret;
@@ -220,15 +231,52 @@ public class PushService {
                 .build();
     }
 
+    /**
+     * 푸시 알림 전송 예약
+     * 호출한 트랜잭션 안에서 push_outbox 에 기록만 하고, 실제 전송은 PushOutboxWorker 가 커밋 이후 재시도와 함께 처리합니다.
+     *
+     * @param senderId 전송자 ID
+     * @param request  PushSendRequest (targetMemberId 필수)
+     */
+    @Transactional
+    public void enqueuePushNotification(UUID senderId, PushSendRequest request) {
+        pushOutboxService.enqueue(senderId, request);
+    }
+
+    /**
+     * 같은 푸시 알림을 여러 수신자에게 전송 예약
+     * 수신자 수와 관계없이 multi-row INSERT 로 push_outbox 에 기록합니다.
+     *
+     * @param request targetMemberId 를 제외한 알림 내용
+     * @return 등록된 알림 수
+     */
+    @Transactional
+    public int enqueuePushNotifications(UUID senderId, List<UUID> targetMemberIds, PushSendRequest request) {
+        return pushOutboxService.enqueueAll(senderId, targetMemberIds, request);
+    }
+
+    /**
+     * 묶음 푸시 알림 전송 예약
+     * 같은 수신자에게 같은 종류(coalesceKey)의 알림이 짧은 시간에 몰리면 하나의 알림으로 묶어 전송합니다.
+     *
+     * @param digestBody 묶인 알림 수를 받아 본문을 만드는 함수
+     */
+    @Transactional
+    public void enqueueCoalescedPushNotification(UUID senderId, PushSendRequest request, String coalesceKey,
+                                                 IntFunction<String> digestBody) {
+        pushOutboxService.enqueueCoalesced(senderId, request, coalesceKey, digestBody);
+    }
+
     /**
      * 푸시 알림 전송
      * 특정 사용자 또는 전체에게 푸시 알림 전송
+     * Expo API 호출 동안 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행하고, 전송 결과 기록만 짧은 트랜잭션으로 처리합니다.
      *
      * @param senderId 전송자 ID (로그용)
      * @param request  PushSendRequest (targetMemberId, title, body, data)
      * @return PushSendResponse (success, sentCount, failedCount, results)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PushSendResponse sendPushNotification(UUID senderId, PushSendRequest request) {
         UUID targetMemberId = request.getTargetMemberId();
 
@@ -265,38 +313,55 @@ public class PushService {
                     .build();
         }
 
-        // 3. Expo API로 전송 (각 토큰별로)
-        List<PushSendResponse.PushResult> results = tokens.stream()
-                .map(token -> {
-                    try {
-                        ExpoPushResponse response = expoPushClient.sendPushNotification(
-                                token.getExpoPushToken(),
-                                request.getTitle(),
-                                request.getBody(),
-                                request.getData());
-
-                        // 성공 시 lastUsedAt 갱신
-                        if ("ok".equals(response.getStatus())) {
-                            token.updateLastUsedAt();
-                            pushTokenRepository.save(token);
-                        }
-
-                        return PushSendResponse.PushResult.builder()
-                                .expoPushToken(token.getExpoPushToken())
-                                .status(response.getStatus())
-                                .ticketId(response.getTicketId())
-                                .message(response.getMessage())
-                                .build();
-                    } catch (Exception e) {
-                        log.error("[Push] 전송 실패 - token: {}, error: {}", token.getExpoPushToken(), e.getMessage());
-                        return PushSendResponse.PushResult.builder()
-                                .expoPushToken(token.getExpoPushToken())
-                                .status("error")
-                                .message(e.getMessage())
-                                .build();
-                    }
-                })
-                .toList();
+        // 3. Expo API로 전송 (100건 단위 배치, 배치 간 동시 전송)
+        List<ExpoPushResponse> responses = expoPushClient.sendPushNotifications(
+                tokens.stream().map(PushToken::getExpoPushToken).toList(),
+                request.getTitle(),
+                request.getBody(),
+                request.getData());
+
+        List<PushSendResponse.PushResult> results = new ArrayList<>(tokens.size());
+        List<UUID> usedTokenIds = new ArrayList<>();
+        List<UUID> deadTokenIds = new ArrayList<>();
+        Map<String, UUID> pushTokenIdByTicketId = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            PushToken token = tokens.get(i);
+            ExpoPushResponse response = responses.get(i);
+            if ("ok".equals(response.getStatus())) {
+                usedTokenIds.add(token.getId());
+                if (response.getTicketId() != null) {
+                    pushTokenIdByTicketId.put(response.getTicketId(), token.getId());
+                }
+            } else if (response.isDeviceNotRegistered()) {
+                deadTokenIds.add(token.getId());
+            }
+            results.add(PushSendResponse.PushResult.builder()
+                    .expoPushToken(token.getExpoPushToken())
+                    .status(response.getStatus())
+                    .ticketId(response.getTicketId())
+                    .message(response.getMessage())
+                    .error(response.getError())
+                    .build());
+        }
+
+        if (!usedTokenIds.isEmpty() || !pushTokenIdByTicketId.isEmpty() || !deadTokenIds.isEmpty()) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                // 성공한 토큰의 lastUsedAt 을 한 번에 갱신하고, 영수증 확인을 위해 티켓을 남김
+                LocalDateTime now = LocalDateTime.now();
+                if (!usedTokenIds.isEmpty()) {
+                    pushTokenRepository.updateLastUsedAt(usedTokenIds, now);
+                }
+                if (!pushTokenIdByTicketId.isEmpty()) {
+                    pushTicketRepository.insertAll(pushTokenIdByTicketId, now);
+                }
+
+                // 전송 단계에서 이미 등록 해제로 응답된 토큰은 즉시 비활성화
+                if (!deadTokenIds.isEmpty()) {
+                    int deactivated = pushTokenRepository.deactivateAllByIds(deadTokenIds);
+                    log.info("[Push] 등록 해제된 토큰 비활성화 - count: {}", deactivated);
+                }
+            });
+        }
 
         // 4. 통계 계산
         long sentCount = results.stream().filter(r -> "ok".equals(r.getStatus())).count();
@@ -323,28 +388,9 @@ public class PushService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new GeneralException(MemberErrorCode.MEMBER_NOT_FOUND));
 
-        List<Friendship> friendships = friendshipRepository.findAllAcceptedFriendships(memberId,
-                FriendshipStatus.ACCEPTED);
-
-        List<IndividualFriendPushSetting> individualSettings = friendships.stream()
-                .filter(f -> {
-                    UUID otherId = f.getRequester().getId().equals(memberId)
-                            ? f.getReceiver().getId()
-                            : f.getRequester().getId();
-                    return organizationAccessService.isSameOrganization(memberId, otherId);
-                })
-                .map(f -> {
-                    boolean isRequester = f.getRequester().getId().equals(memberId);
-                    Member friend = isRequester ? f.getReceiver() : f.getRequester();
-                    boolean pushEnabled = isRequester ? f.isRequesterAllowsPostPush() : f.isReceiverAllowsPostPush();
-
-                    return IndividualFriendPushSetting.builder()
-                            .friendId(friend.getId())
-                            .friendNickName(friend.getNickName())
-                            .pushEnabled(pushEnabled)
-                            .build();
-                })
-                .toList();
+        // 같은 organization 친구만 SQL 에서 걸러 DTO 로 조회
+        List<IndividualFriendPushSetting> individualSettings = friendshipRepository.findPushSettingsInOrganization(
+                memberId, member.getOrganization().getId(), FriendshipStatus.ACCEPTED);
 
         return PushSettingsResponse.builder()
                 .totalPushEnabled(member.isPushEnabled())
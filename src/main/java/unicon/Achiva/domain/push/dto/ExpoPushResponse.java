@@ -11,4 +11,9 @@ public class ExpoPushResponse {
     private String status;      // "ok" 또는 "error"
     private String ticketId;    // Expo가 발급한 티켓 ID
     private String message;     // 에러 메시지 (실패 시)
+    private String error;       // details.error (예: DeviceNotRegistered)
+
+    public boolean isDeviceNotRegistered() {
+        return "DeviceNotRegistered".equals(error);
+    }
 }
@@ -24,5 +24,6 @@ public class PushSendResponse {
         private String status;           // "ok" 또는 "error"
         private String ticketId;         // Expo가 발급한 티켓 ID (성공 시)
         private String message;          // 에러 메시지 (실패 시)
+        private String error;            // Expo details.error (실패 시, 예: DeviceNotRegistered)
     }
 }
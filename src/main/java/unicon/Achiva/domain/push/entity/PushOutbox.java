@@ -0,0 +1,132 @@
+package unicon.Achiva.domain.push.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import unicon.Achiva.domain.push.PushOutboxStatus;
+import unicon.Achiva.global.common.LongBaseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 푸시 전송 outbox
+ * 비즈니스 변경과 같은 트랜잭션에서 기록되고, PushOutboxWorker 가 커밋된 행만 꺼내 전송합니다.
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "push_outbox",
+    indexes = {
+        @Index(name = "idx_push_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_push_outbox_open_digest", columnNames = {"target_member_id", "coalesce_key", "digest_open"})
+    }
+)
+public class PushOutbox extends LongBaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Column(name = "sender_id", nullable = false)
+    private UUID senderId;
+
+    @Column(name = "target_member_id", nullable = false)
+    private UUID targetMemberId;
+
+    @Column(name = "title", length = 100, nullable = false)
+    private String title;
+
+    @Column(name = "body", length = 500, nullable = false)
+    private String body;
+
+    // PushSendRequest.data 의 JSON 직렬화 값
+    @Column(name = "data", columnDefinition = "TEXT")
+    private String data;
+
+    // 같은 수신자에게 같은 종류의 알림이 몰릴 때 하나로 묶기 위한 키 (null 이면 묶지 않음)
+    @Column(name = "coalesce_key", length = 50)
+    private String coalesceKey;
+
+    // 워커가 꺼내기 전까지 알림을 더할 수 있는 묶음이면 true, 아니면 null (유니크 키가 열린 묶음끼리만 겹치도록)
+    @Column(name = "digest_open")
+    private Boolean digestOpen;
+
+    // 이 행에 묶인 알림 수
+    @Builder.Default
+    @Column(name = "coalesced_count", nullable = false)
+    private int coalescedCount = 1;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private PushOutboxStatus status = PushOutboxStatus.PENDING;
+
+    // 꺼내 간(claim) 횟수. 워커가 전송 도중 죽은 경우도 시도로 셉니다.
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 알림 하나가 더해진 묶음(묶인 수는 upsert 에서 이미 올라가 있음)을 최신 알림의 발신자/본문/data 로 갱신하고,
+     * 묶인 수가 maxSize 에 도달하면 대기 시간을 기다리지 않고 바로 전송 대상이 되게 합니다.
+     */
+    public void coalesce(UUID senderId, String body, String data, int maxSize, LocalDateTime now) {
+        this.senderId = senderId;
+        this.body = body;
+        this.data = data;
+        if (coalescedCount >= maxSize && nextAttemptAt.isAfter(now)) {
+            this.nextAttemptAt = now;
+        }
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = PushOutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+    }
+
+    /**
+     * 재시도 가능한 실패. 한도에 도달하면 DEAD 로 전환하고, 아니면 지수 백오프로 다음 시도 시각을 정합니다.
+     */
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, Duration baseBackoff, Duration maxBackoff) {
+        this.lastError = truncate(error);
+        if (attempts >= maxAttempts) {
+            this.status = PushOutboxStatus.DEAD;
+            return;
+        }
+        long multiplier = 1L << Math.min(Math.max(attempts - 1, 0), 30);
+        Duration backoff = baseBackoff.multipliedBy(multiplier);
+        this.nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 실패 (수신자 푸시 OFF, 접근 불가 등)
+     */
+    public void markDead(String error) {
+        this.status = PushOutboxStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,38 @@
+package unicon.Achiva.domain.push.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 영수증(receipt) 확인 전의 Expo 푸시 티켓
+ * 전송 성공 시 PushService 가 기록하고, PushReceiptPoller 가 영수증을 확인한 뒤 삭제합니다.
+ */
+@Entity
+@Table(
+    name = "push_ticket",
+    indexes = {
+        @Index(name = "idx_push_ticket_sent_at", columnList = "sent_at")
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PushTicket {
+
+    @Id
+    @Column(name = "ticket_id", length = 64)
+    private String ticketId;
+
+    @Column(name = "push_token_id", nullable = false)
+    private UUID pushTokenId;
+
+    @Column(name = "sent_at", nullable = false)
+    private LocalDateTime sentAt;
+}
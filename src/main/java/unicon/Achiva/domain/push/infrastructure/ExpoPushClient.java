@@ -3,16 +3,23 @@ package unicon.Achiva.domain.push.infrastructure;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import unicon.Achiva.domain.push.PushErrorCode;
 import unicon.Achiva.domain.push.dto.ExpoPushResponse;
+import unicon.Achiva.global.config.AsyncConfig;
+import unicon.Achiva.global.config.RestTemplateConfig;
 import unicon.Achiva.global.response.GeneralException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Component
@@ -20,9 +27,15 @@ import java.util.Map;
 public class ExpoPushClient {
 
     private static final String EXPO_PUSH_URL = "https://exp.host/--/api/v2/push/send";
+    private static final String EXPO_RECEIPTS_URL = "https://exp.host/--/api/v2/push/getReceipts";
+    public static final int MAX_BATCH_SIZE = 100;
+    public static final int MAX_RECEIPT_BATCH_SIZE = 1000;
 
+    @Qualifier(RestTemplateConfig.EXPO_REST_TEMPLATE)
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    @Qualifier(AsyncConfig.EXPO_SEND_EXECUTOR)
+    private final Executor expoSendExecutor;
 
     /**
      * 단일 푸시 메시지 전송
@@ -53,6 +66,64 @@ public class ExpoPushClient {
         return sendToExpo(payload);
     }
 
+    /**
+     * 여러 토큰에 같은 메시지 전송
+     * 토큰을 MAX_BATCH_SIZE 단위로 나눠 expoSendExecutor 에서 동시에 보내며,
+     * 반환 목록은 expoPushTokens 와 같은 순서입니다. 실패한 배치의 토큰은 status "error" 로 채워집니다.
+     *
+     * @param expoPushTokens 푸시 토큰 목록
+     * @param title 알림 제목
+     * @param body 알림 본문
+     * @param data 추가 데이터 (선택)
+     * @return 토큰별 ExpoPushResponse 목록
+     */
+    public List<ExpoPushResponse> sendPushNotifications(
+        List<String> expoPushTokens,
+        String title,
+        String body,
+        Map<String, Object> data
+    ) {
+        if (expoPushTokens.size() <= MAX_BATCH_SIZE) {
+            return sendChunk(expoPushTokens, title, body, data);
+        }
+
+        List<CompletableFuture<List<ExpoPushResponse>>> futures = new ArrayList<>();
+        for (int from = 0; from < expoPushTokens.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = expoPushTokens.subList(from, Math.min(from + MAX_BATCH_SIZE, expoPushTokens.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendChunk(chunk, title, body, data), expoSendExecutor));
+        }
+
+        return futures.stream()
+            .flatMap(future -> future.join().stream())
+            .toList();
+    }
+
+    /**
+     * 배치 하나를 전송하고, 예외나 응답 개수 불일치는 배치 내 모든 토큰의 실패 결과로 변환합니다.
+     */
+    private List<ExpoPushResponse> sendChunk(List<String> chunk, String title, String body, Map<String, Object> data) {
+        try {
+            List<ExpoPushResponse> responses = sendBatchPushNotifications(chunk, title, body, data);
+            if (responses.size() == chunk.size()) {
+                return responses;
+            }
+            log.error("[Expo] 배치 응답 개수 불일치 - expected: {}, actual: {}", chunk.size(), responses.size());
+            return failedChunk(chunk, "Unexpected ticket count");
+        } catch (Exception e) {
+            log.error("[Expo] 배치 전송 실패 - count: {}, error: {}", chunk.size(), e.getMessage());
+            return failedChunk(chunk, e.getMessage());
+        }
+    }
+
+    private static List<ExpoPushResponse> failedChunk(List<String> chunk, String message) {
+        return chunk.stream()
+            .map(token -> ExpoPushResponse.builder()
+                .status("error")
+                .message(message)
+                .build())
+            .toList();
+    }
+
     /**
      * 배치 푸시 메시지 전송 (최대 100개)
      *
@@ -68,7 +139,7 @@ public class ExpoPushClient {
         String body,
         Map<String, Object> data
     ) {
-        if (expoPushTokens.size() > 100) {
+        if (expoPushTokens.size() > MAX_BATCH_SIZE) {
             throw new IllegalArgumentException("Batch size cannot exceed 100");
         }
 
@@ -178,11 +249,7 @@ public class ExpoPushClient {
 
                 if (data != null) {
                     List<ExpoPushResponse> results = data.stream()
-                        .map(result -> ExpoPushResponse.builder()
-                            .status((String) result.get("status"))
-                            .ticketId((String) result.get("id"))
-                            .message((String) result.get("message"))
-                            .build())
+                        .map(result -> toResponse((String) result.get("id"), result))
                         .toList();
 
                     log.info("[Expo] 배치 푸시 전송 완료 - count: {}", results.size());
@@ -201,4 +268,60 @@ public class ExpoPushClient {
             throw new GeneralException(PushErrorCode.PUSH_SEND_FAILED);
         }
     }
+
+    /**
+     * 푸시 영수증 조회 (최대 1000개)
+     * 아직 처리되지 않았거나 만료된 티켓은 결과에 포함되지 않습니다.
+     *
+     * @param ticketIds 전송 시 받은 티켓 ID 목록
+     * @return ticketId 별 영수증 (status, message, error)
+     */
+    public Map<String, ExpoPushResponse> getReceipts(List<String> ticketIds) {
+        if (ticketIds.size() > MAX_RECEIPT_BATCH_SIZE) {
+            throw new IllegalArgumentException("Receipt batch size cannot exceed " + MAX_RECEIPT_BATCH_SIZE);
+        }
+
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+
+            HttpEntity<Map<String, Object>> request = new HttpEntity<>(Map.of("ids", ticketIds), headers);
+
+            ResponseEntity<Map> response = restTemplate.exchange(
+                EXPO_RECEIPTS_URL,
+                HttpMethod.POST,
+                request,
+                Map.class
+            );
+
+            if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null
+                || !(response.getBody().get("data") instanceof Map<?, ?> data)) {
+                log.error("[Expo] 영수증 응답 이상 - status: {}", response.getStatusCode());
+                throw new GeneralException(PushErrorCode.PUSH_RECEIPT_FETCH_FAILED);
+            }
+
+            Map<String, ExpoPushResponse> receipts = new HashMap<>();
+            data.forEach((ticketId, receipt) ->
+                receipts.put((String) ticketId, toResponse((String) ticketId, (Map<String, Object>) receipt)));
+
+            log.info("[Expo] 영수증 조회 완료 - requested: {}, received: {}", ticketIds.size(), receipts.size());
+            return receipts;
+        } catch (RestClientException e) {
+            log.error("[Expo] 영수증 조회 실패 - error: {}", e.getMessage(), e);
+            throw new GeneralException(PushErrorCode.PUSH_RECEIPT_FETCH_FAILED);
+        }
+    }
+
+    /**
+     * 티켓/영수증 항목 변환. 실패 항목의 원인은 details.error 에 담겨 옵니다.
+     */
+    private static ExpoPushResponse toResponse(String ticketId, Map<String, Object> result) {
+        Object details = result.get("details");
+        return ExpoPushResponse.builder()
+            .status((String) result.get("status"))
+            .ticketId(ticketId)
+            .message((String) result.get("message"))
+            .error(details instanceof Map<?, ?> detailMap ? (String) detailMap.get("error") : null)
+            .build();
+    }
 }
@@ -0,0 +1,103 @@
+package unicon.Achiva.domain.push.infrastructure;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.push.PushOutboxStatus;
+import unicon.Achiva.domain.push.entity.PushOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long>, PushOutboxRepositoryCustom {
+
+    /**
+     * 전송 시각이 된 PENDING 행을 잠그며 조회합니다.
+     * SKIP LOCKED 로 다른 인스턴스가 잡은 행은 건너뛰므로 여러 워커가 같은 행을 동시에 꺼내지 않습니다.
+     */
+    @Query(value = """
+            SELECT id
+              FROM push_outbox
+             WHERE status = 'PENDING'
+               AND next_attempt_at <= :now
+             ORDER BY next_attempt_at
+             LIMIT :limit
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 꺼낸 행의 시도 횟수를 올리고 leaseUntil 까지 다른 워커가 가져가지 못하게 합니다.
+     * 워커가 결과를 기록하지 못하고 죽으면 leaseUntil 이후 다시 전송 대상이 됩니다.
+     * 꺼낸 묶음은 닫아서 이후 알림이 새 묶음으로 기록되게 합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE PushOutbox o
+               SET o.attempts = o.attempts + 1,
+                   o.nextAttemptAt = :leaseUntil,
+                   o.digestOpen = null
+             WHERE o.id IN :ids
+            """)
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 전송 직전에 lease 를 leaseUntil 까지 다시 늘립니다.
+     * 그 사이 lease 가 만료되어 다른 워커가 다시 꺼냈으면(시도 횟수가 바뀜) 갱신하지 않고 0 을 반환합니다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE PushOutbox o
+               SET o.nextAttemptAt = :leaseUntil
+             WHERE o.id = :id
+               AND o.attempts = :attempts
+               AND o.status = unicon.Achiva.domain.push.PushOutboxStatus.PENDING
+            """)
+    int renewLease(@Param("id") Long id,
+                   @Param("attempts") int attempts,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * (수신자, coalesceKey) 의 열린 묶음이 없으면 묶인 수 1 로 만들고, 있으면 묶인 수를 1 올립니다.
+     * 유니크 키 uk_push_outbox_open_digest 에 대한 upsert 이므로 동시에 들어온 첫 알림끼리도 교착 없이 한 행으로 모이며,
+     * 이 트랜잭션이 끝날 때까지 그 행을 잠급니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO push_outbox (sender_id, target_member_id, title, body, data, coalesce_key, coalesced_count, digest_open,
+                                     status, attempts, next_attempt_at, created_at, updated_at, is_deleted)
+            VALUES (UNHEX(REPLACE(:senderId, '-', '')), UNHEX(REPLACE(:targetMemberId, '-', '')), :title, :body, :data,
+                    :coalesceKey, 1, 1, 'PENDING', 0, :nextAttemptAt, :now, :now, 0) AS new
+            ON DUPLICATE KEY UPDATE coalesced_count = push_outbox.coalesced_count + 1,
+                                    updated_at = new.updated_at
+            """, nativeQuery = true)
+    int upsertOpenDigest(@Param("senderId") String senderId,
+                         @Param("targetMemberId") String targetMemberId,
+                         @Param("title") String title,
+                         @Param("body") String body,
+                         @Param("data") String data,
+                         @Param("coalesceKey") String coalesceKey,
+                         @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                         @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT o
+              FROM PushOutbox o
+             WHERE o.targetMemberId = :targetMemberId
+               AND o.coalesceKey = :coalesceKey
+               AND o.digestOpen = true
+            """)
+    Optional<PushOutbox> findOpenDigest(@Param("targetMemberId") UUID targetMemberId,
+                                        @Param("coalesceKey") String coalesceKey);
+
+    long countByStatus(PushOutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM PushOutbox o WHERE o.status = :status AND o.sentAt < :cutoff")
+    int deleteByStatusAndSentAtBefore(@Param("status") PushOutboxStatus status,
+                                      @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,10 @@
+package unicon.Achiva.domain.push.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface PushOutboxRepositoryCustom {
+
+    int insertAll(UUID senderId, List<UUID> targetMemberIds, String title, String body, String data, LocalDateTime now);
+}
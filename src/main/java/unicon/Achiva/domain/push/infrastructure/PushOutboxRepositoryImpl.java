@@ -0,0 +1,58 @@
+package unicon.Achiva.domain.push.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PushOutboxRepositoryImpl implements PushOutboxRepositoryCustom {
+
+    // 한 문장의 바인딩 파라미터 수를 제한하기 위한 행 수
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final EntityManager em;
+
+    /**
+     * 같은 알림을 수신자 목록만큼 multi-row INSERT 로 기록합니다. 수신자 수와 관계없이 ROWS_PER_STATEMENT 건당 한 문장입니다.
+     */
+    @Override
+    public int insertAll(UUID senderId, List<UUID> targetMemberIds, String title, String body, String data, LocalDateTime now) {
+        int inserted = 0;
+        for (int from = 0; from < targetMemberIds.size(); from += ROWS_PER_STATEMENT) {
+            List<UUID> chunk = targetMemberIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, targetMemberIds.size()));
+
+            StringBuilder sql = new StringBuilder("""
+                    INSERT INTO push_outbox (sender_id, target_member_id, title, body, data, coalesced_count,
+                                             status, attempts, next_attempt_at, created_at, updated_at, is_deleted)
+                    VALUES
+                    """);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(',');
+                }
+                sql.append("""
+                        (UNHEX(REPLACE(:senderId, '-', '')), UNHEX(REPLACE(:target%d, '-', '')), :title, :body, :data, 1,
+                         'PENDING', 0, :now, :now, :now, b'0')
+                        """.formatted(i));
+            }
+
+            Query query = em.createNativeQuery(sql.toString())
+                    .setParameter("senderId", senderId.toString())
+                    .setParameter("title", title)
+                    .setParameter("body", body)
+                    .setParameter("data", data)
+                    .setParameter("now", now);
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter("target" + i, chunk.get(i).toString());
+            }
+            inserted += query.executeUpdate();
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,27 @@
+package unicon.Achiva.domain.push.infrastructure;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unicon.Achiva.domain.push.entity.PushTicket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PushTicketRepository extends JpaRepository<PushTicket, String>, PushTicketRepositoryCustom {
+
+    /**
+     * 영수증을 조회할 수 있을 만큼 시간이 지난 티켓 (오래된 순)
+     */
+    @Query("SELECT t FROM PushTicket t WHERE t.sentAt <= :sentBefore ORDER BY t.sentAt")
+    List<PushTicket> findAllSentBefore(@Param("sentBefore") LocalDateTime sentBefore, Limit limit);
+
+    /**
+     * Expo 는 영수증을 24시간만 보관하므로 그보다 오래된 티켓은 확인 없이 정리합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM PushTicket t WHERE t.sentAt < :cutoff")
+    int deleteAllSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,10 @@
+package unicon.Achiva.domain.push.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public interface PushTicketRepositoryCustom {
+
+    int insertAll(Map<String, UUID> pushTokenIdByTicketId, LocalDateTime sentAt);
+}
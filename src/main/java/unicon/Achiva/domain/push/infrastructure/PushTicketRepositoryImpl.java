@@ -0,0 +1,52 @@
+package unicon.Achiva.domain.push.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PushTicketRepositoryImpl implements PushTicketRepositoryCustom {
+
+    // 한 문장의 바인딩 파라미터 수를 제한하기 위한 행 수
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final EntityManager em;
+
+    /**
+     * 티켓을 multi-row INSERT 로 저장합니다.
+     * ticket_id 가 PK(할당 ID)라 saveAll 은 행마다 SELECT 후 INSERT 하므로 사용하지 않습니다.
+     */
+    @Override
+    public int insertAll(Map<String, UUID> pushTokenIdByTicketId, LocalDateTime sentAt) {
+        List<Map.Entry<String, UUID>> entries = new ArrayList<>(pushTokenIdByTicketId.entrySet());
+        int inserted = 0;
+        for (int from = 0; from < entries.size(); from += ROWS_PER_STATEMENT) {
+            List<Map.Entry<String, UUID>> chunk = entries.subList(from, Math.min(from + ROWS_PER_STATEMENT, entries.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT IGNORE INTO push_ticket (ticket_id, push_token_id, sent_at) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(',');
+                }
+                sql.append("(:ticket%d, UNHEX(REPLACE(:token%d, '-', '')), :sentAt)".formatted(i, i));
+            }
+
+            Query query = em.createNativeQuery(sql.toString())
+                    .setParameter("sentAt", sentAt);
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter("ticket" + i, chunk.get(i).getKey());
+                query.setParameter("token" + i, chunk.get(i).getValue().toString());
+            }
+            inserted += query.executeUpdate();
+        }
+        return inserted;
+    }
+}
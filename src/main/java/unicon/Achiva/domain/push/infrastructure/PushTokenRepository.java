@@ -1,10 +1,13 @@
 package unicon.Achiva.domain.push.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import unicon.Achiva.domain.push.entity.PushToken;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +48,24 @@ public interface PushTokenRepository extends JpaRepository<PushToken, UUID> {
             """)
     List<PushToken> findAllActiveByPushEnabledAndOrganizationId(@Param("organizationId") Long organizationId);
 
+    /**
+     * 전송에 성공한 토큰들의 lastUsedAt 을 한 번의 UPDATE 로 갱신합니다.
+     * @param ids PushToken ID 목록
+     * @param usedAt 사용 시각
+     */
+    @Modifying
+    @Query("UPDATE PushToken pt SET pt.lastUsedAt = :usedAt WHERE pt.id IN :ids")
+    int updateLastUsedAt(@Param("ids") Collection<UUID> ids, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * Expo 가 DeviceNotRegistered 로 응답한 토큰들을 한 번의 UPDATE 로 비활성화합니다.
+     * @param ids PushToken ID 목록
+     * @return 비활성화된 토큰 수
+     */
+    @Modifying
+    @Query("UPDATE PushToken pt SET pt.isActive = false WHERE pt.id IN :ids AND pt.isActive = true")
+    int deactivateAllByIds(@Param("ids") Collection<UUID> ids);
+
     /**
      * 특정 회원의 모든 푸시 토큰을 삭제합니다 (회원 탈퇴 시 사용).
      * @param memberId 회원 ID
@@ -0,0 +1,40 @@
+package unicon.Achiva.global.common;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * [startDate, endDate] 를 하루 전체가 포함되는 일자 구간 [fromDate, toDate) 과 앞/뒤 경계로 나눕니다.
+ * 일자별 집계 테이블은 [fromDate, toDate) 만 읽고, 하루 미만으로 걸치는 경계는 원본 테이블에서 계산할 때 사용합니다.
+ * fromDate/toDate 가 null 이면 해당 방향으로 제한이 없습니다.
+ */
+public record DayRange(LocalDateTime startDate, LocalDateTime endDate, LocalDate fromDate, LocalDate toDate) {
+
+    public static DayRange of(LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDate fromDate = null;
+        if (startDate != null) {
+            fromDate = startDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                    ? startDate.toLocalDate()
+                    : startDate.toLocalDate().plusDays(1);
+        }
+        // 종료일 당일은 종료 시각까지만 포함되므로 경계로 취급합니다.
+        LocalDate toDate = endDate == null ? null : endDate.toLocalDate();
+        return new DayRange(startDate, endDate, fromDate, toDate);
+    }
+
+    /**
+     * 하루 전체가 포함되는 일자가 없는 짧은 기간 (최대 이틀에 걸침)
+     */
+    public boolean isBoundaryOnly() {
+        return fromDate != null && toDate != null && !fromDate.isBefore(toDate);
+    }
+
+    public boolean hasPartialHead() {
+        return startDate != null && !startDate.toLocalTime().equals(LocalTime.MIDNIGHT);
+    }
+
+    public boolean hasPartialTail() {
+        return endDate != null;
+    }
+}
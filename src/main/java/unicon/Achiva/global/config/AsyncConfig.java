@@ -0,0 +1,58 @@
+package unicon.Achiva.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 푸시 전송용 executor 설정
+ * 외부 HTTP 호출이 길어질 수 있으므로 요청 스레드와 분리된 크기 제한 풀에서 처리합니다.
+ * 두 풀 모두 호출 측이 결과를 기다리므로, 큐가 가득 차도 작업을 버리지 않고 호출 스레드에서 실행합니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String EXPO_SEND_EXECUTOR = "expoSendExecutor";
+    public static final String PUSH_OUTBOX_EXECUTOR = "pushOutboxExecutor";
+
+    /**
+     * Expo 배치(최대 100건) 요청을 동시에 보내기 위한 풀. 스레드 수가 곧 Expo 로의 최대 동시 요청 수입니다.
+     * 호출 측은 결과를 기다리므로 큐가 가득 차면 호출 스레드에서 직접 실행합니다.
+     */
+    @Bean(name = EXPO_SEND_EXECUTOR)
+    public ThreadPoolTaskExecutor expoSendExecutor(
+            @Value("${app.push.expo.max-concurrency:4}") int maxConcurrency
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("expo-send-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(maxConcurrency * 25);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * push_outbox 전송 워커 풀. PushOutboxWorker 가 꺼낸 배치를 나눠 전송하고 모두 끝날 때까지 기다립니다.
+     */
+    @Bean(name = PUSH_OUTBOX_EXECUTOR)
+    public ThreadPoolTaskExecutor pushOutboxExecutor(
+            @Value("${app.push.outbox.workers:4}") int workers,
+            @Value("${app.push.outbox.batch-size:100}") int batchSize
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("push-outbox-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(batchSize);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package unicon.Achiva.global.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * minSize 이상인 요청 본문을 gzip 으로 압축해 보냅니다. (Content-Encoding: gzip)
+ */
+public class GzipRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int minSize;
+
+    public GzipRequestInterceptor(int minSize) {
+        this.minSize = minSize;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (body.length < minSize || request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return execution.execute(request, body);
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return execution.execute(request, compressed.toByteArray());
+    }
+}
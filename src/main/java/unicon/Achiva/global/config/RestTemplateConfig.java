@@ -1,14 +1,62 @@
 package unicon.Achiva.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API 별 RestTemplate
+ * 대상마다 별도의 JDK HttpClient(HTTP/2, keep-alive 연결 재사용)를 두어 한 대상이 느려져도 다른 대상의 연결에 영향을 주지 않고,
+ * connect/read timeout 으로 요청 스레드가 무기한 묶이지 않게 합니다.
+ * RestTemplateBuilder 로 만들기 때문에 호출 시간은 http.client.requests{client.name=호스트} 메트릭으로 기록됩니다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public static final String EXPO_REST_TEMPLATE = "expoRestTemplate";
+    public static final String OIDC_REST_TEMPLATE = "oidcRestTemplate";
+
+    // Expo 권장: 1KiB 를 넘는 요청 본문은 gzip 으로 압축
+    private static final int GZIP_MIN_REQUEST_SIZE = 1024;
+
+    @Bean(name = EXPO_REST_TEMPLATE)
+    public RestTemplate expoRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${app.http.expo.connect-timeout:2000}") long connectTimeoutMillis,
+            @Value("${app.http.expo.read-timeout:10000}") long readTimeoutMillis
+    ) {
+        return builder
+                .requestFactory(() -> requestFactory(connectTimeoutMillis, readTimeoutMillis))
+                .additionalInterceptors(new GzipRequestInterceptor(GZIP_MIN_REQUEST_SIZE))
+                .build();
+    }
+
+    @Bean(name = OIDC_REST_TEMPLATE)
+    public RestTemplate oidcRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${app.http.oidc.connect-timeout:2000}") long connectTimeoutMillis,
+            @Value("${app.http.oidc.read-timeout:5000}") long readTimeoutMillis
+    ) {
+        return builder
+                .requestFactory(() -> requestFactory(connectTimeoutMillis, readTimeoutMillis))
+                .build();
+    }
+
+    private static JdkClientHttpRequestFactory requestFactory(long connectTimeoutMillis, long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return factory;
     }
 }
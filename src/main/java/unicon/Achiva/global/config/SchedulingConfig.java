@@ -0,0 +1,40 @@
+package unicon.Achiva.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄 작업용 scheduler 설정
+ * 기본 scheduler(taskScheduler)는 여러 스레드로 두어 조직 단위 재계산이나 Expo 영수증 조회 같은 긴 작업끼리 서로 막지 않게 하고,
+ * 1초마다 도는 push_outbox 워커는 전용 scheduler 에서 실행해 다른 작업이 길어져도 푸시 전송이 밀리지 않게 합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String PUSH_OUTBOX_SCHEDULER = "pushOutboxScheduler";
+
+    // TaskScheduler 빈이 여러 개면 @Scheduled 는 이 이름의 빈을 기본으로 사용합니다.
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${app.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setPoolSize(poolSize);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    @Bean(name = PUSH_OUTBOX_SCHEDULER)
+    public ThreadPoolTaskScheduler pushOutboxScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("push-outbox-poll-");
+        scheduler.setPoolSize(1);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
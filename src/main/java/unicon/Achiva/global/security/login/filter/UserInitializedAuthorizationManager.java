@@ -7,7 +7,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.stereotype.Component;
-import unicon.Achiva.domain.member.MemberService;
+import unicon.Achiva.domain.member.MemberExistenceCache;
 
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -16,10 +16,11 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class UserInitializedAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
 
-    private final MemberService memberService;
+    private final MemberExistenceCache memberExistenceCache;
 
     /**
      * JWT의 sub가 Member에 없으면 접근 거부 결정을 반환합니다.
+     * 존재 여부는 MemberExistenceCache 를 통해 확인하므로 대부분의 요청은 DB 를 조회하지 않습니다.
      */
     @Override
     public AuthorizationDecision check(Supplier<Authentication> authentication,
@@ -27,7 +28,7 @@ public class UserInitializedAuthorizationManager implements AuthorizationManager
         Authentication auth = authentication.get();
         if (auth instanceof JwtAuthenticationToken token) {
             UUID sub = UUID.fromString(token.getToken().getSubject());
-            return new AuthorizationDecision(memberService.existsById(sub));
+            return new AuthorizationDecision(memberExistenceCache.exists(sub));
         }
         return new AuthorizationDecision(true);
     }
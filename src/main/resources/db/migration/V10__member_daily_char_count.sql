@@ -0,0 +1,32 @@
+-- 글자 수 통계 사전 계산
+-- article.char_count: 질문 내용 글자 수 합계, member_daily_char_count: 회원별-일자별-카테고리별 합계 (책 대표 아티클 제외)
+ALTER TABLE article
+    ADD COLUMN char_count INT NOT NULL DEFAULT 0;
+
+UPDATE article a
+  JOIN (
+        SELECT q.article_id, SUM(CHAR_LENGTH(q.content)) AS char_count
+          FROM question q
+         WHERE q.content IS NOT NULL
+         GROUP BY q.article_id
+       ) t ON t.article_id = a.id
+   SET a.char_count = t.char_count;
+
+CREATE TABLE IF NOT EXISTS member_daily_char_count (
+    member_id BINARY(16) NOT NULL,
+    activity_date DATE NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    char_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id, activity_date, category),
+    CONSTRAINT fk_member_daily_char_count_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO member_daily_char_count (member_id, activity_date, category, char_count)
+SELECT a.member_id, DATE(a.created_at), a.category, SUM(a.char_count)
+  FROM article a
+ WHERE a.is_deleted = b'0'
+   AND a.is_book_main = b'0'
+   AND a.category IS NOT NULL
+   AND a.created_at IS NOT NULL
+   AND a.member_id IS NOT NULL
+ GROUP BY a.member_id, DATE(a.created_at), a.category;
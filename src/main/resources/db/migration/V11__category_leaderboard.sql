@@ -0,0 +1,19 @@
+-- organization-카테고리별 회원 게시글 수 카운터 (카테고리 랭킹용, 책 대표 아티클 제외)
+CREATE TABLE IF NOT EXISTS category_leaderboard (
+    organization_id BIGINT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    member_id BINARY(16) NOT NULL,
+    article_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (organization_id, category, member_id),
+    KEY idx_category_leaderboard_member (member_id),
+    CONSTRAINT fk_category_leaderboard_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO category_leaderboard (organization_id, category, member_id, article_count)
+SELECT m.organization_id, a.category, a.member_id, COUNT(*)
+  FROM article a
+  JOIN member m ON m.id = a.member_id
+ WHERE a.is_deleted = b'0'
+   AND a.is_book_main = b'0'
+   AND a.category IS NOT NULL
+ GROUP BY m.organization_id, a.category, a.member_id;
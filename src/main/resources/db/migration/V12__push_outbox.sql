@@ -0,0 +1,19 @@
+-- 푸시 전송 outbox (비즈니스 트랜잭션과 함께 기록, 워커가 재시도/dead-letter 처리)
+CREATE TABLE IF NOT EXISTS push_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    sender_id BINARY(16) NOT NULL,
+    target_member_id BINARY(16) NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    body VARCHAR(500) NOT NULL,
+    data TEXT,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(500),
+    sent_at DATETIME(6),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    is_deleted BIT(1) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_push_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
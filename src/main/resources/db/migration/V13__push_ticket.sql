@@ -0,0 +1,8 @@
+-- 영수증 확인 전 Expo 푸시 티켓 (DeviceNotRegistered 토큰 비활성화용)
+CREATE TABLE IF NOT EXISTS push_ticket (
+    ticket_id VARCHAR(64) NOT NULL,
+    push_token_id BINARY(16) NOT NULL,
+    sent_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (ticket_id),
+    KEY idx_push_ticket_sent_at (sent_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
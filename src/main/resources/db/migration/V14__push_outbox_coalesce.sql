@@ -0,0 +1,9 @@
+-- 같은 수신자/종류 알림 묶음 전송
+-- digest_open 은 워커가 꺼내기 전까지만 1 이고 이후 NULL 이므로, 유니크 키는 열린 묶음끼리만 겹칩니다.
+-- 묶음 기록은 이 키에 대한 INSERT ... ON DUPLICATE KEY UPDATE 로 하므로, 같은 수신자의 첫 알림이 동시에 들어와도
+-- 빈 구간 잠금(gap lock)끼리 엇갈려 교착되지 않고 한쪽이 다른 쪽 행에 더해집니다.
+ALTER TABLE push_outbox
+    ADD COLUMN coalesce_key VARCHAR(50) NULL,
+    ADD COLUMN coalesced_count INT NOT NULL DEFAULT 1,
+    ADD COLUMN digest_open TINYINT(1) NULL,
+    ADD UNIQUE KEY uk_push_outbox_open_digest (target_member_id, coalesce_key, digest_open);
@@ -0,0 +1,38 @@
+-- friendship 의 두 회원을 방향과 무관한 (member_low, member_high) 쌍으로 정규화
+-- 쌍 조회/잠금이 유니크 인덱스 한 번으로 끝나고, 같은 두 회원 사이의 중복 행이 생기지 않습니다.
+ALTER TABLE friendship
+    ADD COLUMN member_low BINARY(16) NULL,
+    ADD COLUMN member_high BINARY(16) NULL;
+
+-- 상대가 없는 행은 어떤 쌍에도 속하지 않으므로 정리합니다.
+DELETE FROM friendship WHERE receiver_id IS NULL;
+
+-- BINARY 비교(부호 없는 바이트 순)로 작은 쪽/큰 쪽을 채웁니다. (Friendship.pairLow/pairHigh 와 같은 기준)
+UPDATE friendship
+   SET member_low  = LEAST(requester_id, receiver_id),
+       member_high = GREATEST(requester_id, receiver_id);
+
+-- 기존 중복 행은 애플리케이션이 쓰던 우선순위(BLOCKED > ACCEPTED > PENDING > REJECTED, 최근 수정/생성/ID 순)로 하나만 남깁니다.
+DELETE f
+  FROM friendship f
+  JOIN (SELECT id,
+               ROW_NUMBER() OVER (
+                   PARTITION BY member_low, member_high
+                   ORDER BY CASE status
+                                WHEN 'BLOCKED' THEN 4
+                                WHEN 'ACCEPTED' THEN 3
+                                WHEN 'PENDING' THEN 2
+                                ELSE 1
+                            END DESC,
+                            updated_at DESC,
+                            created_at DESC,
+                            id DESC
+               ) AS rn
+          FROM friendship) ranked ON ranked.id = f.id
+ WHERE ranked.rn > 1;
+
+ALTER TABLE friendship
+    MODIFY COLUMN receiver_id BINARY(16) NOT NULL,
+    MODIFY COLUMN member_low BINARY(16) NOT NULL,
+    MODIFY COLUMN member_high BINARY(16) NOT NULL,
+    ADD UNIQUE KEY uk_friendship_member_pair (member_low, member_high);
@@ -0,0 +1,25 @@
+-- 알 수도 있는 친구(친구의 친구) 추천 결과. FriendSuggestionJob 이 친구 그래프에서 계산해 채웁니다.
+-- 회원별로 rank_no 순서대로 저장하므로 조회는 PK 범위 한 번으로 끝납니다.
+CREATE TABLE IF NOT EXISTS friend_suggestion (
+    member_id BINARY(16) NOT NULL,
+    rank_no INT NOT NULL,
+    organization_id BIGINT NOT NULL,
+    candidate_id BINARY(16) NOT NULL,
+    mutual_friend_count INT NOT NULL,
+    shared_moim_count INT NOT NULL,
+    computed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (member_id, rank_no),
+    KEY idx_friend_suggestion_organization (organization_id),
+    CONSTRAINT fk_friend_suggestion_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE,
+    CONSTRAINT fk_friend_suggestion_candidate FOREIGN KEY (candidate_id) REFERENCES member (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 친구 관계가 바뀌어 추천을 다시 계산해야 하는 회원
+CREATE TABLE IF NOT EXISTS friend_suggestion_dirty (
+    member_id BINARY(16) NOT NULL,
+    organization_id BIGINT NOT NULL,
+    marked_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (member_id),
+    KEY idx_friend_suggestion_dirty_organization (organization_id, marked_at),
+    CONSTRAINT fk_friend_suggestion_dirty_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,17 @@
+-- 회원별 읽지 않은 응원 수 (응원함 배지용 카운터)
+-- 응원 생성/읽음/삭제 시 같은 트랜잭션에서 증감하고, UnreadCheeringReconcileJob 이 cheering 기준으로 맞춥니다.
+CREATE TABLE IF NOT EXISTS member_unread_cheering (
+    member_id BINARY(16) NOT NULL,
+    unread_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_member_unread_cheering_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 받은 사람 기준 읽지 않은 응원 집계/일괄 읽음 처리가 인덱스 범위만 읽도록 합니다.
+CREATE INDEX idx_cheering_receiver_is_read ON cheering (receiver_id, is_read);
+
+INSERT INTO member_unread_cheering (member_id, unread_count)
+SELECT c.receiver_id, COUNT(*)
+  FROM cheering c
+ WHERE c.is_read = b'0'
+ GROUP BY c.receiver_id;
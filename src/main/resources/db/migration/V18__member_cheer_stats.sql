@@ -0,0 +1,34 @@
+-- 회원별-일자별-응원 카테고리별 보낸/받은 응원 수
+-- 응원 생성/삭제/카테고리 변경, 게시글 삭제 시 같은 트랜잭션에서 증감하며, 응원 통계 조회는 cheering 대신 이 테이블을 읽습니다.
+CREATE TABLE IF NOT EXISTS member_cheer_stats (
+    member_id BINARY(16) NOT NULL,
+    stat_date DATE NOT NULL,
+    cheering_category VARCHAR(20) NOT NULL,
+    given_count BIGINT NOT NULL DEFAULT 0,
+    received_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id, stat_date, cheering_category),
+    CONSTRAINT fk_member_cheer_stats_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 카테고리가 없는 응원은 'NONE', 작성 일시가 없는 응원은 1970-01-01 로 집계해 총합에 포함합니다.
+INSERT INTO member_cheer_stats (member_id, stat_date, cheering_category, given_count, received_count)
+SELECT t.member_id, t.stat_date, t.cheering_category, SUM(t.given_count), SUM(t.received_count)
+  FROM (
+        SELECT c.sender_id AS member_id,
+               COALESCE(DATE(c.created_at), '1970-01-01') AS stat_date,
+               COALESCE(c.cheering_category, 'NONE') AS cheering_category,
+               COUNT(*) AS given_count, 0 AS received_count
+          FROM cheering c
+         GROUP BY 1, 2, 3
+        UNION ALL
+        SELECT c.receiver_id,
+               COALESCE(DATE(c.created_at), '1970-01-01'),
+               COALESCE(c.cheering_category, 'NONE'),
+               0, COUNT(*)
+          FROM cheering c
+         GROUP BY 1, 2, 3
+       ) t
+ GROUP BY t.member_id, t.stat_date, t.cheering_category;
+
+-- 기간별 보낸 응원 수의 경계 구간(하루 미만)은 cheering 에서 계산하므로 보낸 사람-작성 시각 인덱스를 둡니다.
+CREATE INDEX idx_cheering_sender_created_at ON cheering (sender_id, created_at);
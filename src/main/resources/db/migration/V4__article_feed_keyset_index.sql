@@ -0,0 +1,2 @@
+-- 홈 피드 커서(keyset) 페이지네이션: member_id 별 (created_at DESC, id DESC) range scan 지원
+CREATE INDEX idx_article_member_created_at ON article (member_id, created_at, id);
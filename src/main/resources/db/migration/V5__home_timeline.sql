@@ -0,0 +1,52 @@
+-- 홈 피드 fan-out-on-write 타임라인
+-- bucket 0: 친구 게시글, 1: 내 게시글을 응원한 사용자(친구 제외)의 게시글
+CREATE TABLE IF NOT EXISTS home_timeline (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    owner_id BINARY(16) NOT NULL,
+    article_id BINARY(16) NOT NULL,
+    author_id BINARY(16) NOT NULL,
+    bucket INT NOT NULL,
+    article_created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_home_timeline_owner_article (owner_id, article_id),
+    KEY idx_home_timeline_owner_feed (owner_id, bucket, article_created_at, article_id),
+    KEY idx_home_timeline_owner_author (owner_id, author_id),
+    KEY idx_home_timeline_article_id (article_id),
+    CONSTRAINT fk_home_timeline_owner FOREIGN KEY (owner_id) REFERENCES member (id) ON DELETE CASCADE,
+    CONSTRAINT fk_home_timeline_article FOREIGN KEY (article_id) REFERENCES article (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 친구 관계 backfill (양방향, 같은 organization 만)
+INSERT IGNORE INTO home_timeline (owner_id, article_id, author_id, bucket, article_created_at)
+SELECT f.receiver_id, a.id, a.member_id, 0, a.created_at
+  FROM friendship f
+  JOIN member requester ON requester.id = f.requester_id
+  JOIN member receiver ON receiver.id = f.receiver_id
+  JOIN article a ON a.member_id = f.requester_id
+ WHERE f.status = 'ACCEPTED'
+   AND requester.organization_id = receiver.organization_id
+   AND a.created_at IS NOT NULL;
+
+INSERT IGNORE INTO home_timeline (owner_id, article_id, author_id, bucket, article_created_at)
+SELECT f.requester_id, a.id, a.member_id, 0, a.created_at
+  FROM friendship f
+  JOIN member requester ON requester.id = f.requester_id
+  JOIN member receiver ON receiver.id = f.receiver_id
+  JOIN article a ON a.member_id = f.receiver_id
+ WHERE f.status = 'ACCEPTED'
+   AND requester.organization_id = receiver.organization_id
+   AND a.created_at IS NOT NULL;
+
+-- 기존 응원 관계 backfill: 친구로 이미 들어간 (owner, article) 은 INSERT IGNORE 로 유지
+INSERT IGNORE INTO home_timeline (owner_id, article_id, author_id, bucket, article_created_at)
+SELECT pair.receiver_id, a.id, a.member_id, 1, a.created_at
+  FROM (
+        SELECT DISTINCT c.receiver_id, c.sender_id
+          FROM cheering c
+         WHERE c.receiver_id <> c.sender_id
+       ) pair
+  JOIN member sender ON sender.id = pair.sender_id
+  JOIN member receiver ON receiver.id = pair.receiver_id
+  JOIN article a ON a.member_id = pair.sender_id
+ WHERE sender.organization_id = receiver.organization_id
+   AND a.created_at IS NOT NULL;
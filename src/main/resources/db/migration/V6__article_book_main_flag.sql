@@ -0,0 +1,10 @@
+-- 책 대표(메인) 아티클 비정규화 플래그
+-- 피드/통계 쿼리에서 LEFT JOIN book ... IS NULL 대신 article.is_book_main 한 컬럼으로 필터링합니다.
+ALTER TABLE article
+    ADD COLUMN is_book_main BIT(1) NOT NULL DEFAULT b'0';
+
+UPDATE article a
+  JOIN book b ON b.main_article_id = a.id
+   SET a.is_book_main = b'1';
+
+CREATE INDEX idx_article_book_main_created_at ON article (is_book_main, created_at);
@@ -0,0 +1,33 @@
+-- 게시글 키워드 검색용 문서 테이블 (제목 + 질문 제목/내용)
+-- 한국어 부분 일치를 위해 FULLTEXT 인덱스는 ngram parser 를 사용합니다.
+CREATE TABLE IF NOT EXISTS article_search_document (
+    article_id BINARY(16) NOT NULL,
+    organization_id BIGINT NOT NULL,
+    category VARCHAR(50),
+    article_created_at DATETIME(6) NOT NULL,
+    content LONGTEXT NOT NULL,
+    PRIMARY KEY (article_id),
+    KEY idx_article_search_document_org_created (organization_id, article_created_at),
+    CONSTRAINT fk_article_search_document_article FOREIGN KEY (article_id) REFERENCES article (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 게시글 backfill. 긴 본문이 잘리지 않도록 GROUP_CONCAT 길이 제한을 늘립니다.
+SET SESSION group_concat_max_len = 16777216;
+
+INSERT INTO article_search_document (article_id, organization_id, category, article_created_at, content)
+SELECT a.id,
+       m.organization_id,
+       a.category,
+       a.created_at,
+       CONCAT_WS('\n',
+                 a.title,
+                 GROUP_CONCAT(CONCAT_WS('\n', q.title, q.content) ORDER BY q.id SEPARATOR '\n'))
+  FROM article a
+  JOIN member m ON m.id = a.member_id
+  LEFT JOIN question q ON q.article_id = a.id
+ WHERE a.created_at IS NOT NULL
+ GROUP BY a.id, m.organization_id, a.category, a.created_at, a.title;
+
+-- 대량 적재 후에 FULLTEXT 인덱스를 생성하는 편이 빠릅니다.
+ALTER TABLE article_search_document
+    ADD FULLTEXT INDEX ft_article_search_document_content (content) WITH PARSER ngram;
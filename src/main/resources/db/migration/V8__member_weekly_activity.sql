@@ -0,0 +1,27 @@
+-- 회원별-주(ISO week, 월요일 시작)별 활동 집계
+-- day_mask: 게시글을 작성한 요일 비트 (월요일 = bit 0 ... 일요일 = bit 6), article_count: 해당 주 게시글 수
+CREATE TABLE IF NOT EXISTS member_weekly_activity (
+    member_id BINARY(16) NOT NULL,
+    week_start DATE NOT NULL,
+    day_mask INT NOT NULL DEFAULT 0,
+    article_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id, week_start),
+    CONSTRAINT fk_member_weekly_activity_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 게시글 backfill (삭제/책 대표 아티클 제외). WEEKDAY() 는 월요일이 0 입니다.
+INSERT INTO member_weekly_activity (member_id, week_start, day_mask, article_count)
+SELECT t.member_id,
+       t.week_start,
+       BIT_OR(1 << t.day_index),
+       COUNT(*)
+  FROM (
+        SELECT a.member_id,
+               DATE_SUB(DATE(a.created_at), INTERVAL WEEKDAY(a.created_at) DAY) AS week_start,
+               WEEKDAY(a.created_at) AS day_index
+          FROM article a
+         WHERE a.is_deleted = b'0'
+           AND a.is_book_main = b'0'
+           AND a.created_at IS NOT NULL
+       ) t
+ GROUP BY t.member_id, t.week_start;
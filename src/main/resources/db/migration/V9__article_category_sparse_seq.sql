@@ -0,0 +1,17 @@
+-- author_category_seq 를 빈 번호가 허용되는 정렬 키로 전환
+-- 삭제/카테고리 이동 시 뒤 글들을 다시 매기지 않고, 화면에 보이는 순번은 조회 시 순위로 계산합니다.
+ALTER TABLE member_category_counter
+    ADD COLUMN last_seq BIGINT NOT NULL DEFAULT 0;
+
+-- 지금까지는 번호가 1..size 로 빽빽했지만, 안전하게 실제 최댓값 기준으로 맞춥니다.
+UPDATE member_category_counter c
+   SET c.last_seq = GREATEST(
+           c.size,
+           COALESCE((SELECT MAX(a.author_category_seq)
+                       FROM article a
+                      WHERE a.member_id = c.member_id
+                        AND a.category = c.category), 0)
+       );
+
+-- 순위 계산(COUNT ... author_category_seq <= ?)이 인덱스 범위만 읽도록 합니다.
+CREATE INDEX idx_article_member_category_seq ON article (member_id, category, author_category_seq);
@@ -0,0 +1,78 @@
+package unicon.Achiva.domain.article;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.article.infrastructure.MemberDailyCharCountRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleCharacterCountServiceTest {
+
+    private static final UUID MEMBER_ID = UUID.randomUUID();
+
+    @Mock
+    private MemberDailyCharCountRepository memberDailyCharCountRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private ArticleCharacterCountService articleCharacterCountService;
+
+    @BeforeEach
+    void setUp() {
+        articleCharacterCountService = new ArticleCharacterCountService(memberDailyCharCountRepository, articleRepository);
+    }
+
+    @Test
+    void openEndedRangeFromMidnightReadsOnlyDailyRollup() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(memberDailyCharCountRepository.sumCharCount(MEMBER_ID, LocalDate.of(2025, 1, 1), null)).thenReturn(1200L);
+
+        long total = articleCharacterCountService.getTotalCharacterCount(MEMBER_ID, start, null);
+
+        assertThat(total).isEqualTo(1200L);
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void partialBoundaryDaysAreReadFromArticlesAndFullDaysFromRollup() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 1, 15, 30);
+        LocalDateTime end = LocalDateTime.of(2026, 3, 10, 9, 0);
+        when(memberDailyCharCountRepository.sumCharCount(MEMBER_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 10)))
+                .thenReturn(500L);
+        when(articleRepository.sumCharCountByCreatedAtRange(MEMBER_ID, start, LocalDateTime.of(2026, 3, 2, 0, 0), null))
+                .thenReturn(30L);
+        when(articleRepository.sumCharCountByCreatedAtRange(MEMBER_ID, LocalDateTime.of(2026, 3, 10, 0, 0), null, end))
+                .thenReturn(7L);
+
+        long total = articleCharacterCountService.getTotalCharacterCount(MEMBER_ID, start, end);
+
+        assertThat(total).isEqualTo(537L);
+    }
+
+    @Test
+    void rangeWithoutAnyFullDayIsReadFromArticlesOnly() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 1, 22, 0);
+        LocalDateTime end = LocalDateTime.of(2026, 3, 2, 6, 0);
+        when(articleRepository.sumCharCountByCreatedAtRange(MEMBER_ID, start, null, end)).thenReturn(42L);
+
+        long total = articleCharacterCountService.getTotalCharacterCount(MEMBER_ID, start, end);
+
+        assertThat(total).isEqualTo(42L);
+        verify(memberDailyCharCountRepository, never()).sumCharCount(any(), any(), any());
+    }
+}
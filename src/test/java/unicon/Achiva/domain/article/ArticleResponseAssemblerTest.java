@@ -0,0 +1,191 @@
+package unicon.Achiva.domain.article;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.article.dto.ArticleWithBookResponse;
+import unicon.Achiva.domain.article.entity.Article;
+import unicon.Achiva.domain.article.entity.Question;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.article.infrastructure.QuestionRepository;
+import unicon.Achiva.domain.book.entity.Book;
+import unicon.Achiva.domain.book.entity.BookArticle;
+import unicon.Achiva.domain.book.infrastructure.BookArticleRepository;
+import unicon.Achiva.domain.category.Category;
+import unicon.Achiva.domain.member.entity.Member;
+import unicon.Achiva.domain.scripture.entity.ArticleScriptureReading;
+import unicon.Achiva.domain.scripture.infrastructure.ArticleScriptureReadingRepository;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleResponseAssemblerTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private BookArticleRepository bookArticleRepository;
+
+    @Mock
+    private ArticleScriptureReadingRepository articleScriptureReadingRepository;
+
+    private ArticleResponseAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        assembler = new ArticleResponseAssembler(
+                articleRepository,
+                questionRepository,
+                bookArticleRepository,
+                articleScriptureReadingRepository
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void toArticleWithBookResponsesRunsOneQueryPerAssociationRegardlessOfPageSize(int pageSize) throws Exception {
+        Member author = member(UUID.randomUUID(), "author");
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            articles.add(article(UUID.randomUUID(), author, "title-" + i));
+        }
+
+        List<Question> questions = articles.stream()
+                .map(article -> Question.builder().title("q").content("content").article(article).build())
+                .toList();
+        List<Object[]> photoRows = articles.stream()
+                .map(article -> new Object[]{article.getId(), "https://photo/" + article.getId()})
+                .toList();
+
+        when(bookArticleRepository.findBookInfosByArticleIds(anyCollection())).thenReturn(List.of());
+        when(questionRepository.findAllByArticleIdIn(anyCollection())).thenReturn(questions);
+        when(articleRepository.findPhotoUrlsByArticleIds(anyCollection())).thenReturn(photoRows);
+        when(articleScriptureReadingRepository.findAllById(any())).thenReturn(List.of());
+        when(articleRepository.countArticlesByMemberIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{author.getId(), (long) pageSize}));
+        when(articleRepository.findAuthorCategoryRanksByArticleIds(anyCollection())).thenReturn(articles.stream()
+                .map(article -> new Object[]{article.getId(), 1L})
+                .toList());
+
+        List<ArticleWithBookResponse> responses = assembler.toArticleWithBookResponses(articles);
+
+        assertThat(responses).hasSize(pageSize);
+        verify(bookArticleRepository, times(1)).findBookInfosByArticleIds(anyCollection());
+        verify(questionRepository, times(1)).findAllByArticleIdIn(anyCollection());
+        verify(articleRepository, times(1)).findPhotoUrlsByArticleIds(anyCollection());
+        verify(articleScriptureReadingRepository, times(1)).findAllById(any());
+        verify(articleRepository, times(1)).countArticlesByMemberIds(anyCollection());
+        verify(articleRepository, times(1)).findAuthorCategoryRanksByArticleIds(anyCollection());
+        verifyNoMoreInteractions(articleRepository, questionRepository, bookArticleRepository, articleScriptureReadingRepository);
+    }
+
+    @Test
+    void toArticleWithBookResponsesMapsBatchLoadedAssociationsToEachArticle() throws Exception {
+        Member author = member(UUID.randomUUID(), "author");
+        Article first = article(UUID.randomUUID(), author, "first");
+        Article second = article(UUID.randomUUID(), author, "second");
+        Article bookMain = article(UUID.randomUUID(), author, "book title");
+
+        Book book = Book.builder().member(author).mainArticle(bookMain).build();
+        setId(book, UUID.randomUUID());
+        BookArticle bookArticle = BookArticle.builder().book(book).article(first).pageIndex(0).build();
+        ArticleScriptureReading reading = ArticleScriptureReading.create(second, "요한복음", 3, 4, 5, LocalDate.of(2026, 4, 11));
+
+        when(bookArticleRepository.findBookInfosByArticleIds(anyCollection())).thenReturn(List.of(bookArticle));
+        when(questionRepository.findAllByArticleIdIn(anyCollection())).thenReturn(List.of(
+                Question.builder().title("q1").content("c1").article(first).build(),
+                Question.builder().title("q2").content("c2").article(first).build()
+        ));
+        when(articleRepository.findPhotoUrlsByArticleIds(anyCollection())).thenReturn(List.of(
+                new Object[]{second.getId(), "p1"},
+                new Object[]{second.getId(), "p2"}
+        ));
+        when(articleScriptureReadingRepository.findAllById(any())).thenReturn(List.of(reading));
+        when(articleRepository.countArticlesByMemberIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{author.getId(), 2L}));
+        when(articleRepository.findAuthorCategoryRanksByArticleIds(anyCollection())).thenReturn(List.of(
+                new Object[]{first.getId(), 1L},
+                new Object[]{second.getId(), 2L}
+        ));
+
+        List<ArticleWithBookResponse> responses = assembler.toArticleWithBookResponses(List.of(first, second));
+
+        ArticleWithBookResponse firstResponse = responses.get(0);
+        assertThat(firstResponse.getQuestion()).hasSize(2);
+        assertThat(firstResponse.getPhotoUrls()).isEmpty();
+        assertThat(firstResponse.getBookArticle()).singleElement()
+                .satisfies(info -> assertThat(info.bookTitle()).isEqualTo("book title"));
+        assertThat(firstResponse.getScriptureReading()).isNull();
+        assertThat(firstResponse.getMemberArticleCount()).isEqualTo(2L);
+        assertThat(firstResponse.getAuthorCategorySeq()).isEqualTo(1L);
+
+        ArticleWithBookResponse secondResponse = responses.get(1);
+        assertThat(secondResponse.getQuestion()).isEmpty();
+        assertThat(secondResponse.getPhotoUrls()).containsExactly("p1", "p2");
+        assertThat(secondResponse.getBookArticle()).isEmpty();
+        assertThat(secondResponse.getScriptureReading().getScriptureId()).isEqualTo("요한복음");
+        assertThat(secondResponse.getAuthorCategorySeq()).isEqualTo(2L);
+    }
+
+    @Test
+    void toArticleResponseSkipsRankQueryWhenRankIsAlreadyKnown() throws Exception {
+        Article created = article(UUID.randomUUID(), member(UUID.randomUUID(), "author"), "created");
+        created.assignAuthorCategoryRank(3L);
+
+        assertThat(assembler.toArticleResponse(created).getAuthorCategorySeq()).isEqualTo(3L);
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void toArticleWithBookResponsesSkipsQueriesForEmptyPage() {
+        assertThat(assembler.toArticleWithBookResponses(List.of())).isEmpty();
+        verifyNoInteractions(articleRepository, questionRepository, bookArticleRepository, articleScriptureReadingRepository);
+    }
+
+    private static Member member(UUID id, String nickname) {
+        return Member.builder()
+                .id(id)
+                .email(nickname + "@test.com")
+                .nickName(nickname)
+                .build();
+    }
+
+    private static Article article(UUID id, Member member, String title) throws Exception {
+        // questions 는 의도적으로 비워 둡니다: 지연 컬렉션에 접근하면 NPE 로 드러납니다.
+        Article article = Article.builder()
+                .title(title)
+                .category(Category.values()[0])
+                .member(member)
+                .authorCategorySeq(1L)
+                .build();
+        setId(article, id);
+        return article;
+    }
+
+    private static void setId(Object entity, UUID id) throws Exception {
+        Field idField = entity.getClass().getSuperclass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(entity, id);
+    }
+}
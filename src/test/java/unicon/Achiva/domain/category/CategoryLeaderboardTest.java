@@ -0,0 +1,87 @@
+package unicon.Achiva.domain.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryLeaderboardTest {
+
+    private final Category category = Category.values()[0];
+
+    @Test
+    void addKeepsEntriesOrderedByArticleCount() {
+        CategoryLeaderboard leaderboard = new CategoryLeaderboard(0L);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        leaderboard.add(category, first, 3);
+        leaderboard.add(category, second, 5);
+        leaderboard.add(category, third, 1);
+        leaderboard.add(category, first, 4);
+
+        assertThat(leaderboard.top(category, null))
+                .extracting(CategoryLeaderboard.Entry::memberId)
+                .containsExactly(first, second, third);
+        assertThat(leaderboard.top(category, 2))
+                .extracting(CategoryLeaderboard.Entry::articleCount)
+                .containsExactly(7L, 5L);
+    }
+
+    @Test
+    void memberIsRemovedWhenCountDropsToZero() {
+        CategoryLeaderboard leaderboard = new CategoryLeaderboard(0L);
+        UUID memberId = UUID.randomUUID();
+
+        leaderboard.add(category, memberId, 1);
+        leaderboard.add(category, memberId, -1);
+
+        assertThat(leaderboard.top(category, null)).isEmpty();
+    }
+
+    @Test
+    void topIncludesMembersTiedWithTheLastPlace() {
+        CategoryLeaderboard leaderboard = new CategoryLeaderboard(0L);
+        UUID leader = UUID.randomUUID();
+        UUID tiedFirst = UUID.randomUUID();
+        UUID tiedSecond = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+
+        leaderboard.add(category, leader, 5);
+        leaderboard.add(category, tiedFirst, 3);
+        leaderboard.add(category, tiedSecond, 3);
+        leaderboard.add(category, last, 1);
+
+        assertThat(leaderboard.top(category, 2))
+                .extracting(CategoryLeaderboard.Entry::memberId)
+                .containsExactlyInAnyOrder(leader, tiedFirst, tiedSecond);
+    }
+
+    @Test
+    void setReplacesCountInsteadOfAdding() {
+        CategoryLeaderboard leaderboard = new CategoryLeaderboard(0L);
+        UUID memberId = UUID.randomUUID();
+
+        leaderboard.add(category, memberId, 2);
+        leaderboard.set(category, memberId, 2);
+
+        assertThat(leaderboard.top(category, null))
+                .extracting(CategoryLeaderboard.Entry::articleCount)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void versionedSetIgnoresOlderValues() {
+        CategoryLeaderboard leaderboard = new CategoryLeaderboard(0L);
+        UUID memberId = UUID.randomUUID();
+
+        leaderboard.set(category, memberId, 3, 2L);
+        leaderboard.set(category, memberId, 2, 1L);
+
+        assertThat(leaderboard.top(category, null))
+                .extracting(CategoryLeaderboard.Entry::articleCount)
+                .containsExactly(3L);
+    }
+}
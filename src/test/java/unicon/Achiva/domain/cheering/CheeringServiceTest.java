@@ -0,0 +1,148 @@
+package unicon.Achiva.domain.cheering;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import unicon.Achiva.domain.article.HomeTimelineService;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.cheering.dto.CheeringReadRequest;
+import unicon.Achiva.domain.cheering.entity.Cheering;
+import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
+import unicon.Achiva.domain.member.entity.Member;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+import unicon.Achiva.domain.organization.OrganizationAccessService;
+import unicon.Achiva.domain.push.PushService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CheeringServiceTest {
+
+    private static final UUID RECEIVER_ID = UUID.randomUUID();
+
+    @Mock
+    private CheeringRepository cheeringRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private PushService pushService;
+
+    @Mock
+    private OrganizationAccessService organizationAccessService;
+
+    @Mock
+    private HomeTimelineService homeTimelineService;
+
+    @Mock
+    private UnreadCheeringCounterService unreadCheeringCounterService;
+
+    @Mock
+    private CheeringStatsService cheeringStatsService;
+
+    private CheeringService cheeringService;
+
+    @BeforeEach
+    void setUp() {
+        cheeringService = new CheeringService(cheeringRepository, memberRepository, articleRepository, pushService,
+                organizationAccessService, homeTimelineService, unreadCheeringCounterService, cheeringStatsService);
+    }
+
+    @Test
+    void markCheeringsReadUpToIdIgnoresIdsAndDecrementsByAffectedRows() {
+        when(cheeringRepository.markReadUpTo(eq(RECEIVER_ID), eq(100L), any(LocalDateTime.class))).thenReturn(7);
+
+        int readCount = cheeringService.markCheeringsRead(request(List.of(1L, 2L), 100L), RECEIVER_ID).readCount();
+
+        assertThat(readCount).isEqualTo(7);
+        verify(cheeringRepository, never()).markReadByIds(any(), anyList(), any());
+        verify(unreadCheeringCounterService).decrement(RECEIVER_ID, 7);
+    }
+
+    @Test
+    void markCheeringsReadByIdsDecrementsOnlyNewlyReadRows() {
+        // 이미 읽은 응원은 UPDATE 대상에서 빠지므로 요청한 3건 중 2건만 줄어듭니다.
+        when(cheeringRepository.markReadByIds(eq(RECEIVER_ID), eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        int readCount = cheeringService.markCheeringsRead(request(List.of(1L, 2L, 3L), null), RECEIVER_ID).readCount();
+
+        assertThat(readCount).isEqualTo(2);
+        verify(cheeringRepository, never()).markReadUpTo(any(), any(), any());
+        verify(unreadCheeringCounterService).decrement(RECEIVER_ID, 2);
+    }
+
+    @Test
+    void markCheeringsReadWithEmptyRequestDoesNotUpdate() {
+        int readCount = cheeringService.markCheeringsRead(request(List.of(), null), RECEIVER_ID).readCount();
+
+        assertThat(readCount).isZero();
+        verifyNoInteractions(cheeringRepository);
+        verify(unreadCheeringCounterService).decrement(RECEIVER_ID, 0);
+    }
+
+    @Test
+    void deletingUnreadCheeringDecrementsReceiverCounter() {
+        UUID senderId = UUID.randomUUID();
+        Cheering cheering = cheering(senderId, false);
+        when(cheeringRepository.findById(1L)).thenReturn(Optional.of(cheering));
+
+        cheeringService.deleteCheering(1L, senderId);
+
+        verify(cheeringRepository).delete(cheering);
+        verify(unreadCheeringCounterService).decrement(RECEIVER_ID, 1);
+    }
+
+    @Test
+    void deletingReadCheeringLeavesReceiverCounterAlone() {
+        UUID senderId = UUID.randomUUID();
+        when(cheeringRepository.findById(1L)).thenReturn(Optional.of(cheering(senderId, true)));
+
+        cheeringService.deleteCheering(1L, senderId);
+
+        verify(unreadCheeringCounterService, never()).decrement(any(), anyLong());
+    }
+
+    @Test
+    void unreadCheeringCountIsReadFromCounter() {
+        when(unreadCheeringCounterService.getUnreadCount(RECEIVER_ID)).thenReturn(4L);
+
+        assertThat(cheeringService.getUnreadCheeringCount(RECEIVER_ID).getUnreadCheeringCount()).isEqualTo(4L);
+        verifyNoInteractions(cheeringRepository);
+    }
+
+    private static Cheering cheering(UUID senderId, boolean read) {
+        return Cheering.builder()
+                .sender(Member.builder().id(senderId).build())
+                .receiver(Member.builder().id(RECEIVER_ID).build())
+                .isRead(read)
+                .build();
+    }
+
+    private static CheeringReadRequest request(List<Long> cheeringIds, Long upToId) {
+        CheeringReadRequest request = new CheeringReadRequest();
+        ReflectionTestUtils.setField(request, "cheeringIds", cheeringIds);
+        ReflectionTestUtils.setField(request, "upToId", upToId);
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package unicon.Achiva.domain.cheering;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.cheering.entity.Cheering;
+import unicon.Achiva.domain.cheering.entity.MemberCheerStats;
+import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
+import unicon.Achiva.domain.cheering.infrastructure.MemberCheerStatsRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CheeringStatsServiceTest {
+
+    private static final UUID MEMBER_ID = UUID.randomUUID();
+
+    @Mock
+    private MemberCheerStatsRepository memberCheerStatsRepository;
+
+    @Mock
+    private CheeringRepository cheeringRepository;
+
+    private CheeringStatsService cheeringStatsService;
+
+    @BeforeEach
+    void setUp() {
+        cheeringStatsService = new CheeringStatsService(memberCheerStatsRepository, cheeringRepository);
+    }
+
+    @Test
+    void totalGivenCountWithoutRangeReadsOnlyRollup() {
+        when(memberCheerStatsRepository.sumGivenCount(MEMBER_ID, null, null)).thenReturn(12L);
+
+        long total = cheeringStatsService.getTotalGivenCount(MEMBER_ID, null, null);
+
+        assertThat(total).isEqualTo(12L);
+        verifyNoInteractions(cheeringRepository);
+    }
+
+    @Test
+    void partialBoundaryDaysAreCountedFromCheeringsAndFullDaysFromRollup() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 1, 15, 30);
+        LocalDateTime end = LocalDateTime.of(2026, 3, 10, 9, 0);
+        when(memberCheerStatsRepository.sumGivenCount(MEMBER_ID, LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 10)))
+                .thenReturn(20L);
+        when(cheeringRepository.countGivenByCreatedAtRange(MEMBER_ID, start, LocalDateTime.of(2026, 3, 2, 0, 0), null))
+                .thenReturn(2L);
+        when(cheeringRepository.countGivenByCreatedAtRange(MEMBER_ID, LocalDateTime.of(2026, 3, 10, 0, 0), null, end))
+                .thenReturn(1L);
+
+        long total = cheeringStatsService.getTotalGivenCount(MEMBER_ID, start, end);
+
+        assertThat(total).isEqualTo(23L);
+    }
+
+    @Test
+    void articleDeletionSubtractsCascadedCheeringsPerSenderDayAndCategory() {
+        UUID articleId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        UUID senderId = UUID.randomUUID();
+        when(cheeringRepository.findStatKeysByArticleId(articleId)).thenReturn(List.of(
+                new Object[]{senderId, LocalDateTime.of(2026, 5, 1, 8, 0), CheeringCategory.PRAISE},
+                new Object[]{senderId, LocalDateTime.of(2026, 5, 1, 21, 0), CheeringCategory.PRAISE},
+                new Object[]{senderId, LocalDateTime.of(2026, 5, 2, 7, 0), CheeringCategory.PRAY},
+                new Object[]{senderId, LocalDateTime.of(2026, 5, 2, 9, 0), null},
+                new Object[]{senderId, null, null}
+        ));
+
+        cheeringStatsService.onArticleDeleted(articleId, authorId);
+
+        verify(memberCheerStatsRepository).addCount(senderId, authorId, LocalDate.of(2026, 5, 1), "PRAISE", -2L);
+        verify(memberCheerStatsRepository).addCount(senderId, authorId, LocalDate.of(2026, 5, 2), "PRAY", -1L);
+        verify(memberCheerStatsRepository).addCount(senderId, authorId, LocalDate.of(2026, 5, 2), MemberCheerStats.NO_CATEGORY, -1L);
+        verify(memberCheerStatsRepository).addCount(senderId, authorId, LocalDate.EPOCH, MemberCheerStats.NO_CATEGORY, -1L);
+        verifyNoMoreInteractions(memberCheerStatsRepository);
+    }
+
+    @Test
+    void addCountWritesRowsInMemberIdOrder() {
+        MemberCheerStatsRepository repository = mock(MemberCheerStatsRepository.class, CALLS_REAL_METHODS);
+        UUID low = new UUID(0x1000L, 0L);
+        UUID high = new UUID(0xF000000000000000L, 0L); // 부호 있는 비교로는 low 보다 작습니다.
+        LocalDate date = LocalDate.of(2026, 5, 1);
+
+        repository.addCount(high, low, date, "PRAISE", 1L);
+        repository.addCount(low, high, date, "PRAISE", 1L);
+
+        verify(repository).addCounts(low.toString(), 0L, 1L, high.toString(), 1L, 0L, date, "PRAISE");
+        verify(repository).addCounts(low.toString(), 1L, 0L, high.toString(), 0L, 1L, date, "PRAISE");
+    }
+
+    @Test
+    void unchangedCategoryDoesNotTouchRollup() {
+        Cheering cheering = Cheering.builder()
+                .cheeringCategory(CheeringCategory.THANKS)
+                .build();
+
+        cheeringStatsService.onCategoryChanged(cheering, CheeringCategory.THANKS);
+
+        verifyNoInteractions(memberCheerStatsRepository);
+    }
+}
@@ -0,0 +1,72 @@
+package unicon.Achiva.domain.cheering;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.cheering.infrastructure.CheeringRepository;
+import unicon.Achiva.domain.cheering.infrastructure.MemberUnreadCheeringRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCheeringCounterServiceTest {
+
+    private static final UUID MEMBER_ID = UUID.randomUUID();
+
+    @Mock
+    private MemberUnreadCheeringRepository memberUnreadCheeringRepository;
+
+    @Mock
+    private CheeringRepository cheeringRepository;
+
+    private UnreadCheeringCounterService unreadCheeringCounterService;
+
+    @BeforeEach
+    void setUp() {
+        unreadCheeringCounterService = new UnreadCheeringCounterService(memberUnreadCheeringRepository, cheeringRepository);
+    }
+
+    @Test
+    void unreadCountIsZeroWithoutCounterRow() {
+        when(memberUnreadCheeringRepository.findUnreadCountByMemberId(MEMBER_ID)).thenReturn(Optional.empty());
+
+        assertThat(unreadCheeringCounterService.getUnreadCount(MEMBER_ID)).isZero();
+    }
+
+    @Test
+    void decrementSkipsUpsertWhenNothingWasRead() {
+        unreadCheeringCounterService.decrement(MEMBER_ID, 0);
+
+        verify(memberUnreadCheeringRepository, never()).addUnreadCount(anyString(), anyLong());
+    }
+
+    @Test
+    void articleDeletionSubtractsOnlyUnreadCheeringsOfTheArticle() {
+        UUID articleId = UUID.randomUUID();
+        when(cheeringRepository.countByArticle_IdAndIsReadFalse(articleId)).thenReturn(3L);
+
+        unreadCheeringCounterService.onArticleDeleted(articleId, MEMBER_ID);
+
+        verify(memberUnreadCheeringRepository).addUnreadCount(MEMBER_ID.toString(), -3L);
+    }
+
+    @Test
+    void articleDeletionWithoutUnreadCheeringsLeavesCounterAlone() {
+        UUID articleId = UUID.randomUUID();
+        when(cheeringRepository.countByArticle_IdAndIsReadFalse(articleId)).thenReturn(0L);
+
+        unreadCheeringCounterService.onArticleDeleted(articleId, MEMBER_ID);
+
+        verify(memberUnreadCheeringRepository, never()).addUnreadCount(anyString(), anyLong());
+    }
+}
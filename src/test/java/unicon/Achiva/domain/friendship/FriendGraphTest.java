@@ -0,0 +1,83 @@
+package unicon.Achiva.domain.friendship;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FriendGraphTest {
+
+    @Test
+    void linkIsSymmetricAndIdempotent() {
+        FriendGraph graph = new FriendGraph(0L);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        graph.link(first, second);
+        graph.link(second, first);
+
+        assertThat(graph.friendsOf(first)).containsExactly(second);
+        assertThat(graph.friendsOf(second)).containsExactly(first);
+        assertThat(graph.friendCount(second)).isEqualTo(1);
+    }
+
+    @Test
+    void unlinkRemovesEdgeButKeepsOtherFriends() {
+        FriendGraph graph = new FriendGraph(0L);
+        UUID member = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+
+        graph.link(member, removed);
+        graph.link(member, kept);
+        graph.unlink(removed, member);
+
+        assertThat(graph.friendsOf(member)).containsExactly(kept);
+        assertThat(graph.friendsOf(removed)).isEmpty();
+    }
+
+    @Test
+    void mutualFriendCountIntersectsAdjacency() {
+        FriendGraph graph = new FriendGraph(0L);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID sharedA = UUID.randomUUID();
+        UUID sharedB = UUID.randomUUID();
+        UUID onlyFirst = UUID.randomUUID();
+
+        graph.link(first, sharedA);
+        graph.link(first, onlyFirst);
+        graph.link(first, sharedB);
+        graph.link(second, sharedB);
+        graph.link(second, sharedA);
+        graph.link(first, second);
+
+        assertThat(graph.mutualFriendCount(first, second)).isEqualTo(2);
+        assertThat(graph.mutualFriendCount(first, UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    void friendsOfFriendsCountsMutualFriendsAndSkipsExistingFriends() {
+        FriendGraph graph = new FriendGraph(0L);
+        UUID member = UUID.randomUUID();
+        UUID friendA = UUID.randomUUID();
+        UUID friendB = UUID.randomUUID();
+        UUID twoMutual = UUID.randomUUID();
+        UUID oneMutual = UUID.randomUUID();
+
+        graph.link(member, friendA);
+        graph.link(member, friendB);
+        graph.link(friendA, friendB);
+        graph.link(friendA, twoMutual);
+        graph.link(friendB, twoMutual);
+        graph.link(friendB, oneMutual);
+
+        int[] counts = new int[graph.memberCount()];
+        assertThat(graph.friendsOfFriends(member, counts))
+                .containsExactlyInAnyOrder(
+                        new FriendGraph.Candidate(twoMutual, 2),
+                        new FriendGraph.Candidate(oneMutual, 1));
+        assertThat(counts).containsOnly(0);
+    }
+}
@@ -0,0 +1,164 @@
+package unicon.Achiva.domain.friendship;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import unicon.Achiva.domain.friendship.entity.FriendSuggestion;
+import unicon.Achiva.domain.friendship.infrastructure.FriendSuggestionDirtyRepository;
+import unicon.Achiva.domain.friendship.infrastructure.FriendSuggestionRepository;
+import unicon.Achiva.domain.friendship.infrastructure.FriendshipRepository;
+import unicon.Achiva.domain.moim.repository.MoimMemberRepository;
+import unicon.Achiva.domain.organization.OrganizationAccessService;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FriendSuggestionServiceTest {
+
+    private static final Long ORGANIZATION_ID = 7L;
+
+    @Mock
+    private FriendSuggestionRepository friendSuggestionRepository;
+
+    @Mock
+    private FriendSuggestionDirtyRepository friendSuggestionDirtyRepository;
+
+    @Mock
+    private FriendshipRepository friendshipRepository;
+
+    @Mock
+    private MoimMemberRepository moimMemberRepository;
+
+    @Mock
+    private FriendGraphService friendGraphService;
+
+    @Mock
+    private OrganizationAccessService organizationAccessService;
+
+    private FriendSuggestionService friendSuggestionService;
+
+    @BeforeEach
+    void setUp() {
+        friendSuggestionService = new FriendSuggestionService(friendSuggestionRepository, friendSuggestionDirtyRepository,
+                friendshipRepository, moimMemberRepository, friendGraphService, organizationAccessService);
+        ReflectionTestUtils.setField(friendSuggestionService, "maxPerMember", 50);
+    }
+
+    @Test
+    void rebuildRanksByMutualFriendsThenSharedMoimsAndSkipsExcludedMembers() {
+        UUID member = UUID.randomUUID();
+        UUID friendA = UUID.randomUUID();
+        UUID friendB = UUID.randomUUID();
+        UUID twoMutual = UUID.randomUUID();
+        UUID oneMutualSharedMoim = UUID.randomUUID();
+        UUID oneMutual = UUID.randomUUID();
+        UUID pending = UUID.randomUUID();
+
+        FriendGraph graph = new FriendGraph(0L);
+        graph.link(member, friendA);
+        graph.link(member, friendB);
+        graph.link(friendA, twoMutual);
+        graph.link(friendB, twoMutual);
+        graph.link(friendA, oneMutual);
+        graph.link(friendB, oneMutualSharedMoim);
+        graph.link(friendA, pending);
+
+        when(friendGraphService.readGraph(ORGANIZATION_ID)).thenReturn(graph);
+        when(friendshipRepository.streamMemberPairsInOrganizationByStatusIn(eq(ORGANIZATION_ID), anyCollection()))
+                .thenReturn(Stream.<Object[]>of(new Object[]{member, pending}));
+        when(moimMemberRepository.streamMemberMoimPairsByOrganizationId(ORGANIZATION_ID))
+                .thenReturn(Stream.of(new Object[]{member, 1L}, new Object[]{oneMutualSharedMoim, 1L}));
+
+        friendSuggestionService.rebuild(ORGANIZATION_ID);
+
+        verify(friendSuggestionRepository).deleteAllByOrganizationId(ORGANIZATION_ID);
+        List<FriendSuggestion> ranked = suggestionsOf(captureInserted(), member);
+        assertThat(ranked).extracting(FriendSuggestion::getCandidateId)
+                .containsExactly(twoMutual, oneMutualSharedMoim, oneMutual);
+        assertThat(ranked).extracting(FriendSuggestion::getMutualFriendCount).containsExactly(2, 1, 1);
+        assertThat(ranked).extracting(FriendSuggestion::getSharedMoimCount).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    void refreshDirtyPatchesDirtyMembersAndRecomputesOnlyThemAndTheirFriends() {
+        UUID member = UUID.randomUUID();
+        UUID friend = UUID.randomUUID();
+        UUID friendOfFriend = UUID.randomUUID();
+        UUID newFriend = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        UUID farAway = UUID.randomUUID();
+
+        // 캐시된 그래프에는 다른 인스턴스에서 커밋된 member-newFriend 관계가 아직 없습니다.
+        FriendGraph cached = new FriendGraph(0L);
+        cached.link(member, friend);
+        cached.link(friend, friendOfFriend);
+        cached.link(unrelated, friendOfFriend);
+        cached.link(unrelated, farAway);
+
+        when(friendSuggestionDirtyRepository.findMemberIdsByOrganizationId(ORGANIZATION_ID))
+                .thenReturn(List.of(member, newFriend));
+        when(friendGraphService.getGraph(ORGANIZATION_ID)).thenReturn(cached);
+        when(friendshipRepository.findMemberPairsInOrganizationByMemberIdIn(eq(ORGANIZATION_ID), anyCollection(),
+                argThat(statuses -> statuses.contains(FriendshipStatus.ACCEPTED))))
+                .thenReturn(List.of(new Object[]{member, friend}, new Object[]{newFriend, member}));
+        when(friendshipRepository.findMemberPairsInOrganizationByMemberIdIn(eq(ORGANIZATION_ID), anyCollection(),
+                argThat(statuses -> statuses.contains(FriendshipStatus.BLOCKED))))
+                .thenReturn(List.of());
+
+        int refreshed = friendSuggestionService.refreshDirty(ORGANIZATION_ID);
+
+        assertThat(refreshed).isEqualTo(3);
+        ArgumentCaptor<Collection<UUID>> targets = ArgumentCaptor.captor();
+        verify(friendSuggestionRepository).deleteAllByMemberIdIn(targets.capture());
+        assertThat(targets.getValue()).containsExactlyInAnyOrder(member, newFriend, friend);
+        verify(moimMemberRepository).findMemberMoimPairsByOrganizationIdAndMemberIdIn(eq(ORGANIZATION_ID),
+                argThat(ids -> ids.contains(unrelated) && !ids.contains(farAway)));
+        verify(friendSuggestionDirtyRepository).deleteAllMarkedBefore(eq(List.of(member, newFriend)), any(LocalDateTime.class));
+
+        List<FriendSuggestion> inserted = captureInserted();
+        assertThat(suggestionsOf(inserted, newFriend)).extracting(FriendSuggestion::getCandidateId).containsExactly(friend);
+        assertThat(suggestionsOf(inserted, friend)).extracting(FriendSuggestion::getCandidateId)
+                .containsExactlyInAnyOrder(newFriend, unrelated);
+        // 계산은 복사본에서 하므로 캐시된 그래프는 바뀌지 않습니다.
+        assertThat(cached.friendsOf(member)).containsExactly(friend);
+    }
+
+    @Test
+    void refreshDirtyWithoutDirtyMembersDoesNothing() {
+        when(friendSuggestionDirtyRepository.findMemberIdsByOrganizationId(ORGANIZATION_ID)).thenReturn(List.of());
+
+        assertThat(friendSuggestionService.refreshDirty(ORGANIZATION_ID)).isZero();
+        verifyNoInteractions(friendGraphService, friendSuggestionRepository, friendshipRepository, moimMemberRepository);
+    }
+
+    private List<FriendSuggestion> captureInserted() {
+        ArgumentCaptor<List<FriendSuggestion>> captor = ArgumentCaptor.captor();
+        verify(friendSuggestionRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static List<FriendSuggestion> suggestionsOf(List<FriendSuggestion> suggestions, UUID memberId) {
+        return suggestions.stream()
+                .filter(suggestion -> suggestion.getId().getMemberId().equals(memberId))
+                .sorted(Comparator.comparingInt(suggestion -> suggestion.getId().getRankNo()))
+                .toList();
+    }
+}
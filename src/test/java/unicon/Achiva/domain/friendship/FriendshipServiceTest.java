@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.article.HomeTimelineService;
 import unicon.Achiva.domain.friendship.dto.FriendshipRequest;
 import unicon.Achiva.domain.friendship.dto.FriendshipResponse;
 import unicon.Achiva.domain.friendship.entity.Friendship;
@@ -17,6 +18,7 @@ import unicon.Achiva.global.response.GeneralException;
 
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -42,11 +44,20 @@ class FriendshipServiceTest {
     @Mock
     private OrganizationAccessService organizationAccessService;
 
+    @Mock
+    private HomeTimelineService homeTimelineService;
+
+    @Mock
+    private FriendGraphService friendGraphService;
+
+    @Mock
+    private FriendSuggestionService friendSuggestionService;
+
     private FriendshipService friendshipService;
 
     @BeforeEach
     void setUp() {
-        friendshipService = new FriendshipService(friendshipRepository, memberRepository, pushService, organizationAccessService);
+        friendshipService = new FriendshipService(friendshipRepository, memberRepository, pushService, organizationAccessService, homeTimelineService, friendGraphService, friendSuggestionService);
     }
 
     @Test
@@ -58,12 +69,11 @@ class FriendshipServiceTest {
         List<UUID> lockedMemberIds = Stream.of(memberAId, memberBId).sorted().toList();
 
         Friendship reversePending = friendship(memberB, memberA, FriendshipStatus.PENDING, 10L);
-        Friendship duplicatePending = friendship(memberA, memberB, FriendshipStatus.PENDING, 11L);
 
         when(memberRepository.findAllByIdInOrderByIdAscForUpdate(lockedMemberIds))
                 .thenReturn(List.of(memberA, memberB));
-        when(friendshipRepository.findAllByMemberPairForUpdate(memberAId, memberBId))
-                .thenReturn(List.of(reversePending, duplicatePending));
+        when(friendshipRepository.findByMemberPairForUpdate(memberAId, memberBId))
+                .thenReturn(Optional.of(reversePending));
 
         FriendshipRequest request = friendshipRequest(memberBId);
 
@@ -71,8 +81,10 @@ class FriendshipServiceTest {
 
         assertThat(response.getStatus()).isEqualTo(FriendshipStatus.ACCEPTED);
         assertThat(reversePending.getStatus()).isEqualTo(FriendshipStatus.ACCEPTED);
-        verify(friendshipRepository).deleteAll(List.of(duplicatePending));
         verify(friendshipRepository, never()).save(any(Friendship.class));
+        verify(homeTimelineService).refreshRelation(memberBId, memberAId);
+        verify(friendGraphService).onLinked(memberBId, memberAId);
+        verify(friendSuggestionService).markChanged(memberBId, memberAId);
     }
 
     @Test
@@ -84,18 +96,48 @@ class FriendshipServiceTest {
         List<UUID> lockedMemberIds = Stream.of(memberAId, memberBId).sorted().toList();
 
         Friendship accepted = friendship(memberA, memberB, FriendshipStatus.ACCEPTED, 20L);
-        Friendship stalePending = friendship(memberB, memberA, FriendshipStatus.PENDING, 21L);
 
         when(memberRepository.findAllByIdInOrderByIdAscForUpdate(lockedMemberIds))
                 .thenReturn(List.of(memberA, memberB));
-        when(friendshipRepository.findAllByMemberPairForUpdate(memberAId, memberBId))
-                .thenReturn(List.of(accepted, stalePending));
+        when(friendshipRepository.findByMemberPairForUpdate(memberAId, memberBId))
+                .thenReturn(Optional.of(accepted));
 
         FriendshipResponse response = friendshipService.sendFriendRequest(friendshipRequest(memberBId), memberAId);
 
         assertThat(response.getStatus()).isEqualTo(FriendshipStatus.ACCEPTED);
-        verify(friendshipRepository).deleteAll(List.of(stalePending));
-        verify(pushService, never()).sendPushNotification(any(), any());
+        verify(friendshipRepository, never()).save(any(Friendship.class));
+        verify(pushService, never()).enqueuePushNotification(any(), any());
+        verify(pushService, never()).enqueueCoalescedPushNotification(any(), any(), any(), any());
+    }
+
+    @Test
+    void sendFriendRequestRejectsBlockedPair() throws Exception {
+        UUID memberAId = UUID.randomUUID();
+        UUID memberBId = UUID.randomUUID();
+        Member memberA = member(memberAId, "a@test.com", "memberA");
+        Member memberB = member(memberBId, "b@test.com", "memberB");
+        List<UUID> lockedMemberIds = Stream.of(memberAId, memberBId).sorted().toList();
+
+        when(memberRepository.findAllByIdInOrderByIdAscForUpdate(lockedMemberIds))
+                .thenReturn(List.of(memberA, memberB));
+        when(friendshipRepository.findByMemberPairForUpdate(memberAId, memberBId))
+                .thenReturn(Optional.of(friendship(memberB, memberA, FriendshipStatus.BLOCKED, 30L)));
+
+        assertThatThrownBy(() -> friendshipService.sendFriendRequest(friendshipRequest(memberBId), memberAId))
+                .isInstanceOf(GeneralException.class)
+                .hasMessage(FriendshipErrorCode.FRIENDSHIP_BLOCKED.getMessage());
+        verify(friendshipRepository, never()).save(any(Friendship.class));
+    }
+
+    @Test
+    void pairKeyFollowsUnsignedByteOrderRegardlessOfDirection() {
+        UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+        assertThat(Friendship.pairLow(low, high)).isEqualTo(low);
+        assertThat(Friendship.pairLow(high, low)).isEqualTo(low);
+        assertThat(Friendship.pairHigh(low, high)).isEqualTo(high);
+        assertThat(Friendship.pairHigh(high, low)).isEqualTo(high);
     }
 
     @Test
@@ -0,0 +1,102 @@
+package unicon.Achiva.domain.friendship.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import unicon.Achiva.domain.friendship.FriendshipStatus;
+import unicon.Achiva.domain.friendship.dto.FriendshipResponse;
+import unicon.Achiva.domain.friendship.entity.Friendship;
+import unicon.Achiva.domain.member.entity.Member;
+import unicon.Achiva.domain.organization.entity.Organization;
+import unicon.Achiva.domain.push.dto.IndividualFriendPushSetting;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 친구 목록/요청/푸시 설정 조회가 상대 회원의 organization 으로 걸러지는지 확인합니다.
+ * 운영 마이그레이션은 MySQL 전용이므로 Flyway 대신 엔티티 기준 스키마를 H2 에 만들어 사용합니다.
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class FriendshipRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    private Organization organization;
+    private Member member;
+    private Member sameOrganizationMember;
+    private Member otherOrganizationMember;
+
+    @BeforeEach
+    void setUp() {
+        organization = entityManager.persist(Organization.builder().name("org").build());
+        Organization otherOrganization = entityManager.persist(Organization.builder().name("other").build());
+        member = persistMember("member", organization);
+        sameOrganizationMember = persistMember("same", organization);
+        otherOrganizationMember = persistMember("other", otherOrganization);
+    }
+
+    @Test
+    void friendsAreFilteredByOtherMemberOrganization() {
+        Friendship sameOrganization = persistFriendship(member, sameOrganizationMember, FriendshipStatus.ACCEPTED);
+        persistFriendship(otherOrganizationMember, member, FriendshipStatus.ACCEPTED);
+
+        assertThat(friendshipRepository.findResponsesByMemberIdInOrganization(
+                member.getId(), member.getId(), organization.getId(), FriendshipStatus.ACCEPTED))
+                .extracting(FriendshipResponse::getId)
+                .containsExactly(sameOrganization.getId());
+    }
+
+    @Test
+    void requestsAreFilteredByCounterpartOrganization() {
+        Friendship received = persistFriendship(sameOrganizationMember, member, FriendshipStatus.PENDING);
+        persistFriendship(otherOrganizationMember, member, FriendshipStatus.PENDING);
+        Member anotherSameOrganizationMember = persistMember("another", organization);
+        Friendship sent = persistFriendship(member, anotherSameOrganizationMember, FriendshipStatus.PENDING);
+        persistFriendship(member, otherOrganizationMember, FriendshipStatus.PENDING);
+
+        assertThat(friendshipRepository.findResponsesByReceiverIdInOrganization(
+                member.getId(), organization.getId(), FriendshipStatus.PENDING))
+                .extracting(FriendshipResponse::getId)
+                .containsExactly(received.getId());
+        assertThat(friendshipRepository.findResponsesByRequesterIdInOrganization(
+                member.getId(), organization.getId(), FriendshipStatus.PENDING))
+                .extracting(FriendshipResponse::getId)
+                .containsExactly(sent.getId());
+    }
+
+    @Test
+    void pushSettingsListOnlySameOrganizationFriends() {
+        persistFriendship(sameOrganizationMember, member, FriendshipStatus.ACCEPTED);
+        persistFriendship(member, otherOrganizationMember, FriendshipStatus.ACCEPTED);
+
+        assertThat(friendshipRepository.findPushSettingsInOrganization(
+                member.getId(), organization.getId(), FriendshipStatus.ACCEPTED))
+                .extracting(IndividualFriendPushSetting::getFriendId)
+                .containsExactly(sameOrganizationMember.getId());
+    }
+
+    private Member persistMember(String nickName, Organization organization) {
+        return entityManager.persist(Member.builder()
+                .id(UUID.randomUUID())
+                .email(nickName + "@achiva.test")
+                .nickName(nickName)
+                .organization(organization)
+                .build());
+    }
+
+    private Friendship persistFriendship(Member requester, Member receiver, FriendshipStatus status) {
+        return entityManager.persist(Friendship.builder()
+                .requester(requester)
+                .receiver(receiver)
+                .status(status)
+                .build());
+    }
+}
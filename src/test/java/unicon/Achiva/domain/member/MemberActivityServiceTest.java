@@ -0,0 +1,126 @@
+package unicon.Achiva.domain.member;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.article.infrastructure.ArticleRepository;
+import unicon.Achiva.domain.member.dto.MemberStatsResponse;
+import unicon.Achiva.domain.member.entity.MemberWeekKey;
+import unicon.Achiva.domain.member.entity.MemberWeeklyActivity;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+import unicon.Achiva.domain.member.infrastructure.MemberWeeklyActivityRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberActivityServiceTest {
+
+    // 2026-10-14 (수)
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 14);
+    private static final LocalDate THIS_WEEK = LocalDate.of(2026, 10, 12);
+
+    @Mock
+    private MemberWeeklyActivityRepository memberWeeklyActivityRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    private MemberActivityService memberActivityService;
+
+    @BeforeEach
+    void setUp() {
+        memberActivityService = new MemberActivityService(
+                memberWeeklyActivityRepository,
+                memberRepository,
+                articleRepository
+        );
+    }
+
+    @Test
+    void getStatsSkipsUnfinishedCurrentWeekAndStopsAtFirstMissedWeek() {
+        UUID memberId = UUID.randomUUID();
+        when(memberWeeklyActivityRepository.findByMemberIdsAndWeekRange(anyCollection(), any(), eq(THIS_WEEK)))
+                .thenReturn(List.of(
+                        week(memberId, THIS_WEEK, 0b0000001, 2),
+                        week(memberId, THIS_WEEK.minusWeeks(1), 0b0010101, 3),
+                        week(memberId, THIS_WEEK.minusWeeks(2), 0b1000011, 5),
+                        week(memberId, THIS_WEEK.minusWeeks(3), 0b0000011, 2),
+                        week(memberId, THIS_WEEK.minusWeeks(4), 0b1111111, 7)
+                ));
+
+        MemberStatsResponse stats = memberActivityService.getStats(memberId, TODAY);
+
+        assertThat(stats.getWeeklyWorkoutCount()).isEqualTo(2);
+        assertThat(stats.getContinuousGoalWeeks()).isEqualTo(2);
+        verify(memberWeeklyActivityRepository, times(1)).findByMemberIdsAndWeekRange(anyCollection(), any(), any());
+    }
+
+    @Test
+    void getStatsLoadsOlderWindowOnlyWhenStreakReachesLookbackBoundary() {
+        UUID memberId = UUID.randomUUID();
+        LocalDate windowStart = THIS_WEEK.minusWeeks(MemberActivityService.LOOKBACK_WEEKS - 1L);
+        LocalDate olderWindowEnd = windowStart.minusWeeks(1);
+
+        List<MemberWeeklyActivity> recent = new ArrayList<>();
+        for (LocalDate week = THIS_WEEK; !week.isBefore(windowStart); week = week.minusWeeks(1)) {
+            recent.add(week(memberId, week, 0b0000111, 3));
+        }
+        when(memberWeeklyActivityRepository.findByMemberIdsAndWeekRange(anyCollection(), eq(windowStart), eq(THIS_WEEK)))
+                .thenReturn(recent);
+        when(memberWeeklyActivityRepository.findByMemberIdsAndWeekRange(anyCollection(), any(), eq(olderWindowEnd)))
+                .thenReturn(List.of(
+                        week(memberId, olderWindowEnd, 0b0000111, 3),
+                        week(memberId, olderWindowEnd.minusWeeks(1), 0b0000111, 3)
+                ));
+
+        MemberStatsResponse stats = memberActivityService.getStats(memberId, TODAY);
+
+        assertThat(stats.getContinuousGoalWeeks()).isEqualTo(MemberActivityService.LOOKBACK_WEEKS + 2);
+        verify(memberWeeklyActivityRepository, times(2)).findByMemberIdsAndWeekRange(anyCollection(), any(), any());
+    }
+
+    @Test
+    void rebuildWeekRecomputesMaskFromThatWeekOnly() {
+        UUID memberId = UUID.randomUUID();
+        MemberWeeklyActivity activity = week(memberId, THIS_WEEK, 0b1111111, 9);
+        when(memberWeeklyActivityRepository.lockById(any())).thenReturn(Optional.of(activity));
+        when(articleRepository.findCreatedAtByMemberIdAndRange(
+                memberId, THIS_WEEK.atStartOfDay(), THIS_WEEK.plusWeeks(1).atStartOfDay()
+        )).thenReturn(List.of(
+                LocalDateTime.of(2026, 10, 12, 9, 0),
+                LocalDateTime.of(2026, 10, 12, 21, 0),
+                LocalDateTime.of(2026, 10, 18, 7, 0)
+        ));
+
+        memberActivityService.rebuildWeek(memberId, TODAY.atTime(12, 0));
+
+        assertThat(activity.getDayMask()).isEqualTo(0b1000001);
+        assertThat(activity.getArticleCount()).isEqualTo(3);
+    }
+
+    private static MemberWeeklyActivity week(UUID memberId, LocalDate weekStart, int dayMask, int articleCount) {
+        MemberWeeklyActivity activity = new MemberWeeklyActivity();
+        activity.setId(new MemberWeekKey(memberId, weekStart));
+        activity.setDayMask(dayMask);
+        activity.setArticleCount(articleCount);
+        return activity;
+    }
+}
@@ -0,0 +1,55 @@
+package unicon.Achiva.domain.member;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberExistenceCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberExistenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberExistenceCache(memberRepository, new SimpleMeterRegistry(), 100, 300, 300);
+    }
+
+    @Test
+    void existsQueriesRepositoryOnlyOnceForRepeatedChecks() {
+        UUID memberId = UUID.randomUUID();
+        when(memberRepository.existsById(memberId)).thenReturn(true);
+
+        assertThat(cache.exists(memberId)).isTrue();
+        assertThat(cache.exists(memberId)).isTrue();
+
+        verify(memberRepository, times(1)).existsById(memberId);
+    }
+
+    @Test
+    void invalidateDropsCachedNegativeResultAfterSignup() {
+        UUID memberId = UUID.randomUUID();
+        when(memberRepository.existsById(memberId)).thenReturn(false, true);
+
+        assertThat(cache.exists(memberId)).isFalse();
+        assertThat(cache.exists(memberId)).isFalse();
+
+        cache.invalidate(memberId);
+
+        assertThat(cache.exists(memberId)).isTrue();
+        verify(memberRepository, times(2)).existsById(memberId);
+    }
+}
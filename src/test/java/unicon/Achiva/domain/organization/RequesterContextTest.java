@@ -0,0 +1,51 @@
+package unicon.Achiva.domain.organization;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import unicon.Achiva.domain.member.infrastructure.MemberRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequesterContextTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private RequesterContext requesterContext;
+
+    @BeforeEach
+    void setUp() {
+        requesterContext = new RequesterContext(memberRepository);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void organizationIdIsLoadedOncePerRequest() {
+        UUID requesterId = UUID.randomUUID();
+        when(memberRepository.findOrganizationIdById(requesterId)).thenReturn(Optional.of(1L));
+
+        assertThat(requesterContext.organizationIdOf(requesterId)).isEqualTo(1L);
+        assertThat(requesterContext.organizationIdOf(requesterId)).isEqualTo(1L);
+
+        verify(memberRepository, times(1)).findOrganizationIdById(requesterId);
+    }
+}
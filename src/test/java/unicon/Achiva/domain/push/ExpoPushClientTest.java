@@ -0,0 +1,71 @@
+package unicon.Achiva.domain.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import unicon.Achiva.domain.push.dto.ExpoPushResponse;
+import unicon.Achiva.domain.push.infrastructure.ExpoPushClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExpoPushClientTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private ExpoPushClient expoPushClient;
+
+    @BeforeEach
+    void setUp() {
+        expoPushClient = new ExpoPushClient(restTemplate, new ObjectMapper(), Runnable::run);
+    }
+
+    @Test
+    void sendPushNotificationsSplitsTokensIntoBatchesAndKeepsOrder() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenAnswer(invocation -> {
+                    HttpEntity<List<Map<String, Object>>> request = invocation.getArgument(2);
+                    List<Map<String, Object>> tickets = request.getBody().stream()
+                            .map(message -> Map.<String, Object>of("status", "ok", "id", "ticket-" + message.get("to")))
+                            .toList();
+                    return ResponseEntity.ok(Map.of("data", tickets));
+                });
+        List<String> tokens = IntStream.range(0, 250).mapToObj(i -> "token-" + i).toList();
+
+        List<ExpoPushResponse> responses = expoPushClient.sendPushNotifications(tokens, "title", "body", null);
+
+        verify(restTemplate, times(3)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+        assertThat(responses).hasSize(250);
+        assertThat(responses.get(0).getTicketId()).isEqualTo("ticket-token-0");
+        assertThat(responses.get(249).getTicketId()).isEqualTo("ticket-token-249");
+    }
+
+    @Test
+    void sendPushNotificationsMarksEveryTokenOfFailedBatchAsError() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenThrow(new ResourceAccessException("timeout"));
+
+        List<ExpoPushResponse> responses = expoPushClient.sendPushNotifications(List.of("a", "b"), "title", "body", null);
+
+        assertThat(responses).extracting(ExpoPushResponse::getStatus).containsExactly("error", "error");
+    }
+}
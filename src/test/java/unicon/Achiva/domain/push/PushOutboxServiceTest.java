@@ -0,0 +1,105 @@
+package unicon.Achiva.domain.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import unicon.Achiva.domain.push.dto.PushSendRequest;
+import unicon.Achiva.domain.push.entity.PushOutbox;
+import unicon.Achiva.domain.push.infrastructure.PushOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxServiceTest {
+
+    private static final IntFunction<String> DIGEST = count -> count == 1 ? "single" : "digest of " + count;
+
+    @Mock
+    private PushOutboxRepository pushOutboxRepository;
+
+    private PushOutboxService pushOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        pushOutboxService = new PushOutboxService(pushOutboxRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(pushOutboxService, "coalesceWindowSeconds", 30L);
+        ReflectionTestUtils.setField(pushOutboxService, "coalesceMaxSize", 3);
+    }
+
+    @Test
+    void enqueueCoalescedOpensDelayedDigestWhenNoneIsPending() {
+        UUID senderId = UUID.randomUUID();
+        UUID receiverId = UUID.randomUUID();
+        PushOutbox opened = digest(receiverId, 1, LocalDateTime.now().plusSeconds(30));
+        when(pushOutboxRepository.findOpenDigest(receiverId, "cheer_feed")).thenReturn(Optional.of(opened));
+
+        PushOutbox outbox = pushOutboxService.enqueueCoalesced(senderId, request(receiverId), "cheer_feed", DIGEST);
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.captor();
+        verify(pushOutboxRepository).upsertOpenDigest(eq(senderId.toString()), eq(receiverId.toString()), eq("title"),
+                eq("single"), contains("\"count\":1"), eq("cheer_feed"), nextAttemptAt.capture(), any());
+        assertThat(nextAttemptAt.getValue()).isAfter(LocalDateTime.now().plusSeconds(20));
+        assertThat(outbox).isSameAs(opened);
+        assertThat(outbox.getBody()).isEqualTo("single");
+    }
+
+    @Test
+    void enqueueCoalescedRewritesDigestWithUpsertedCountAndFlushesAtMaxSize() {
+        UUID receiverId = UUID.randomUUID();
+        LocalDateTime windowEnd = LocalDateTime.now().plusSeconds(30);
+        PushOutbox second = digest(receiverId, 2, windowEnd);
+        PushOutbox third = digest(receiverId, 3, windowEnd);
+        when(pushOutboxRepository.findOpenDigest(receiverId, "cheer_feed"))
+                .thenReturn(Optional.of(second), Optional.of(third));
+
+        pushOutboxService.enqueueCoalesced(UUID.randomUUID(), request(receiverId), "cheer_feed", DIGEST);
+        assertThat(second.getBody()).isEqualTo("digest of 2");
+        assertThat(second.getNextAttemptAt()).isEqualTo(windowEnd);
+
+        UUID lastSenderId = UUID.randomUUID();
+        pushOutboxService.enqueueCoalesced(lastSenderId, request(receiverId), "cheer_feed", DIGEST);
+        assertThat(third.getCoalescedCount()).isEqualTo(3);
+        assertThat(third.getSenderId()).isEqualTo(lastSenderId);
+        assertThat(third.getNextAttemptAt()).isBefore(windowEnd);
+        assertThat(pushOutboxService.toRequest(third).getData()).containsEntry("count", 3);
+        verify(pushOutboxRepository, never()).save(any());
+    }
+
+    private static PushOutbox digest(UUID receiverId, int coalescedCount, LocalDateTime nextAttemptAt) {
+        return PushOutbox.builder()
+                .senderId(UUID.randomUUID())
+                .targetMemberId(receiverId)
+                .title("title")
+                .body("single")
+                .coalesceKey("cheer_feed")
+                .coalescedCount(coalescedCount)
+                .digestOpen(true)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+
+    private static PushSendRequest request(UUID receiverId) {
+        return PushSendRequest.builder()
+                .targetMemberId(receiverId)
+                .title("title")
+                .data(Map.of("type", "cheer_feed"))
+                .build();
+    }
+}
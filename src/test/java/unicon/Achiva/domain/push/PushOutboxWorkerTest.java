@@ -0,0 +1,160 @@
+package unicon.Achiva.domain.push;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.push.dto.PushSendRequest;
+import unicon.Achiva.domain.push.dto.PushSendResponse;
+import unicon.Achiva.domain.push.entity.PushOutbox;
+import unicon.Achiva.global.common.BaseEntity;
+import unicon.Achiva.global.response.GeneralException;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxWorkerTest {
+
+    @Mock
+    private PushOutboxService pushOutboxService;
+
+    @Mock
+    private PushService pushService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PushOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new PushOutboxWorker(pushOutboxService, pushService, meterRegistry, Runnable::run);
+    }
+
+    @Test
+    void drainMarksDeliveredMessagesSentAndRecordsLag() throws Exception {
+        PushOutbox outbox = outbox(1L);
+        when(pushOutboxService.claimDue(anyInt())).thenReturn(List.of(outbox));
+        when(pushOutboxService.renewLease(outbox)).thenReturn(true);
+        when(pushOutboxService.toRequest(outbox)).thenReturn(PushSendRequest.builder().build());
+        when(pushService.sendPushNotification(eq(outbox.getSenderId()), any()))
+                .thenReturn(PushSendResponse.builder().sentCount(1).failedCount(0).build());
+
+        worker.drain();
+
+        verify(pushOutboxService).markSent(eq(1L), any(LocalDateTime.class));
+        assertThat(meterRegistry.counter("push.outbox.deliveries", "result", "sent").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer("push.outbox.delivery.lag").count()).isEqualTo(1L);
+    }
+
+    @Test
+    void deliverSchedulesRetryWhenEveryTokenFails() throws Exception {
+        PushOutbox outbox = outbox(2L);
+        when(pushOutboxService.renewLease(outbox)).thenReturn(true);
+        when(pushOutboxService.toRequest(outbox)).thenReturn(PushSendRequest.builder().build());
+        when(pushService.sendPushNotification(any(), any()))
+                .thenReturn(PushSendResponse.builder().sentCount(0).failedCount(2).message("expo down").build());
+
+        worker.deliver(outbox);
+
+        verify(pushOutboxService).markFailed(2L, "expo down");
+        verify(pushOutboxService, never()).markSent(any(), any());
+    }
+
+    @Test
+    void deliverDeadLettersNonRetryableErrorsImmediately() throws Exception {
+        PushOutbox outbox = outbox(3L);
+        when(pushOutboxService.renewLease(outbox)).thenReturn(true);
+        when(pushOutboxService.toRequest(outbox)).thenReturn(PushSendRequest.builder().build());
+        when(pushService.sendPushNotification(any(), any()))
+                .thenThrow(new GeneralException(PushErrorCode.PUSH_DISABLED));
+
+        worker.deliver(outbox);
+
+        verify(pushOutboxService).markDead(eq(3L), anyString());
+        verify(pushOutboxService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void deliverDeadLettersWhenEveryTokenIsUnregistered() throws Exception {
+        PushOutbox outbox = outbox(4L);
+        when(pushOutboxService.renewLease(outbox)).thenReturn(true);
+        when(pushOutboxService.toRequest(outbox)).thenReturn(PushSendRequest.builder().build());
+        when(pushService.sendPushNotification(any(), any()))
+                .thenReturn(PushSendResponse.builder().sentCount(0).failedCount(1)
+                        .results(List.of(PushSendResponse.PushResult.builder()
+                                .status("error")
+                                .error("DeviceNotRegistered")
+                                .build()))
+                        .build());
+
+        worker.deliver(outbox);
+
+        verify(pushOutboxService).markDead(4L, "DeviceNotRegistered");
+        verify(pushOutboxService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void deliverSkipsRowWhoseLeaseWasTakenOver() throws Exception {
+        PushOutbox outbox = outbox(5L);
+        when(pushOutboxService.renewLease(outbox)).thenReturn(false);
+
+        worker.deliver(outbox);
+
+        verify(pushService, never()).sendPushNotification(any(), any());
+        assertThat(meterRegistry.counter("push.outbox.deliveries", "result", "lease_lost").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void markFailedBacksOffExponentiallyAndDeadLettersAtLimit() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        Duration base = Duration.ofSeconds(10);
+        Duration max = Duration.ofMinutes(1);
+
+        PushOutbox third = PushOutbox.builder().attempts(3).nextAttemptAt(now).build();
+        third.markFailed("error", now, 5, base, max);
+        assertThat(third.getNextAttemptAt()).isEqualTo(now.plusSeconds(40));
+        assertThat(third.getStatus()).isEqualTo(PushOutboxStatus.PENDING);
+
+        PushOutbox capped = PushOutbox.builder().attempts(4).nextAttemptAt(now).build();
+        capped.markFailed("error", now, 5, base, max);
+        assertThat(capped.getNextAttemptAt()).isEqualTo(now.plus(max));
+
+        PushOutbox last = PushOutbox.builder().attempts(5).nextAttemptAt(now).build();
+        last.markFailed("error", now, 5, base, max);
+        assertThat(last.getStatus()).isEqualTo(PushOutboxStatus.DEAD);
+    }
+
+    private static PushOutbox outbox(Long id) throws Exception {
+        PushOutbox outbox = PushOutbox.builder()
+                .senderId(UUID.randomUUID())
+                .targetMemberId(UUID.randomUUID())
+                .title("title")
+                .body("body")
+                .attempts(1)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        Field idField = outbox.getClass().getSuperclass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(outbox, id);
+        Field createdAtField = BaseEntity.class.getDeclaredField("createdAt");
+        createdAtField.setAccessible(true);
+        createdAtField.set(outbox, LocalDateTime.now().minusSeconds(5));
+        return outbox;
+    }
+}
@@ -0,0 +1,75 @@
+package unicon.Achiva.domain.push;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unicon.Achiva.domain.push.dto.ExpoPushResponse;
+import unicon.Achiva.domain.push.entity.PushTicket;
+import unicon.Achiva.domain.push.infrastructure.PushTicketRepository;
+import unicon.Achiva.domain.push.infrastructure.PushTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PushReceiptServiceTest {
+
+    @Mock
+    private PushTicketRepository pushTicketRepository;
+
+    @Mock
+    private PushTokenRepository pushTokenRepository;
+
+    private PushReceiptService pushReceiptService;
+
+    @BeforeEach
+    void setUp() {
+        pushReceiptService = new PushReceiptService(pushTicketRepository, pushTokenRepository);
+    }
+
+    @Test
+    void applyReceiptsDeactivatesUnregisteredTokensAndKeepsPendingTickets() {
+        UUID deadTokenId = UUID.randomUUID();
+        PushTicket delivered = ticket("t-ok", UUID.randomUUID());
+        PushTicket unregistered = ticket("t-dead", deadTokenId);
+        PushTicket pending = ticket("t-pending", UUID.randomUUID());
+        when(pushTokenRepository.deactivateAllByIds(List.of(deadTokenId))).thenReturn(1);
+
+        PushReceiptService.ReceiptResult result = pushReceiptService.applyReceipts(
+                List.of(delivered, unregistered, pending),
+                Map.of(
+                        "t-ok", ExpoPushResponse.builder().status("ok").build(),
+                        "t-dead", ExpoPushResponse.builder().status("error").error("DeviceNotRegistered").build()
+                ));
+
+        assertThat(result.resolved()).isEqualTo(2);
+        assertThat(result.deactivated()).isEqualTo(1);
+        verify(pushTicketRepository).deleteAllByIdInBatch(List.of("t-ok", "t-dead"));
+    }
+
+    @Test
+    void applyReceiptsSkipsWritesWhenNoReceiptIsReady() {
+        PushReceiptService.ReceiptResult result = pushReceiptService.applyReceipts(
+                List.of(ticket("t-pending", UUID.randomUUID())), Map.of());
+
+        assertThat(result.resolved()).isZero();
+        verifyNoInteractions(pushTicketRepository, pushTokenRepository);
+    }
+
+    private static PushTicket ticket(String ticketId, UUID pushTokenId) {
+        return PushTicket.builder()
+                .ticketId(ticketId)
+                .pushTokenId(pushTokenId)
+                .sentAt(LocalDateTime.now().minusMinutes(30))
+                .build();
+    }
+}